@@ -0,0 +1,177 @@
+package com.knu.sosuso.capstone.ai.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.knu.sosuso.capstone.ai.dto.AIAnalysisResponse;
+import com.knu.sosuso.capstone.config.AIResultCacheProperties;
+import com.knu.sosuso.capstone.domain.AIAnalysisResult;
+import com.knu.sosuso.capstone.repository.AIAnalysisResultRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * AI 분석 결과 캐시 (댓글 묶음의 내용 해시 -> 분석 결과)
+ * 키는 (apiCommentId, 본문)을 ID 순으로 정렬해 모델 버전과 함께 해시한 값이라 댓글 순서나 영상과 무관하게 같은 입력이면 같은 키가 된다.
+ * 메모리(Caffeine)를 먼저 보고 없으면 DB를 조회하며, DB에 있으므로 재시작 후에도 유지된다.
+ */
+@Slf4j
+@Component
+public class AnalysisResultCache {
+
+    private final AIAnalysisResultRepository resultRepository;
+    private final AIResultCacheProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, AIAnalysisResponse> memory;
+
+    public AnalysisResultCache(AIAnalysisResultRepository resultRepository, AIResultCacheProperties properties,
+                               ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.resultRepository = resultRepository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.memory = Caffeine.newBuilder()
+                .maximumSize(properties.getMemoryMaximumSize())
+                // DB 보관 기간이 지나 삭제된 결과를 메모리에서 계속 돌려주지 않도록 같은 기간으로 만료
+                .expireAfterWrite(properties.getRetention())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, memory, "ai.analysis.result-cache.memory");
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 캐시 키 (모델 버전 + ID 순으로 정렬한 댓글의 SHA-256)
+     */
+    public String key(Map<String, String> comments) {
+        MessageDigest digest = sha256();
+        update(digest, properties.getModelVersion());
+        for (Map.Entry<String, String> comment : new TreeMap<>(comments).entrySet()) {
+            update(digest, comment.getKey());
+            update(digest, comment.getValue());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public Optional<AIAnalysisResponse> get(String key) {
+        AIAnalysisResponse cached = memory.getIfPresent(key);
+        if (cached != null) {
+            count("hit", "memory");
+            return Optional.of(cached);
+        }
+
+        Optional<AIAnalysisResponse> stored = resultRepository.findByContentHash(key)
+                .filter(result -> properties.getModelVersion().equals(result.getModelVersion()))
+                .flatMap(this::deserialize);
+        stored.ifPresent(response -> memory.put(key, response));
+        count(stored.isPresent() ? "hit" : "miss", stored.isPresent() ? "db" : "none");
+        return stored;
+    }
+
+    public void put(String key, String apiVideoId, int commentCount, AIAnalysisResponse response) {
+        memory.put(key, response);
+
+        try {
+            resultRepository.save(AIAnalysisResult.builder()
+                    .contentHash(key)
+                    .modelVersion(properties.getModelVersion())
+                    .apiVideoId(apiVideoId)
+                    .commentCount(commentCount)
+                    .responseJson(objectMapper.writeValueAsString(response))
+                    .build());
+            log.info("AI 분석 결과 캐시 저장: apiVideoId={}, 댓글 수={}, key={}", apiVideoId, commentCount, key);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 같은 결과를 먼저 저장함
+            log.debug("AI 분석 결과 이미 저장됨: key={}", key);
+        } catch (JsonProcessingException e) {
+            log.warn("AI 분석 결과 직렬화 실패: apiVideoId={}, error={}", apiVideoId, e.getMessage());
+        }
+    }
+
+    /**
+     * 모든 결과 삭제 (AI 모델을 버전 태그 변경 없이 교체했을 때, AnalysisResultCacheEndpoint로 호출)
+     */
+    public void invalidateAll() {
+        memory.invalidateAll();
+        resultRepository.deleteAllInBatch();
+        log.info("AI 분석 결과 캐시 전체 삭제");
+    }
+
+    /**
+     * 기동 시 현재 모델 버전이 아닌 결과 삭제
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void invalidateOtherVersions() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        int deleted = resultRepository.deleteByModelVersionNot(properties.getModelVersion());
+        if (deleted > 0) {
+            log.info("다른 모델 버전의 AI 분석 결과 삭제: modelVersion={}, 삭제={}", properties.getModelVersion(), deleted);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 결과 삭제
+     */
+    @Scheduled(fixedDelayString = "${ai.result-cache.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        int deleted = resultRepository.deleteByCreatedAtBefore(LocalDateTime.now().minus(properties.getRetention()));
+        if (deleted > 0) {
+            log.info("보관 기간이 지난 AI 분석 결과 삭제: 삭제={}", deleted);
+        }
+    }
+
+    private Optional<AIAnalysisResponse> deserialize(AIAnalysisResult result) {
+        try {
+            return Optional.of(objectMapper.readValue(result.getResponseJson(), AIAnalysisResponse.class));
+        } catch (JsonProcessingException e) {
+            log.warn("AI 분석 결과 역직렬화 실패, 캐시 미스로 처리: key={}, error={}", result.getContentHash(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void count(String result, String source) {
+        meterRegistry.counter("ai.analysis.result-cache", "result", result, "source", source).increment();
+    }
+
+    // 길이를 먼저 넣어 ("ab","c")와 ("a","bc")가 같은 해시가 되지 않게 함
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.knu.sosuso.capstone.ai.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 분석 결과 캐시 관리 (POST /actuator/airesultcache)
+ * 모델 버전 태그를 바꾸지 않고 AI 모델을 교체했을 때 재시작 없이 저장된 결과를 모두 지운다.
+ * 모든 요청이 인증 없이 열려 있으므로 기본으로는 노출하지 않고, 관리용 포트나 내부망에서만 management.endpoints.web.exposure에 추가한다.
+ */
+@Component
+@Endpoint(id = "airesultcache")
+@RequiredArgsConstructor
+public class AnalysisResultCacheEndpoint {
+
+    private final AnalysisResultCache analysisResultCache;
+
+    @WriteOperation
+    public void invalidateAll() {
+        analysisResultCache.invalidateAll();
+    }
+}
@@ -0,0 +1,207 @@
+package com.knu.sosuso.capstone.ai.queue;
+
+import com.knu.sosuso.capstone.config.AIWorkQueueProperties;
+import com.knu.sosuso.capstone.exception.BusinessException;
+import com.knu.sosuso.capstone.exception.error.DependencyError;
+import com.knu.sosuso.capstone.youtube.quota.QuotaContext;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * AI 서버 호출 대기열 (우선순위별 대기 + 전체 동시 호출 제한)
+ * 우선순위는 현재 스레드의 호출 경로(QuotaContext)로 정하고, 자리가 나면 높은 우선순위부터 먼저 온 순서로 실행한다.
+ * 대기 시간이 우선순위별 기한을 넘은 호출은 실행하지 않고 QUEUE_TIMEOUT으로 실패시키며,
+ * 대기 중인 호출이 maxQueued만큼 있으면 새 호출은 바로 QUEUE_FULL로 거절한다.
+ */
+@Slf4j
+@Component
+public class AIWorkQueue {
+
+    private static final String METRIC_PREFIX = "ai.queue";
+
+    private final AIWorkQueueProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<WorkLane, Deque<Waiter>> lanes = new EnumMap<>(WorkLane.class);
+    private int running;
+    private int queued;
+
+    public AIWorkQueue(AIWorkQueueProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        for (WorkLane lane : WorkLane.values()) {
+            lanes.put(lane, new ArrayDeque<>());
+            Gauge.builder(METRIC_PREFIX + ".depth", this, queue -> queue.depth(lane))
+                    .tag("lane", lane.name())
+                    .register(meterRegistry);
+        }
+        Gauge.builder(METRIC_PREFIX + ".running", this, AIWorkQueue::runningCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대기 중인 호출 (실행 허가를 받으면 admitted = true)
+     */
+    private static final class Waiter {
+        private final long deadlineNanos;
+        private final Condition admission;
+        private boolean admitted;
+
+        private Waiter(long deadlineNanos, Condition admission) {
+            this.deadlineNanos = deadlineNanos;
+            this.admission = admission;
+        }
+    }
+
+    /**
+     * 대기열을 거쳐 실행 (자리가 날 때까지 호출 스레드에서 대기)
+     */
+    public <T> T execute(Supplier<T> work) {
+        if (!properties.isEnabled()) {
+            return work.get();
+        }
+
+        WorkLane lane = WorkLane.from(QuotaContext.current());
+        admit(lane);
+        try {
+            return work.get();
+        } finally {
+            release();
+        }
+    }
+
+    private void admit(WorkLane lane) {
+        long enqueuedAt = System.nanoTime();
+
+        lock.lock();
+        try {
+            // 대기 중인 호출이 있으면 자리가 모두 찬 상태이므로 실행 중 수만 보면 됨
+            if (running < properties.getConcurrency()) {
+                running++;
+                recordWait(lane, "admitted", enqueuedAt);
+                return;
+            }
+
+            if (queued >= properties.getMaxQueued()) {
+                reject(lane, "full");
+                log.warn("AI 작업 대기열 가득 참, 요청 거절: lane={}, queued={}", lane, queued);
+                throw new BusinessException(DependencyError.QUEUE_FULL);
+            }
+
+            Waiter waiter = new Waiter(enqueuedAt + deadline(lane).toNanos(), lock.newCondition());
+            lanes.get(lane).addLast(waiter);
+            queued++;
+
+            try {
+                while (!waiter.admitted) {
+                    long remaining = waiter.deadlineNanos - System.nanoTime();
+                    if (remaining <= 0) {
+                        if (lanes.get(lane).remove(waiter)) {
+                            queued--;
+                        }
+                        recordWait(lane, "expired", enqueuedAt);
+                        reject(lane, "expired");
+                        log.warn("AI 작업 대기 시간 초과, 실행하지 않음: lane={}, deadline={}", lane, deadline(lane));
+                        throw new BusinessException(DependencyError.QUEUE_TIMEOUT);
+                    }
+                    waiter.admission.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (waiter.admitted) {
+                    // 허가를 받은 직후 중단되었으면 자리를 다음 호출에 넘김
+                    running--;
+                    dispatch();
+                } else if (lanes.get(lane).remove(waiter)) {
+                    queued--;
+                }
+                throw new BusinessException(DependencyError.QUEUE_TIMEOUT);
+            }
+
+            recordWait(lane, "admitted", enqueuedAt);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release() {
+        lock.lock();
+        try {
+            running--;
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 빈 자리를 높은 우선순위부터 넘김 (기한이 지난 호출은 건너뛰고 깨워서 스스로 실패하게 함)
+     */
+    private void dispatch() {
+        long now = System.nanoTime();
+        for (WorkLane lane : WorkLane.values()) {
+            Deque<Waiter> waiters = lanes.get(lane);
+            while (running < properties.getConcurrency() && !waiters.isEmpty()) {
+                Waiter waiter = waiters.pollFirst();
+                queued--;
+                if (waiter.deadlineNanos - now > 0) {
+                    running++;
+                    waiter.admitted = true;
+                }
+                waiter.admission.signal();
+            }
+        }
+    }
+
+    private Duration deadline(WorkLane lane) {
+        return switch (lane) {
+            case INTERACTIVE -> properties.getInteractiveDeadline();
+            case FEED -> properties.getFeedDeadline();
+            case BACKGROUND -> properties.getBackgroundDeadline();
+        };
+    }
+
+    private void recordWait(WorkLane lane, String outcome, long enqueuedAt) {
+        Timer.builder(METRIC_PREFIX + ".wait")
+                .tag("lane", lane.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private void reject(WorkLane lane, String reason) {
+        meterRegistry.counter(METRIC_PREFIX + ".rejected", "lane", lane.name(), "reason", reason).increment();
+    }
+
+    private int depth(WorkLane lane) {
+        lock.lock();
+        try {
+            return lanes.get(lane).size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int runningCount() {
+        lock.lock();
+        try {
+            return running;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
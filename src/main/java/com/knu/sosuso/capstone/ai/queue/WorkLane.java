@@ -0,0 +1,26 @@
+package com.knu.sosuso.capstone.ai.queue;
+
+import com.knu.sosuso.capstone.youtube.quota.QuotaCaller;
+
+/**
+ * AI 작업 대기열의 우선순위 (선언 순서가 높은 우선순위)
+ */
+public enum WorkLane {
+
+    // 사용자가 결과를 기다리는 요청 (상세 조회, 검색)
+    INTERACTIVE,
+
+    // 메인 페이지 인기 영상, 즐겨찾기 채널
+    FEED,
+
+    // 호출 경로가 지정되지 않은 백그라운드 작업
+    BACKGROUND;
+
+    public static WorkLane from(QuotaCaller caller) {
+        return switch (caller) {
+            case DETAIL, SEARCH -> INTERACTIVE;
+            case TRENDING, FAVORITES -> FEED;
+            case SYSTEM -> BACKGROUND;
+        };
+    }
+}
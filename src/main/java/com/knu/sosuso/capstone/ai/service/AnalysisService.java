@@ -2,46 +2,41 @@ package com.knu.sosuso.capstone.ai.service;
 
 import com.knu.sosuso.capstone.ai.dto.AIAnalysisRequest;
 import com.knu.sosuso.capstone.ai.dto.AIAnalysisResponse;
-import lombok.RequiredArgsConstructor;
+import com.knu.sosuso.capstone.ai.queue.AIWorkQueue;
+import com.knu.sosuso.capstone.config.PooledRestTemplateFactory;
+import com.knu.sosuso.capstone.exception.BusinessException;
+import com.knu.sosuso.capstone.resilience.CallPolicy;
+import com.knu.sosuso.capstone.resilience.OutboundGuard;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
-import javax.net.ssl.HttpsURLConnection;
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.X509TrustManager;
-import java.security.cert.X509Certificate;
-
 @Slf4j
-@RequiredArgsConstructor
 @Service
 public class AnalysisService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
     private static final String FASTAPI_URL = "https://9e81-35-224-42-74.ngrok-free.app/analyze";
 
-    static {
-        try {
-            TrustManager[] trustAllCerts = new TrustManager[]{
-                    new X509TrustManager() {
-                        public X509Certificate[] getAcceptedIssuers() { return null; }
-                        public void checkClientTrusted(X509Certificate[] certs, String authType) { }
-                        public void checkServerTrusted(X509Certificate[] certs, String authType) { }
-                    }
-            };
-            SSLContext sc = SSLContext.getInstance("TLS");
-            sc.init(null, trustAllCerts, new java.security.SecureRandom());
-            HttpsURLConnection.setDefaultSSLSocketFactory(sc.getSocketFactory());
-            HttpsURLConnection.setDefaultHostnameVerifier((hostname, session) -> true);
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+    private static final String GUARD_NAME = "ai-analysis";
+
+    private final RestTemplate restTemplate;
+    private final OutboundGuard outboundGuard;
+    private final AIWorkQueue aiWorkQueue;
+
+    public AnalysisService(PooledRestTemplateFactory restTemplateFactory, OutboundGuard outboundGuard,
+                           AIWorkQueue aiWorkQueue) {
+        this.restTemplate = restTemplateFactory.create("ai-analysis");
+        this.outboundGuard = outboundGuard;
+        this.aiWorkQueue = aiWorkQueue;
     }
 
     /**
      * AI에 분석 요청
+     * 비용이 큰 호출이라 재시도/헤지 없이 서킷 브레이커만 적용한다 (AI 서버 장애 시 즉시 실패).
+     * AI 서버 처리량이 작아 AIWorkQueue에서 호출 경로별 우선순위로 차례를 기다린 뒤 호출한다.
+     * 연결/HTTP 오류와 서킷 차단은 원래 예외 그대로 던져 호출 측에서 원인별로 처리할 수 있게 한다.
      * @param aiAnalysisRequest
      * @return
      */
@@ -53,11 +48,13 @@ public class AnalysisService {
 
         try {
             log.info("FastAPI로 AI 분석 결과 요청 중");
-            ResponseEntity<AIAnalysisResponse> aiAnalysisResponse = restTemplate.postForEntity(
-                    FASTAPI_URL,
-                    entity,
-                    AIAnalysisResponse.class
-            );
+            ResponseEntity<AIAnalysisResponse> aiAnalysisResponse = aiWorkQueue.execute(
+                    () -> outboundGuard.call(GUARD_NAME, CallPolicy.SINGLE,
+                            () -> restTemplate.postForEntity(
+                                    FASTAPI_URL,
+                                    entity,
+                                    AIAnalysisResponse.class
+                            )));
             log.info("FastAPI 응답 수신 상태: {}", aiAnalysisResponse.getStatusCode());
 
             if (aiAnalysisResponse.getStatusCode() == HttpStatus.OK && aiAnalysisResponse.getBody() != null) {
@@ -66,6 +63,9 @@ public class AnalysisService {
                 throw new RuntimeException("FastAPI request failed: " + aiAnalysisResponse.getStatusCode());
             }
 
+        } catch (BusinessException | RestClientException e) {
+            log.error("FastAPI 요청 실패: {}", e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("FastAPI 요청 중 예외 발생", e);
             throw new RuntimeException("FastAPI 호출 실패", e);
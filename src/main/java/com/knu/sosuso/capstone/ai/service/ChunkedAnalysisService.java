@@ -0,0 +1,260 @@
+package com.knu.sosuso.capstone.ai.service;
+
+import com.knu.sosuso.capstone.ai.cache.AnalysisResultCache;
+import com.knu.sosuso.capstone.ai.dto.AIAnalysisRequest;
+import com.knu.sosuso.capstone.ai.dto.AIAnalysisResponse;
+import com.knu.sosuso.capstone.config.AIAnalysisProperties;
+import com.knu.sosuso.capstone.domain.value.SentimentType;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * 댓글을 청크로 나눠 AI 서버에 병렬로 요청하고 결과를 하나로 합침
+ * 청크 구성과 병합 순서는 입력 댓글 순서만으로 정해지므로 같은 입력이면 같은 결과가 나온다.
+ * 일부 청크가 실패해도 성공한 청크만으로 결과를 만들고, 모두 실패하면 첫 번째 실패 원인을 그대로 던진다.
+ * 같은 댓글 묶음의 결과는 AnalysisResultCache에서 재사용하고, 동시에 들어온 같은 요청은 한 번만 AI 서버에 보낸다.
+ */
+@Slf4j
+@Service
+public class ChunkedAnalysisService {
+
+    private final AnalysisService analysisService;
+    private final AnalysisResultCache resultCache;
+    private final AIAnalysisProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Executor aiChunkExecutor;
+
+    // 진행 중인 분석 (캐시 키 -> 결과), 같은 입력은 먼저 온 요청의 결과를 기다림
+    private final ConcurrentMap<String, CompletableFuture<AIAnalysisResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public ChunkedAnalysisService(AnalysisService analysisService, AnalysisResultCache resultCache,
+                                  AIAnalysisProperties properties, MeterRegistry meterRegistry,
+                                  @Qualifier("aiChunkExecutor") Executor aiChunkExecutor) {
+        this.analysisService = analysisService;
+        this.resultCache = resultCache;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.aiChunkExecutor = aiChunkExecutor;
+    }
+
+    /**
+     * 청크 하나의 결과 (실패하면 response 대신 error)
+     */
+    private record ChunkResult(int size, AIAnalysisResponse response, RuntimeException error) {
+    }
+
+    /**
+     * 분석 결과 (일부 청크가 실패했으면 complete = false, 캐시하지 않음)
+     */
+    private record Outcome(AIAnalysisResponse response, boolean complete) {
+    }
+
+    /**
+     * AI 분석 요청 (캐시 -> 진행 중인 같은 요청 -> AI 서버 순)
+     *
+     * @param comments 분석할 댓글 (Map<apiCommentId, commentContent>, 순서대로 청크를 나눔)
+     */
+    public AIAnalysisResponse requestAnalysis(String apiVideoId, Map<String, String> comments) {
+        if (!resultCache.isEnabled()) {
+            return analyze(apiVideoId, comments).response();
+        }
+
+        String key = resultCache.key(comments);
+        Optional<AIAnalysisResponse> cached = resultCache.get(key);
+        if (cached.isPresent()) {
+            log.info("AI 분석 결과 캐시 사용: apiVideoId={}, 댓글 수={}", apiVideoId, comments.size());
+            return cached.get();
+        }
+
+        CompletableFuture<AIAnalysisResponse> future = new CompletableFuture<>();
+        CompletableFuture<AIAnalysisResponse> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            log.info("진행 중인 같은 AI 분석 결과 대기: apiVideoId={}", apiVideoId);
+            return await(existing);
+        }
+
+        try {
+            Outcome outcome = analyze(apiVideoId, comments);
+            if (outcome.complete()) {
+                resultCache.put(key, apiVideoId, comments.size(), outcome.response());
+            }
+            future.complete(outcome.response());
+            return outcome.response();
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    // 대기한 요청도 원래 예외 타입으로 실패하게 풀어서 던짐
+    private static AIAnalysisResponse await(CompletableFuture<AIAnalysisResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * AI 서버 호출 (댓글 수가 청크 크기 이하이거나 청크 모드가 꺼져 있으면 한 번에 요청)
+     */
+    private Outcome analyze(String apiVideoId, Map<String, String> comments) {
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        if (!properties.isChunked() || comments.size() <= chunkSize) {
+            return new Outcome(analysisService.requestAnalysis(new AIAnalysisRequest(apiVideoId, comments)), true);
+        }
+
+        List<Map<String, String>> chunks = split(comments, chunkSize);
+        ChunkResult[] results = new ChunkResult[chunks.size()];
+
+        // 분석 한 건당 동시성: 워커 수만큼만 작업을 띄우고 워커가 청크 큐를 나눠 처리
+        Queue<Integer> pending = new ConcurrentLinkedQueue<>(IntStream.range(0, chunks.size()).boxed().toList());
+        int workerCount = Math.min(Math.max(1, properties.getChunkConcurrency()), chunks.size());
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(CompletableFuture.runAsync(
+                    () -> drainChunks(apiVideoId, chunks, pending, results), aiChunkExecutor));
+        }
+        CompletableFuture.allOf(workers.toArray(CompletableFuture[]::new)).join();
+
+        List<ChunkResult> succeeded = new ArrayList<>();
+        RuntimeException firstError = null;
+        for (ChunkResult result : results) {
+            if (result.response() != null) {
+                succeeded.add(result);
+            } else if (firstError == null) {
+                firstError = result.error();
+            }
+        }
+
+        log.info("AI 청크 분석 완료: apiVideoId={}, 청크 수={}, 성공={}, 댓글 수={}",
+                apiVideoId, chunks.size(), succeeded.size(), comments.size());
+
+        if (succeeded.isEmpty()) {
+            throw firstError;
+        }
+        if (succeeded.size() < results.length) {
+            log.warn("일부 청크 실패, 성공한 청크로만 결과 생성: apiVideoId={}, 실패={}",
+                    apiVideoId, results.length - succeeded.size());
+        }
+        return new Outcome(merge(apiVideoId, succeeded), succeeded.size() == results.length);
+    }
+
+    private void drainChunks(String apiVideoId, List<Map<String, String>> chunks, Queue<Integer> pending,
+                             ChunkResult[] results) {
+        Integer index;
+        while ((index = pending.poll()) != null) {
+            Map<String, String> chunk = chunks.get(index);
+            try {
+                AIAnalysisResponse response = analysisService.requestAnalysis(new AIAnalysisRequest(apiVideoId, chunk));
+                results[index] = new ChunkResult(chunk.size(), response, null);
+                meterRegistry.counter("ai.analysis.chunks", "result", "success").increment();
+            } catch (RuntimeException e) {
+                log.warn("AI 청크 분석 실패: apiVideoId={}, chunk={}, error={}", apiVideoId, index, e.getMessage());
+                results[index] = new ChunkResult(chunk.size(), null, e);
+                meterRegistry.counter("ai.analysis.chunks", "result", "failure").increment();
+            }
+        }
+    }
+
+    private static List<Map<String, String>> split(Map<String, String> comments, int chunkSize) {
+        List<Map<String, String>> chunks = new ArrayList<>();
+        Map<String, String> current = new LinkedHashMap<>();
+        for (Map.Entry<String, String> comment : comments.entrySet()) {
+            current.put(comment.getKey(), comment.getValue());
+            if (current.size() == chunkSize) {
+                chunks.add(current);
+                current = new LinkedHashMap<>();
+            }
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    /**
+     * 청크 결과 병합
+     * 비율은 청크 댓글 수로 가중 평균하고, 키워드는 등장한 청크의 댓글 수 합이 큰 순서 (같으면 먼저 나온 순서)로 고른다.
+     * 요약은 다시 요약할 수 없으므로 가장 큰 청크의 요약을 쓴다.
+     */
+    private static AIAnalysisResponse merge(String apiVideoId, List<ChunkResult> chunks) {
+        Map<String, SentimentType> sentimentComments = new LinkedHashMap<>();
+        Map<String, Long> keywordWeights = new LinkedHashMap<>();
+        int keywordLimit = 0;
+        boolean isWarning = false;
+        ChunkResult largest = chunks.get(0);
+
+        for (ChunkResult chunk : chunks) {
+            AIAnalysisResponse response = chunk.response();
+            if (response.sentimentComments() != null) {
+                sentimentComments.putAll(response.sentimentComments());
+            }
+            if (response.keywords() != null) {
+                keywordLimit = Math.max(keywordLimit, response.keywords().size());
+                for (String keyword : response.keywords()) {
+                    keywordWeights.merge(keyword, (long) chunk.size(), Long::sum);
+                }
+            }
+            isWarning |= response.isWarning();
+            if (chunk.size() > largest.size()) {
+                largest = chunk;
+            }
+        }
+
+        List<String> keywords = keywordWeights.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(keywordLimit)
+                .map(Map.Entry::getKey)
+                .toList();
+
+        return new AIAnalysisResponse(
+                null, apiVideoId, largest.response().summation(), isWarning, keywords, sentimentComments,
+                weightedRatio(chunks, AIAnalysisResponse::languageRatio),
+                weightedRatio(chunks, AIAnalysisResponse::sentimentRatio)
+        );
+    }
+
+    private static Map<String, Double> weightedRatio(List<ChunkResult> chunks,
+                                                     Function<AIAnalysisResponse, Map<String, Double>> ratio) {
+        Map<String, Double> weighted = new LinkedHashMap<>();
+        long totalWeight = 0;
+        for (ChunkResult chunk : chunks) {
+            Map<String, Double> chunkRatio = ratio.apply(chunk.response());
+            if (chunkRatio == null || chunkRatio.isEmpty()) {
+                continue;
+            }
+            totalWeight += chunk.size();
+            chunkRatio.forEach((key, value) -> weighted.merge(key, value * chunk.size(), Double::sum));
+        }
+
+        if (totalWeight > 0) {
+            long total = totalWeight;
+            weighted.replaceAll((key, value) -> value / total);
+        }
+        return weighted;
+    }
+}
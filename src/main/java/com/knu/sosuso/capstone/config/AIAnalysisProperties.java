@@ -0,0 +1,45 @@
+package com.knu.sosuso.capstone.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * AI 분석 실행 설정
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai.analysis")
+public class AIAnalysisProperties {
+
+    // true면 상세 응답을 먼저 돌려주고 AI 분석은 백그라운드에서 수행
+    private boolean async = true;
+
+    // 동시에 진행하는 분석 작업 수 (실제 AI 서버 동시 호출은 ai.work-queue.concurrency가 제한)
+    private int workerThreads = 8;
+
+    // 대기 가능한 분석 작업 수 (넘으면 FAILED로 기록하고 다음 요청 때 다시 시도)
+    private int queueCapacity = 100;
+
+    // SSE 구독 유지 시간
+    private Duration sseTimeout = Duration.ofMinutes(2);
+
+    // true면 댓글을 청크로 나눠 병렬로 분석한 뒤 병합
+    private boolean chunked = true;
+
+    // 청크 하나에 담는 댓글 수 (이 수 이하면 나누지 않음)
+    private int chunkSize = 200;
+
+    // 분석 한 건당 동시에 보내는 청크 요청 수
+    private int chunkConcurrency = 2;
+
+    // true면 이미 감정 분석된 댓글은 저장된 결과를 쓰고 새 댓글만 AI에 보냄
+    private boolean reuseSentiments = true;
+
+    // 새 댓글 비율이 이 값을 넘으면 요약/키워드까지 새로 만들도록 전체를 다시 분석
+    private double maxReuseChurn = 0.5;
+}
@@ -0,0 +1,29 @@
+package com.knu.sosuso.capstone.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * AI 분석 결과 캐시 설정 (같은 댓글 묶음이면 AI 서버를 다시 호출하지 않음)
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai.result-cache")
+public class AIResultCacheProperties {
+
+    private boolean enabled = true;
+
+    // AI 모델/버전 태그 (바꾸면 기동 시 다른 버전의 결과를 모두 삭제)
+    private String modelVersion = "v1";
+
+    // 메모리에 함께 들고 있는 결과 수 (나머지는 DB에서 조회)
+    private long memoryMaximumSize = 500;
+
+    // DB에 보관하는 기간
+    private Duration retention = Duration.ofDays(30);
+}
@@ -0,0 +1,33 @@
+package com.knu.sosuso.capstone.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * AI 서버 호출 대기열 설정
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai.work-queue")
+public class AIWorkQueueProperties {
+
+    private boolean enabled = true;
+
+    // AI 서버 동시 호출 수 (ai-analysis 연결 수 이하로)
+    private int concurrency = 4;
+
+    // 전체 대기 가능 호출 수 (넘으면 바로 거절)
+    private int maxQueued = 50;
+
+    // 우선순위별 최대 대기 시간 (넘으면 실행하지 않고 버림)
+    private Duration interactiveDeadline = Duration.ofSeconds(20);
+
+    private Duration feedDeadline = Duration.ofMinutes(1);
+
+    private Duration backgroundDeadline = Duration.ofMinutes(5);
+}
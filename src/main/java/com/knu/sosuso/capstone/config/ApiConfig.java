@@ -5,6 +5,11 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 @Component
 @Getter
 @Setter
@@ -13,4 +18,26 @@ public class ApiConfig {
 
     private String key;
 
+    // 키 풀 (키마다 별도 프로젝트의 일일 할당량을 가짐). 비어 있으면 key 하나만 사용
+    private List<String> keys = new ArrayList<>();
+
+    // youtube-stub 프로필 등에서 녹화 응답 서버로 바꿀 수 있다.
+    private String baseUrl = "https://www.googleapis.com/youtube/v3";
+
+
+    /**
+     * 사용할 전체 키 (keys 우선, 없으면 key)
+     */
+    public List<String> allKeys() {
+        Set<String> allKeys = new LinkedHashSet<>();
+        for (String candidate : keys) {
+            if (candidate != null && !candidate.isBlank()) {
+                allKeys.add(candidate.trim());
+            }
+        }
+        if (allKeys.isEmpty() && key != null && !key.isBlank()) {
+            allKeys.add(key.trim());
+        }
+        return List.copyOf(allKeys);
+    }
 }
@@ -0,0 +1,27 @@
+package com.knu.sosuso.capstone.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 채널 메타데이터 캐시 설정
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "youtube.channel-cache")
+public class ChannelCacheProperties {
+
+    // 캐시 항목 유지 시간 (구독자 수가 이 주기로 갱신됨)
+    private Duration ttl = Duration.ofHours(6);
+
+    // 최대 캐시 채널 수
+    private long maximumSize = 10_000;
+
+    // 동시 미스를 한 번의 channels.list로 묶기 위해 기다리는 시간
+    private Duration batchLinger = Duration.ofMillis(20);
+}
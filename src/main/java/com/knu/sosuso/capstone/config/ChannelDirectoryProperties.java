@@ -0,0 +1,32 @@
+package com.knu.sosuso.capstone.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 채널 디렉터리 설정
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "youtube.channel-directory")
+public class ChannelDirectoryProperties {
+
+    // 채널 검색 시 디렉터리를 먼저 보고, 부족할 때만 search.list 호출
+    private boolean localFirst = true;
+
+    // search.list를 생략하는 데 필요한 좋은 일치(이름/핸들/단어 접두어) 수
+    private int minLocalMatches = 5;
+
+    // 디렉터리만으로 응답할 때 최대 채널 수
+    private int maxLocalResults = 25;
+
+    // 자동완성 기본 / 최대 결과 수
+    private int autocompleteLimit = 10;
+    private int autocompleteMaxLimit = 30;
+
+    // 새로 본 채널을 DB에 반영하는 주기
+    private long flushIntervalMs = 10_000;
+}
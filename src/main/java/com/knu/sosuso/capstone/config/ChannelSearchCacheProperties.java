@@ -0,0 +1,24 @@
+package com.knu.sosuso.capstone.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 채널 검색 결과 캐시 설정
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "youtube.channel-search-cache")
+public class ChannelSearchCacheProperties {
+
+    // 검색어별 결과 유지 시간
+    private Duration ttl = Duration.ofHours(1);
+
+    // 최대 캐시 검색어 수
+    private long maximumSize = 5_000;
+}
@@ -0,0 +1,34 @@
+package com.knu.sosuso.capstone.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 답글 수집 설정
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "youtube.comment-replies")
+public class CommentReplyProperties {
+
+    // 답글 수집 여부
+    private boolean enabled = false;
+
+    // 답글 수가 이 값 이상인 스레드만 답글 수집
+    private int minReplyCount = 5;
+
+    // 스레드 하나에서 수집할 최대 답글 수
+    private int maxRepliesPerThread = 100;
+
+    // 비디오 하나에서 수집할 최대 답글 수
+    private int maxRepliesPerVideo = 300;
+
+    // 비디오 하나에서 동시에 조회하는 스레드 수
+    private int perVideoConcurrency = 4;
+
+    // 전체 비디오에 걸쳐 동시에 나가는 답글 요청 수
+    private int globalConcurrency = 16;
+}
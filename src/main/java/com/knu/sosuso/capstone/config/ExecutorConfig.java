@@ -0,0 +1,130 @@
+package com.knu.sosuso.capstone.config;
+
+import com.knu.sosuso.capstone.youtube.quota.QuotaContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 백그라운드 작업용 스레드 풀
+ * 주입 시 @Qualifier("빈 이름")으로 구분한다.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * 댓글 페이지 선요청용 (페이지 N을 읽는 동안 N+1 요청)
+     * 풀이 가득 차면 호출 스레드에서 실행하므로 순차 수집으로 자연스럽게 돌아간다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor commentFetchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(32);
+        executor.setQueueCapacity(64);
+        executor.setThreadNamePrefix("comment-fetch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(QuotaContext::wrap);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    /**
+     * 답글 스레드 병렬 조회용
+     * 동시 요청 수는 CommentReplyService의 비디오당/전체 제한이 결정하고, 풀은 그 상한만큼 둔다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor replyFetchExecutor(CommentReplyProperties replyProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(replyProperties.getGlobalConcurrency());
+        executor.setMaxPoolSize(replyProperties.getGlobalConcurrency());
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("reply-fetch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(QuotaContext::wrap);
+        return executor;
+    }
+
+    /**
+     * 여러 채널의 최신 영상 조회 등 채널 단위 병렬 조회용
+     */
+    @Bean
+    public ThreadPoolTaskExecutor channelLookupExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("channel-lookup-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(QuotaContext::wrap);
+        return executor;
+    }
+
+    /**
+     * 헤지 요청용 (첫 요청과 헤지 요청을 비동기로 띄우고 먼저 끝난 쪽을 씀)
+     * 큐를 두지 않아 풀이 가득 차면 호출 스레드에서 바로 실행되고, 그 경우 헤지 없이 일반 호출이 된다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor outboundHedgeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(16);
+        executor.setMaxPoolSize(64);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("outbound-hedge-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(QuotaContext::wrap);
+        return executor;
+    }
+
+    /**
+     * 백그라운드 AI 분석용
+     * 상세 응답을 막지 않는 것이 목적이므로 풀이 가득 차면 호출 스레드에서 실행하지 않고 거절한다.
+     * 호출 경로를 넘겨야 AIWorkQueue가 요청한 화면의 우선순위로 줄을 세운다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor aiAnalysisExecutor(AIAnalysisProperties analysisProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(analysisProperties.getWorkerThreads());
+        executor.setMaxPoolSize(analysisProperties.getWorkerThreads());
+        executor.setQueueCapacity(analysisProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("ai-analysis-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setTaskDecorator(QuotaContext::wrap);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * AI 청크 분석 요청용
+     * 분석 한 건당 동시성은 ChunkedAnalysisService가 제한하고, 풀은 전체 분석 작업이 동시에 돌 때의 상한만큼 둔다.
+     * 풀이 가득 차면 호출 스레드에서 실행하므로 순차 요청으로 돌아간다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor aiChunkExecutor(AIAnalysisProperties analysisProperties) {
+        int maxPoolSize = analysisProperties.getWorkerThreads() * Math.max(1, analysisProperties.getChunkConcurrency());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxPoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("ai-chunk-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(QuotaContext::wrap);
+        return executor;
+    }
+
+    /**
+     * 채널 메타데이터 캐시 미스를 모아서 보내는 배치 트리거용
+     */
+    @Bean
+    public ThreadPoolTaskScheduler channelBatchScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(4);
+        scheduler.setThreadNamePrefix("channel-batch-");
+        return scheduler;
+    }
+}
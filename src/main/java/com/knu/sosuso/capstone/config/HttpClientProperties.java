@@ -0,0 +1,50 @@
+package com.knu.sosuso.capstone.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 외부 HTTP 클라이언트 설정 (의존 대상별)
+ * 예) http-client.clients.youtube-comments.read-timeout=10s
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "http-client")
+public class HttpClientProperties {
+
+    private Map<String, Client> clients = new HashMap<>();
+
+    public Client get(String clientName) {
+        return clients.getOrDefault(clientName, new Client());
+    }
+
+    @Getter
+    @Setter
+    public static class Client {
+
+        // TCP 연결 수립 제한 시간
+        private Duration connectTimeout = Duration.ofSeconds(2);
+
+        // 응답 대기(소켓 읽기) 제한 시간
+        private Duration readTimeout = Duration.ofSeconds(10);
+
+        // 커넥션 풀에서 연결을 빌려오기까지의 제한 시간
+        private Duration poolAcquireTimeout = Duration.ofSeconds(2);
+
+        // 호스트별 최대 연결 수
+        private int maxConnections = 20;
+
+        // 유휴 연결 유지 시간 (keep-alive)
+        private Duration keepAlive = Duration.ofSeconds(30);
+
+        // 연결 최대 수명
+        private Duration connectionTimeToLive = Duration.ofMinutes(5);
+    }
+}
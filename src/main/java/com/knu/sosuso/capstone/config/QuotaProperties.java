@@ -0,0 +1,41 @@
+package com.knu.sosuso.capstone.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * YouTube Data API 할당량 설정
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "youtube.quota")
+public class QuotaProperties {
+
+    // 일일 할당량 (YouTube 기본값 10,000)
+    private long dailyLimit = 10_000;
+
+    // 사용 비율이 이 값 이상이면 1일 지난 데이터도 DB 데이터로 응답
+    private double serveStaleRatio = 0.7;
+
+    // 사용 비율이 이 값 이상이면 댓글 수집 생략
+    private double skipCommentRefreshRatio = 0.85;
+
+    // 사용 비율이 이 값 이상이면 채널 검색 거부
+    private double rejectChannelSearchRatio = 0.95;
+
+    // LOCAL: 단일 노드용. 기동 / 날짜 변경 때 DB 일일 합계를 한 번 읽고 이후에는 이 노드의 사용량만 더함 (재시작해도 오늘 사용량 유지)
+    //        여러 노드에서 쓰면 다른 노드의 이후 사용량이 빠져 단계 판단이 틀어지므로 SHARED를 쓴다.
+    // SHARED: flush 때마다 DB 합계를 다시 읽어 여러 노드가 하나의 할당량을 공유
+    private Mode mode = Mode.LOCAL;
+
+    // YouTube 할당량이 초기화되는 기준 시간대 (태평양 시간 자정)
+    private String resetZone = "America/Los_Angeles";
+
+    public enum Mode {
+        LOCAL,
+        SHARED
+    }
+}
@@ -0,0 +1,39 @@
+package com.knu.sosuso.capstone.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 외부 호출(YouTube, AI 서버) 장애 대응 설정
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "resilience")
+public class ResilienceProperties {
+
+    // 서킷 브레이커: 최근 windowSize개 호출 중 실패 비율이 임계치 이상이면 openDuration 동안 즉시 실패
+    private int windowSize = 20;
+    private int minimumCalls = 10;
+    private int failureRateThreshold = 50;
+    private Duration openDuration = Duration.ofSeconds(30);
+    private int halfOpenCalls = 3;
+
+    // 재시도: 멱등 GET만, 지수 백오프 + full jitter
+    private int maxRetries = 2;
+    private Duration retryBaseBackoff = Duration.ofMillis(100);
+    private Duration retryMaxBackoff = Duration.ofSeconds(1);
+
+    // 재시도 예산: 요청 1건당 retryBudgetRatio만큼 적립, 재시도/헤지 1건당 1 차감
+    private double retryBudgetRatio = 0.1;
+    private int retryBudgetMinPerSecond = 5;
+
+    // 헤지 요청: 응답이 p95 지연(최소 hedgeMinDelay)을 넘기면 같은 요청을 한 번 더 보냄
+    private boolean hedgeEnabled = true;
+    private Duration hedgeMinDelay = Duration.ofMillis(50);
+    private int hedgeMinSamples = 20;
+}
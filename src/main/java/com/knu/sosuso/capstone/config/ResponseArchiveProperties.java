@@ -0,0 +1,40 @@
+package com.knu.sosuso.capstone.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.zip.Deflater;
+
+/**
+ * YouTube 원본 응답 보관 설정
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "youtube.archive")
+public class ResponseArchiveProperties {
+
+    private boolean enabled = false;
+
+    // 세그먼트 파일 디렉터리 ({dir}/segment-00000001.ytar)
+    private String dir = "archive/youtube";
+
+    // 세그먼트 하나의 최대 크기 (가득 차면 새 세그먼트로 넘어감)
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    // 보관 기간 (마지막 기록이 이보다 오래된 세그먼트는 삭제)
+    private Duration retention = Duration.ofDays(30);
+
+    // 전체 보관 용량 상한 (넘으면 오래된 세그먼트부터 삭제)
+    private DataSize maxTotalSize = DataSize.ofGigabytes(4);
+
+    // Deflate 압축 수준 (1: 빠름 ~ 9: 작음)
+    private int compressionLevel = Deflater.BEST_SPEED;
+
+    // 할당량을 모두 쓰면 보관된 응답으로 대신 응답
+    private boolean fallbackOnQuotaExhausted = true;
+}
@@ -0,0 +1,30 @@
+package com.knu.sosuso.capstone.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 존재하지 않거나 접근할 수 없는 영상 캐시 설정
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "youtube.negative-cache")
+public class VideoNegativeCacheProperties {
+
+    // 삭제되었거나 ID가 잘못된 영상 (다시 생길 일이 거의 없음)
+    private Duration notFoundTtl = Duration.ofHours(6);
+
+    // 접근 금지 영상 (공개 설정이 바뀔 수 있어 짧게)
+    private Duration forbiddenTtl = Duration.ofHours(1);
+
+    // 댓글이 비활성화된 영상
+    private Duration commentsDisabledTtl = Duration.ofMinutes(30);
+
+    // 최대 캐시 영상 수
+    private long maximumSize = 10_000;
+}
@@ -0,0 +1,32 @@
+package com.knu.sosuso.capstone.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 저장된 비디오 데이터 갱신 설정
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "video.refresh")
+public class VideoRefreshProperties {
+
+    // 이 시간이 지나면 만료로 보고 YouTube에서 다시 확인
+    private Duration ttl = Duration.ofDays(1);
+
+    // 만료 시 댓글 수 변화가 이 값 이하이면 댓글/AI 결과는 유지하고 통계만 갱신
+    private long commentCountDelta = 5;
+
+    // 댓글 수가 변했을 때 갱신 방식
+    private Mode mode = Mode.INCREMENTAL;
+
+    public enum Mode {
+        INCREMENTAL,    // 최신순으로 새 댓글만 받아 기존 댓글에 병합
+        REPLACE         // 관련도순으로 다시 수집해 전체 교체
+    }
+}
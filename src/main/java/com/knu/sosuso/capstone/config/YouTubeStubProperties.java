@@ -0,0 +1,37 @@
+package com.knu.sosuso.capstone.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * YouTube 응답 녹화/재생 설정
+ * record=true면 실제 API 응답을 fixtureDir에 저장하고, youtube-stub 프로필에서는 저장된 응답을 재생한다.
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "youtube.stub")
+public class YouTubeStubProperties {
+
+    // 녹화/재생 응답 디렉터리 ({fixtureDir}/{endpoint}/{요청 해시}.json)
+    private String fixtureDir = "fixtures/youtube";
+
+    // 실제 API 응답 녹화 여부
+    private boolean record = false;
+
+    // 응답 지연 (로그정규분포, 중앙값과 p99로 지정)
+    private Duration latencyMedian = Duration.ofMillis(80);
+    private Duration latencyP99 = Duration.ofMillis(400);
+
+    // 오류 주입 비율 (0.0 ~ 1.0)
+    private double commentsDisabledRate = 0.0;
+    private double notFoundRate = 0.0;
+    private double serverErrorRate = 0.0;
+
+    // 시뮬레이션할 일일 할당량 (초과 시 403 quotaExceeded)
+    private long dailyQuota = 10_000;
+}
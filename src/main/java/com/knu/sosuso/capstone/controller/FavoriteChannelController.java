@@ -4,6 +4,7 @@ import com.knu.sosuso.capstone.dto.ResponseDto;
 import com.knu.sosuso.capstone.dto.request.RegisterFavoriteChannelRequest;
 import com.knu.sosuso.capstone.dto.response.favorite_channel.CancelFavoriteChannelResponse;
 import com.knu.sosuso.capstone.dto.response.favorite_channel.FavoriteChannelListResponse;
+import com.knu.sosuso.capstone.dto.response.favorite_channel.FavoriteLatestVideoResponse;
 import com.knu.sosuso.capstone.dto.response.favorite_channel.FavoriteVideoInfoResponse;
 import com.knu.sosuso.capstone.dto.response.favorite_channel.RegisterFavoriteChannelResponse;
 import com.knu.sosuso.capstone.service.FavoriteChannelService;
@@ -47,6 +48,14 @@ public class FavoriteChannelController implements FavoriteChannelControllerSwagg
         return ResponseDto.of(cancelFavoriteChannelResponse, "successfully canceled the favorite channel.");
     }
 
+    @GetMapping("latest-videos")
+    public ResponseDto<List<FavoriteLatestVideoResponse>> favoriteChannelLatestVideos(
+            @CookieValue("Authorization") String token
+    ) {
+        List<FavoriteLatestVideoResponse> favoriteLatestVideoResponses = favoriteChannelService.getLatestVideosOfFavoriteChannels(token);
+        return ResponseDto.of(favoriteLatestVideoResponses, "successfully retrieved the latest videos of your favorite channels.");
+    }
+
     @GetMapping("{apiChannelId}")
     public ResponseDto<FavoriteVideoInfoResponse> favoriteChannelVideo(
             @CookieValue("Authorization") String token,
@@ -1,7 +1,9 @@
 package com.knu.sosuso.capstone.controller;
 
 import com.knu.sosuso.capstone.dto.ResponseDto;
+import com.knu.sosuso.capstone.dto.response.search.ChannelAutocompleteResponse;
 import com.knu.sosuso.capstone.dto.response.search.SearchApiResponse;
+import com.knu.sosuso.capstone.exception.BusinessException;
 import com.knu.sosuso.capstone.service.SearchService;
 import com.knu.sosuso.capstone.swagger.SearchControllerSwagger;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +25,8 @@ public class SearchController implements SearchControllerSwagger {
             SearchApiResponse<?> searchResult = searchService.search(token, query);
             ResponseDto<SearchApiResponse<?>> response = ResponseDto.of(searchResult, "검색이 완료되었습니다.");
             return ResponseEntity.ok(response);
+        } catch (BusinessException e) {
+            throw e;
         } catch (IllegalArgumentException e) {
             ResponseDto<SearchApiResponse<?>> errorResponse = ResponseDto.of("잘못된 요청: " + e.getMessage());
             return ResponseEntity.badRequest().body(errorResponse);
@@ -31,4 +35,16 @@ public class SearchController implements SearchControllerSwagger {
             return ResponseEntity.internalServerError().body(errorResponse);
         }
     }
-}
\ No newline at end of file
+
+    @GetMapping("/channels/autocomplete")
+    public ResponseEntity<ResponseDto<ChannelAutocompleteResponse>> autocompleteChannels(@RequestParam String query,
+                                                                                         @RequestParam(required = false) Integer limit) {
+        try {
+            ChannelAutocompleteResponse result = searchService.autocompleteChannels(query, limit);
+            return ResponseEntity.ok(ResponseDto.of(result, "채널 자동완성 조회가 완료되었습니다."));
+        } catch (IllegalArgumentException e) {
+            ResponseDto<ChannelAutocompleteResponse> errorResponse = ResponseDto.of("잘못된 요청: " + e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package com.knu.sosuso.capstone.controller;
 
 import com.knu.sosuso.capstone.dto.ResponseDto;
+import com.knu.sosuso.capstone.dto.response.detail.AnalysisStatusResponse;
 import com.knu.sosuso.capstone.dto.response.detail.DetailPageResponse;
+import com.knu.sosuso.capstone.service.AIAnalysisJobService;
 import com.knu.sosuso.capstone.service.VideoProcessingService;
+import com.knu.sosuso.capstone.youtube.quota.QuotaCaller;
+import com.knu.sosuso.capstone.youtube.quota.QuotaContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
@@ -15,12 +21,13 @@ import org.springframework.web.bind.annotation.*;
 public class VideoDetailController {
 
     private final VideoProcessingService videoProcessingService;
+    private final AIAnalysisJobService aiAnalysisJobService;
 
     @GetMapping("/{apiVideoId}")
     public ResponseEntity<ResponseDto<DetailPageResponse>> getVideoDetail(
             @CookieValue(value = "Authorization", required = false) String token,
             @PathVariable String apiVideoId) {
-        try {
+        try (QuotaContext.Scope ignored = QuotaContext.open(QuotaCaller.DETAIL)) {
             log.info("비디오 상세 정보 요청: apiVideoId={}", apiVideoId);
 
             DetailPageResponse result = videoProcessingService.processVideoToSearchResult(token, apiVideoId, true);
@@ -38,4 +45,29 @@ public class VideoDetailController {
                     .body(ResponseDto.of("비디오 상세 정보 조회 중 오류가 발생했습니다."));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * AI 분석 상태 조회 (상세 응답의 analysisStatus가 PENDING / RUNNING일 때 폴링)
+     */
+    @GetMapping("/{apiVideoId}/analysis")
+    public ResponseEntity<ResponseDto<AnalysisStatusResponse>> getAnalysisStatus(@PathVariable String apiVideoId) {
+        try {
+            AnalysisStatusResponse result = aiAnalysisJobService.getStatus(apiVideoId);
+            return ResponseEntity.ok(ResponseDto.of(result, "AI 분석 상태 조회 성공"));
+
+        } catch (Exception e) {
+            log.error("AI 분석 상태 조회 실패: apiVideoId={}, error={}", apiVideoId, e.getMessage(), e);
+            return ResponseEntity.internalServerError()
+                    .body(ResponseDto.of("AI 분석 상태 조회 중 오류가 발생했습니다."));
+        }
+    }
+
+    /**
+     * AI 분석 결과 구독 (SSE, "analysis" 이벤트로 현재 상태를 보낸 뒤 분석이 끝나면 결과를 보내고 종료)
+     */
+    @GetMapping(value = "/{apiVideoId}/analysis/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAnalysis(@PathVariable String apiVideoId) {
+        log.info("AI 분석 결과 구독: apiVideoId={}", apiVideoId);
+        return aiAnalysisJobService.subscribe(apiVideoId);
+    }
+}
@@ -0,0 +1,47 @@
+package com.knu.sosuso.capstone.domain;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * AI 분석 결과 캐시 (댓글 묶음 + 모델 버전의 해시 -> 분석 결과 JSON)
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "ai_analysis_result",
+        uniqueConstraints = @UniqueConstraint(name = "uk_ai_analysis_result_content_hash", columnNames = "content_hash"),
+        indexes = @Index(name = "idx_ai_analysis_result_model_version", columnList = "model_version"))
+public class AIAnalysisResult extends BaseEntity {
+
+    // SHA-256 (hex)
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "model_version", nullable = false)
+    private String modelVersion;
+
+    // 처음 분석한 영상 (조회에는 쓰지 않음)
+    @Column(name = "api_video_id")
+    private String apiVideoId;
+
+    @Column(name = "comment_count")
+    private int commentCount;
+
+    @Column(name = "response_json", nullable = false, columnDefinition = "LONGTEXT")
+    private String responseJson;
+
+    @Builder
+    public AIAnalysisResult(String contentHash, String modelVersion, String apiVideoId, int commentCount,
+                            String responseJson) {
+        this.contentHash = contentHash;
+        this.modelVersion = modelVersion;
+        this.apiVideoId = apiVideoId;
+        this.commentCount = commentCount;
+        this.responseJson = responseJson;
+    }
+}
@@ -0,0 +1,53 @@
+package com.knu.sosuso.capstone.domain;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 로컬 채널 디렉터리 (channels.list로 본 채널을 저장해 두고 자동완성/채널 검색에 재사용)
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "channel_directory",
+        uniqueConstraints = @UniqueConstraint(name = "uk_channel_directory_api_channel_id", columnNames = "api_channel_id"))
+public class ChannelDirectoryEntry extends BaseEntity {
+
+    @Column(name = "api_channel_id", nullable = false)
+    private String apiChannelId;
+
+    @Column(name = "title")
+    private String title;
+
+    // 채널 핸들 (@handle)
+    @Column(name = "custom_url")
+    private String customUrl;
+
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
+
+    @Column(name = "subscriber_count")
+    private long subscriberCount;
+
+    @Column(name = "uploads_playlist_id")
+    private String uploadsPlaylistId;
+
+    @Builder
+    public ChannelDirectoryEntry(String apiChannelId, String title, String customUrl, String description,
+                                 String thumbnailUrl, long subscriberCount, String uploadsPlaylistId) {
+        this.apiChannelId = apiChannelId;
+        this.title = title;
+        this.customUrl = customUrl;
+        this.description = description;
+        this.thumbnailUrl = thumbnailUrl;
+        this.subscriberCount = subscriberCount;
+        this.uploadsPlaylistId = uploadsPlaylistId;
+    }
+}
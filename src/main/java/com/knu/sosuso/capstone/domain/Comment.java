@@ -10,7 +10,10 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
-@Table(name = "comment")
+@Table(name = "comment", indexes = {
+        @Index(name = "idx_comment_api_comment_id", columnList = "api_comment_id"),
+        @Index(name = "idx_comment_parent_api_comment_id", columnList = "parent_api_comment_id")
+})
 @NoArgsConstructor
 public class Comment extends BaseEntity{
 
@@ -37,9 +40,14 @@ public class Comment extends BaseEntity{
     @Column(name = "written_at")
     private String writtenAt;
 
+    // 답글이면 부모 댓글의 apiCommentId (최상위 댓글은 null)
+    @Column(name = "parent_api_comment_id")
+    private String parentApiCommentId;
+
     @Builder
     public Comment(Video video, String apiCommentId, String commentContent,
-                   Integer likeCount, SentimentType sentimentType, String writer, String writtenAt) {
+                   Integer likeCount, SentimentType sentimentType, String writer, String writtenAt,
+                   String parentApiCommentId) {
         this.video = video;
         this.apiCommentId = apiCommentId;
         this.commentContent = commentContent;
@@ -47,5 +55,6 @@ public class Comment extends BaseEntity{
         this.sentimentType = sentimentType;
         this.writer = writer;
         this.writtenAt = writtenAt;
+        this.parentApiCommentId = parentApiCommentId;
     }
 }
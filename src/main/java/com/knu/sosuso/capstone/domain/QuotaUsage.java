@@ -0,0 +1,35 @@
+package com.knu.sosuso.capstone.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * YouTube API 일일 할당량 사용량 (날짜 + 엔드포인트 + 호출 경로 + API 키 단위)
+ */
+@NoArgsConstructor
+@Getter
+@Entity
+@Table(name = "youtube_quota_usage",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_quota_usage",
+                columnNames = {"usage_date", "endpoint", "caller", "api_key"}))
+public class QuotaUsage extends BaseEntity {
+
+    @Column(name = "usage_date", nullable = false)
+    private LocalDate usageDate;
+
+    @Column(name = "endpoint", nullable = false)
+    private String endpoint;
+
+    @Column(name = "caller", nullable = false)
+    private String caller;
+
+    @Column(name = "api_key", nullable = false)
+    private String apiKey;
+
+    @Column(name = "units", nullable = false)
+    private long units;
+}
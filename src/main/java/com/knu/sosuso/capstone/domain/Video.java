@@ -1,13 +1,18 @@
 package com.knu.sosuso.capstone.domain;
 
+import com.knu.sosuso.capstone.domain.value.AnalysisStatus;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.Table;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 @NoArgsConstructor
 @Getter
 @Setter
@@ -72,6 +77,19 @@ public class Video extends BaseEntity {
     @Column(name = "uploaded_at")
     private String uploadedAt;
 
+    // 통계를 마지막으로 갱신한 시각 (전체 교체 시 새 행이 생기므로 null)
+    @Column(name = "refreshed_at")
+    private LocalDateTime refreshedAt;
+
+    // 증분 댓글 갱신을 마지막으로 수행한 시각 (없으면 created_at 기준)
+    @Column(name = "comments_synced_at")
+    private LocalDateTime commentsSyncedAt;
+
+    // AI 분석 상태 (이전에 저장된 행은 null - AI 결과 유무로 판단)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "analysis_status")
+    private AnalysisStatus analysisStatus;
+
     @Builder
 
     public Video(String apiVideoId, String title, String description, String viewCount, String likeCount, String commentCount, String thumbnailUrl, String channelId, String channelName, String channelThumbnailUrl, String subscriberCount, String commentHistogram, String popularTimestamps, String summation, boolean isWarning, String languageDistribution, String sentimentDistribution, String keywords, String uploadedAt) {
@@ -0,0 +1,12 @@
+package com.knu.sosuso.capstone.domain.value;
+
+/**
+ * AI 분석 진행 상태
+ */
+public enum AnalysisStatus {
+    NONE,       // 분석 대상 아님 (댓글 없음 / AI 분석 비활성화)
+    PENDING,    // 요청됨, 실행 대기
+    RUNNING,    // AI 서버 호출 중
+    COMPLETED,
+    FAILED
+}
@@ -14,7 +14,8 @@ public record CommentApiResponse(
             String commentText,                      // 댓글 본문
             int likeCount,                           // 좋아요 수
             String sentiment,                          // 감정 분석
-            String publishedAt                       // 작성 시각
+            String publishedAt,                      // 작성 시각
+            String parentId                          // 답글이면 부모 댓글 ID (최상위 댓글은 null)
     ) {
     }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.knu.sosuso.capstone.dto.response.detail;
+
+import com.knu.sosuso.capstone.domain.value.AnalysisStatus;
+
+import java.util.Map;
+
+public record AnalysisStatusResponse(
+        String apiVideoId,
+        AnalysisStatus status,
+        DetailAnalysisDto analysis,             // 요약, 감정 비율, 키워드 등 (분석 완료 전에는 백엔드 분석 데이터만)
+        Map<String, String> commentSentiments   // apiCommentId -> 감정 (분석 완료 후)
+) {
+}
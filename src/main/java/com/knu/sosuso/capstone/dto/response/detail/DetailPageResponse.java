@@ -1,12 +1,19 @@
 package com.knu.sosuso.capstone.dto.response.detail;
 
 
+import com.knu.sosuso.capstone.domain.value.AnalysisStatus;
+
 import java.util.List;
 
 public record DetailPageResponse(
         DetailVideoDto video,
         DetailChannelDto channel,
         DetailAnalysisDto analysis,
-        List<DetailCommentDto> comments
+        List<DetailCommentDto> comments,
+        AnalysisStatus analysisStatus // AI 분석 상태 (PENDING / RUNNING이면 상태 조회 또는 SSE로 결과 수신)
 ) {
+
+    public DetailPageResponse withAnalysisStatus(AnalysisStatus status) {
+        return new DetailPageResponse(video, channel, analysis, comments, status);
+    }
 }
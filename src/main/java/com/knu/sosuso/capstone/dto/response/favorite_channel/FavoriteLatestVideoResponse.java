@@ -0,0 +1,8 @@
+package com.knu.sosuso.capstone.dto.response.favorite_channel;
+
+public record FavoriteLatestVideoResponse(
+        Long favoriteChannelId,
+        String apiChannelId,
+        String latestApiVideoId
+) {
+}
@@ -0,0 +1,16 @@
+package com.knu.sosuso.capstone.dto.response.search;
+
+import java.util.List;
+
+public record ChannelAutocompleteResponse(
+        List<Suggestion> suggestions
+) {
+    public record Suggestion(
+            String id,
+            String title,
+            String handle,
+            String thumbnailUrl,
+            Long subscriberCount
+    ) {
+    }
+}
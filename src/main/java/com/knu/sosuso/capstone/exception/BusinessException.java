@@ -7,11 +7,13 @@ import org.springframework.http.HttpStatus;
 @Getter
 public class BusinessException extends RuntimeException {
 
+    private final BaseError baseError;
     private final HttpStatus httpStatus;
     private final String message;
 
     public BusinessException(BaseError baseError) {
         super(baseError.getMessage());
+        this.baseError = baseError;
         this.httpStatus = baseError.getHttpStatus();
         this.message = baseError.getMessage();
     }
@@ -0,0 +1,20 @@
+package com.knu.sosuso.capstone.exception.error;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public enum DependencyError implements BaseError {
+
+    CIRCUIT_OPEN(HttpStatus.SERVICE_UNAVAILABLE, "외부 서비스 응답이 불안정해 요청을 잠시 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 지금은 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    QUEUE_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "대기 시간이 길어 요청을 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+
+    private final HttpStatus httpStatus;
+    private final String message;
+
+    DependencyError(HttpStatus httpStatus, String message) {
+        this.httpStatus = httpStatus;
+        this.message = message;
+    }
+}
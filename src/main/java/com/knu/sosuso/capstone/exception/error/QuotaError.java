@@ -0,0 +1,19 @@
+package com.knu.sosuso.capstone.exception.error;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public enum QuotaError implements BaseError {
+
+    CHANNEL_SEARCH_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "오늘 YouTube API 사용량이 한도에 가까워 채널 검색을 일시적으로 제공하지 않습니다. 영상 URL 검색은 가능합니다."),
+    ALL_KEYS_EXHAUSTED(HttpStatus.SERVICE_UNAVAILABLE, "오늘 YouTube API 사용량을 모두 소진했습니다. 내일 다시 시도해 주세요.");
+
+    private final HttpStatus httpStatus;
+    private final String message;
+
+    QuotaError(HttpStatus httpStatus, String message) {
+        this.httpStatus = httpStatus;
+        this.message = message;
+    }
+}
@@ -0,0 +1,28 @@
+package com.knu.sosuso.capstone.repository;
+
+import com.knu.sosuso.capstone.domain.AIAnalysisResult;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface AIAnalysisResultRepository extends JpaRepository<AIAnalysisResult, Long> {
+
+    Optional<AIAnalysisResult> findByContentHash(String contentHash);
+
+    // 현재 모델 버전이 아닌 결과 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AIAnalysisResult r WHERE r.modelVersion <> :modelVersion")
+    int deleteByModelVersionNot(@Param("modelVersion") String modelVersion);
+
+    // 보관 기간이 지난 결과 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AIAnalysisResult r WHERE r.createdAt < :cutoff")
+    int deleteByCreatedAtBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,12 @@
+package com.knu.sosuso.capstone.repository;
+
+import com.knu.sosuso.capstone.domain.ChannelDirectoryEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ChannelDirectoryRepository extends JpaRepository<ChannelDirectoryEntry, Long> {
+
+    List<ChannelDirectoryEntry> findByApiChannelIdIn(Collection<String> apiChannelIds);
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -18,6 +19,28 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     // 중복 댓글 체크
     boolean existsByApiCommentId(String apiCommentId);
 
+    // 중복 댓글 일괄 체크 (이미 저장된 apiCommentId만 반환)
+    @Query("SELECT c.apiCommentId FROM Comment c WHERE c.apiCommentId IN :apiCommentIds")
+    List<String> findExistingApiCommentIds(@Param("apiCommentIds") Collection<String> apiCommentIds);
+
+    // 비디오에 저장된 apiCommentId 목록 (증분 갱신 시 기준점)
+    @Query("SELECT c.apiCommentId FROM Comment c WHERE c.video.id = :videoId")
+    List<String> findApiCommentIdsByVideoId(@Param("videoId") Long videoId);
+
+    // 비디오에서 이미 감정 분석된 댓글 (갱신 시 AI에 다시 보내지 않음)
+    @Query("SELECT c.apiCommentId AS apiCommentId, c.sentimentType AS sentimentType FROM Comment c " +
+            "WHERE c.video.id = :videoId AND c.sentimentType IS NOT NULL")
+    List<CommentSentiment> findClassifiedSentimentsByVideoId(@Param("videoId") Long videoId);
+
+    // 비디오의 특정 댓글들 조회 (좋아요 수 일괄 갱신용)
+    List<Comment> findByVideoIdAndApiCommentIdIn(Long videoId, Collection<String> apiCommentIds);
+
+    // 비디오의 최상위 댓글 (증분 병합 후 댓글 수 제한용)
+    List<Comment> findByVideoIdAndParentApiCommentIdIsNull(Long videoId);
+
+    // 특정 스레드들의 답글
+    List<Comment> findByVideoIdAndParentApiCommentIdIn(Long videoId, Collection<String> parentApiCommentIds);
+
     // 비디오별 댓글 삭제 (DB ID로)
     void deleteByVideoId(Long videoId);
 
@@ -39,5 +62,10 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     List<Comment> findByVideoIdOrderByLikeCountDesc(Long video_id);
 
+    interface CommentSentiment {
+        String getApiCommentId();
+
+        SentimentType getSentimentType();
+    }
 }
 
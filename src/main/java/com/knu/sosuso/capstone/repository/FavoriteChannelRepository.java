@@ -3,6 +3,7 @@ package com.knu.sosuso.capstone.repository;
 import com.knu.sosuso.capstone.domain.FavoriteChannel;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,5 +11,6 @@ public interface FavoriteChannelRepository extends JpaRepository<FavoriteChannel
     boolean existsByUserIdAndApiChannelId(Long userId, String apiChannelId);
     Optional<FavoriteChannel> findByUserIdAndApiChannelId(Long userId, String apiChannelId);
     List<FavoriteChannel> findByUserId(Long userId);
+    List<FavoriteChannel> findByUserIdAndApiChannelIdIn(Long userId, Collection<String> apiChannelIds);
     Optional<FavoriteChannel> findByIdAndUserId(Long favoriteChannelId, Long userId);
 }
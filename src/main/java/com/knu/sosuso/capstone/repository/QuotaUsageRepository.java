@@ -0,0 +1,44 @@
+package com.knu.sosuso.capstone.repository;
+
+import com.knu.sosuso.capstone.domain.QuotaUsage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface QuotaUsageRepository extends JpaRepository<QuotaUsage, Long> {
+
+    // 사용량 누적 (행이 없으면 생성, 있으면 더하기 - 여러 노드가 동시에 호출해도 안전)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO youtube_quota_usage (usage_date, endpoint, caller, api_key, units, created_at, updated_at) " +
+            "VALUES (:usageDate, :endpoint, :caller, :apiKey, :units, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE units = units + :units, updated_at = NOW()",
+            nativeQuery = true)
+    void addUnits(@Param("usageDate") LocalDate usageDate,
+                  @Param("endpoint") String endpoint,
+                  @Param("caller") String caller,
+                  @Param("apiKey") String apiKey,
+                  @Param("units") long units);
+
+    // 하루 전체 사용량
+    @Query("SELECT COALESCE(SUM(q.units), 0) FROM QuotaUsage q WHERE q.usageDate = :usageDate")
+    long sumUnitsByUsageDate(@Param("usageDate") LocalDate usageDate);
+
+    // 하루 API 키별 사용량
+    @Query("SELECT q.apiKey AS apiKey, SUM(q.units) AS units FROM QuotaUsage q " +
+            "WHERE q.usageDate = :usageDate GROUP BY q.apiKey")
+    List<ApiKeyUnits> sumUnitsByApiKey(@Param("usageDate") LocalDate usageDate);
+
+    List<QuotaUsage> findByUsageDate(LocalDate usageDate);
+
+    interface ApiKeyUnits {
+        String getApiKey();
+
+        Long getUnits();
+    }
+}
@@ -0,0 +1,19 @@
+package com.knu.sosuso.capstone.resilience;
+
+/**
+ * 호출별 장애 대응 방식
+ *
+ * @param retry 실패 시 재시도 (멱등 요청만)
+ * @param hedge 느린 응답에 헤지 요청 (읽기 요청만)
+ */
+public record CallPolicy(boolean retry, boolean hedge) {
+
+    // 멱등 읽기: 재시도 + 헤지
+    public static final CallPolicy READ = new CallPolicy(true, true);
+
+    // 멱등이지만 중복 실행 시 부수효과가 있는 읽기 (스트리밍 디코딩 중 선요청 등): 재시도만
+    public static final CallPolicy READ_NO_HEDGE = new CallPolicy(true, false);
+
+    // 비멱등/고비용 호출: 서킷 브레이커만
+    public static final CallPolicy SINGLE = new CallPolicy(false, false);
+}
@@ -0,0 +1,127 @@
+package com.knu.sosuso.capstone.resilience;
+
+import com.knu.sosuso.capstone.config.ResilienceProperties;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 호출 횟수 기반 서킷 브레이커
+ * CLOSED: 최근 호출 결과를 링 버퍼에 기록하고 실패 비율이 임계치를 넘으면 OPEN
+ * OPEN: openDuration 동안 호출을 바로 거절한 뒤 HALF_OPEN
+ * HALF_OPEN: 시험 호출 몇 건만 허용, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final String name;
+    private final ResilienceProperties properties;
+
+    private final boolean[] failures;
+    private int position;
+    private int recordedCalls;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    private long openUntilNanos;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(String name, ResilienceProperties properties) {
+        this.name = name;
+        this.properties = properties;
+        this.failures = new boolean[properties.getWindowSize()];
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openUntilNanos < 0) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= properties.getHalfOpenCalls()) {
+                return false;
+            }
+            halfOpenPermits++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= properties.getHalfOpenCalls()) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+
+        record(true);
+        if (recordedCalls >= properties.getMinimumCalls()
+                && failedCalls * 100 >= properties.getFailureRateThreshold() * recordedCalls) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    public synchronized State state() {
+        // OPEN 유지 시간이 지났으면 조회 시점에도 HALF_OPEN으로 보이게 함
+        if (state == State.OPEN && System.nanoTime() - openUntilNanos >= 0) {
+            transitionTo(State.HALF_OPEN);
+        }
+        return state;
+    }
+
+    public synchronized double failureRate() {
+        return recordedCalls == 0 ? 0.0 : (double) failedCalls / recordedCalls;
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == failures.length) {
+            if (failures[position]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+
+        failures[position] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        position = (position + 1) % failures.length;
+    }
+
+    private void transitionTo(State next) {
+        State previous = state;
+        state = next;
+
+        switch (next) {
+            case OPEN -> openUntilNanos = System.nanoTime() + properties.getOpenDuration().toNanos();
+            case HALF_OPEN -> {
+                halfOpenPermits = 0;
+                halfOpenSuccesses = 0;
+            }
+            case CLOSED -> {
+                position = 0;
+                recordedCalls = 0;
+                failedCalls = 0;
+            }
+        }
+
+        if (previous != next) {
+            log.warn("서킷 상태 변경: name={}, {} -> {}", name, previous, next);
+        }
+    }
+}
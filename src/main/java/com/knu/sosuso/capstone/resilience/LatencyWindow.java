@@ -0,0 +1,35 @@
+package com.knu.sosuso.capstone.resilience;
+
+import java.util.Arrays;
+
+/**
+ * 최근 성공 호출 지연 시간 (헤지 지연 계산용 p95)
+ */
+public class LatencyWindow {
+
+    private static final int SIZE = 256;
+
+    private final long[] samples = new long[SIZE];
+    private int position;
+    private int count;
+
+    public synchronized void record(long nanos) {
+        samples[position] = nanos;
+        position = (position + 1) % SIZE;
+        count = Math.min(count + 1, SIZE);
+    }
+
+    public synchronized int count() {
+        return count;
+    }
+
+    public synchronized long percentileNanos(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * count) - 1;
+        return sorted[Math.max(0, Math.min(index, count - 1))];
+    }
+}
@@ -0,0 +1,229 @@
+package com.knu.sosuso.capstone.resilience;
+
+import com.knu.sosuso.capstone.config.ResilienceProperties;
+import com.knu.sosuso.capstone.exception.BusinessException;
+import com.knu.sosuso.capstone.exception.error.DependencyError;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 외부 호출 보호막 (서킷 브레이커 + 재시도 예산 + 헤지 요청)
+ * 의존 대상 이름(예: youtube.videos, ai-analysis)마다 브레이커/예산/지연 통계를 따로 둔다.
+ * 실패로 보는 오류: 연결/타임아웃(ResourceAccessException), 5xx, 429
+ * 그 밖의 4xx는 상대가 정상 응답한 것이므로 브레이커에 성공으로 기록하고 재시도하지 않는다.
+ */
+@Slf4j
+@Component
+public class OutboundGuard {
+
+    private final ResilienceProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Executor hedgeExecutor;
+    private final ConcurrentMap<String, Dependency> dependencies = new ConcurrentHashMap<>();
+
+    public OutboundGuard(ResilienceProperties properties, MeterRegistry meterRegistry,
+                         @Qualifier("outboundHedgeExecutor") Executor hedgeExecutor) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.hedgeExecutor = hedgeExecutor;
+    }
+
+    private record Dependency(CircuitBreaker breaker, RetryBudget retryBudget, LatencyWindow latency) {
+    }
+
+    /**
+     * 보호막을 거쳐 호출
+     *
+     * @param name   의존 대상 이름
+     * @param policy 재시도/헤지 여부
+     * @param action 실제 호출 (재시도/헤지 시 여러 번 실행될 수 있음)
+     */
+    public <T> T call(String name, CallPolicy policy, Supplier<T> action) {
+        Dependency dependency = dependency(name);
+        dependency.retryBudget().deposit();
+
+        int retries = 0;
+        while (true) {
+            try {
+                return attempt(name, dependency, policy, action);
+
+            } catch (RuntimeException e) {
+                if (!policy.retry() || !isFailure(e) || retries >= properties.getMaxRetries()) {
+                    throw e;
+                }
+                if (!dependency.retryBudget().tryWithdraw()) {
+                    meterRegistry.counter("resilience.retries", "name", name, "result", "budget_exhausted").increment();
+                    log.warn("재시도 예산 소진: name={}, error={}", name, e.getMessage());
+                    throw e;
+                }
+
+                retries++;
+                meterRegistry.counter("resilience.retries", "name", name, "result", "attempted").increment();
+                log.info("외부 호출 재시도: name={}, retry={}, error={}", name, retries, e.getMessage());
+
+                if (!sleepBackoff(retries)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * 의존 대상별 서킷 상태 (헬스 체크용)
+     */
+    public Map<String, CircuitBreaker> circuitBreakers() {
+        Map<String, CircuitBreaker> breakers = new TreeMap<>();
+        dependencies.forEach((name, dependency) -> breakers.put(name, dependency.breaker()));
+        return breakers;
+    }
+
+    private <T> T attempt(String name, Dependency dependency, CallPolicy policy, Supplier<T> action) {
+        if (!dependency.breaker().tryAcquire()) {
+            meterRegistry.counter("resilience.calls", "name", name, "outcome", "rejected").increment();
+            throw new BusinessException(DependencyError.CIRCUIT_OPEN);
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = policy.hedge() && properties.isHedgeEnabled()
+                    ? callHedged(name, dependency, action)
+                    : action.get();
+
+            dependency.breaker().onSuccess();
+            dependency.latency().record(System.nanoTime() - start);
+            meterRegistry.counter("resilience.calls", "name", name, "outcome", "success").increment();
+            return result;
+
+        } catch (RuntimeException e) {
+            if (isFailure(e)) {
+                dependency.breaker().onFailure();
+                meterRegistry.counter("resilience.calls", "name", name, "outcome", "failure").increment();
+            } else {
+                dependency.breaker().onSuccess();
+                meterRegistry.counter("resilience.calls", "name", name, "outcome", "client_error").increment();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 첫 요청이 p95 지연 안에 끝나지 않으면 같은 요청을 한 번 더 보내고 먼저 성공한 응답을 쓴다.
+     * 지연 통계가 충분히 쌓이기 전에는 헤지하지 않는다.
+     */
+    private <T> T callHedged(String name, Dependency dependency, Supplier<T> action) {
+        if (dependency.latency().count() < properties.getHedgeMinSamples()) {
+            return action.get();
+        }
+
+        long hedgeDelayNanos = Math.max(properties.getHedgeMinDelay().toNanos(),
+                dependency.latency().percentileNanos(0.95));
+
+        CompletableFuture<T> primary = CompletableFuture.supplyAsync(action, hedgeExecutor);
+        try {
+            return primary.get(hedgeDelayNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // p95 초과 - 헤지 요청 시도
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            primary.cancel(true);
+            throw new IllegalStateException("외부 호출 대기 중 인터럽트: " + name, e);
+        }
+
+        if (!dependency.retryBudget().tryWithdraw()) {
+            return join(primary);
+        }
+
+        meterRegistry.counter("resilience.hedges", "name", name, "result", "launched").increment();
+        CompletableFuture<T> hedge = CompletableFuture.supplyAsync(action, hedgeExecutor);
+
+        // 먼저 성공한 쪽 결과, 둘 다 실패하면 마지막 실패
+        CompletableFuture<T> first = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(2);
+        for (CompletableFuture<T> candidate : List.of(primary, hedge)) {
+            candidate.whenComplete((value, error) -> {
+                if (error == null) {
+                    first.complete(value);
+                } else if (pending.decrementAndGet() == 0) {
+                    first.completeExceptionally(error);
+                }
+            });
+        }
+
+        T result = join(first);
+        if (hedge.isDone() && !hedge.isCompletedExceptionally() && !primary.isDone()) {
+            meterRegistry.counter("resilience.hedges", "name", name, "result", "won").increment();
+        }
+        return result;
+    }
+
+    private Dependency dependency(String name) {
+        return dependencies.computeIfAbsent(name, key -> {
+            CircuitBreaker breaker = new CircuitBreaker(key, properties);
+            Gauge.builder("resilience.circuit.state", breaker, b -> b.state().ordinal())
+                    .tag("name", key)
+                    .description("0=CLOSED, 1=HALF_OPEN, 2=OPEN")
+                    .register(meterRegistry);
+            Gauge.builder("resilience.circuit.failure.rate", breaker, CircuitBreaker::failureRate)
+                    .tag("name", key)
+                    .register(meterRegistry);
+            return new Dependency(breaker, new RetryBudget(properties), new LatencyWindow());
+        });
+    }
+
+    private boolean isFailure(RuntimeException e) {
+        return e instanceof ResourceAccessException
+                || e instanceof HttpServerErrorException
+                || e instanceof HttpClientErrorException.TooManyRequests;
+    }
+
+    // 지수 백오프 + full jitter: 0 ~ min(max, base * 2^(retry-1))
+    private boolean sleepBackoff(int retry) {
+        long base = properties.getRetryBaseBackoff().toMillis();
+        long cap = Math.min(properties.getRetryMaxBackoff().toMillis(), base << Math.min(retry - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException(cause);
+    }
+}
@@ -0,0 +1,41 @@
+package com.knu.sosuso.capstone.resilience;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 외부 의존 대상 서킷 상태 (/actuator/health의 outbound 항목)
+ * 서킷이 열려도 애플리케이션 자체는 동작하므로 상태는 UP으로 두고, 열린 서킷 목록을 상세 정보로 보여준다.
+ */
+@Component("outbound")
+@RequiredArgsConstructor
+public class OutboundHealthIndicator implements HealthIndicator {
+
+    private final OutboundGuard outboundGuard;
+
+    @Override
+    public Health health() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        int openCircuits = 0;
+
+        for (Map.Entry<String, CircuitBreaker> entry : outboundGuard.circuitBreakers().entrySet()) {
+            CircuitBreaker.State state = entry.getValue().state();
+            if (state == CircuitBreaker.State.OPEN) {
+                openCircuits++;
+            }
+            details.put(entry.getKey(), Map.of(
+                    "state", state.name(),
+                    "failureRate", Math.round(entry.getValue().failureRate() * 100) + "%"));
+        }
+
+        return Health.up()
+                .withDetail("openCircuits", openCircuits)
+                .withDetails(details)
+                .build();
+    }
+}
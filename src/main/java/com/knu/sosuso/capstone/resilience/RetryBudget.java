@@ -0,0 +1,48 @@
+package com.knu.sosuso.capstone.resilience;
+
+import com.knu.sosuso.capstone.config.ResilienceProperties;
+
+/**
+ * 재시도 예산
+ * 요청마다 ratio만큼 토큰을 적립하고 재시도/헤지마다 1개씩 쓴다.
+ * 장애 중에도 재시도 트래픽이 원래 요청의 ratio 비율을 넘지 않아 재시도 폭주를 막는다.
+ * 요청이 적을 때를 위해 초당 minPerSecond개는 항상 허용한다.
+ */
+public class RetryBudget {
+
+    private final double ratio;
+    private final int minPerSecond;
+    private final double maxTokens;
+
+    private double tokens;
+    private long currentSecond;
+    private int usedThisSecond;
+
+    public RetryBudget(ResilienceProperties properties) {
+        this.ratio = properties.getRetryBudgetRatio();
+        this.minPerSecond = properties.getRetryBudgetMinPerSecond();
+        this.maxTokens = Math.max(1, properties.getWindowSize() * ratio * 10);
+    }
+
+    public synchronized void deposit() {
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    public synchronized boolean tryWithdraw() {
+        long second = System.nanoTime() / 1_000_000_000L;
+        if (second != currentSecond) {
+            currentSecond = second;
+            usedThisSecond = 0;
+        }
+
+        if (usedThisSecond < minPerSecond) {
+            usedThisSecond++;
+            return true;
+        }
+        if (tokens >= 1) {
+            tokens -= 1;
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,386 @@
+package com.knu.sosuso.capstone.service;
+
+import com.knu.sosuso.capstone.ai.dto.AIAnalysisResponse;
+import com.knu.sosuso.capstone.ai.service.ChunkedAnalysisService;
+import com.knu.sosuso.capstone.config.AIAnalysisProperties;
+import com.knu.sosuso.capstone.domain.Video;
+import com.knu.sosuso.capstone.domain.value.AnalysisStatus;
+import com.knu.sosuso.capstone.domain.value.SentimentType;
+import com.knu.sosuso.capstone.dto.response.CommentApiResponse;
+import com.knu.sosuso.capstone.dto.response.detail.AnalysisStatusResponse;
+import com.knu.sosuso.capstone.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * AI 분석 실행 (동기 / 백그라운드)
+ * 백그라운드 모드에서는 분석 작업을 aiAnalysisExecutor에 맡기고 바로 돌아가며,
+ * 진행 상태는 Video.analysisStatus와 메모리의 진행 중 작업으로 관리한다.
+ * 분석이 끝나면 해당 비디오를 SSE로 구독 중인 클라이언트에게 결과를 보낸다.
+ */
+@Slf4j
+@Service
+public class AIAnalysisJobService {
+
+    private static final String SSE_EVENT_NAME = "analysis";
+
+    private final ChunkedAnalysisService analysisService;
+    private final CommentService commentService;
+    private final VideoService videoService;
+    private final ResponseMappingService responseMappingService;
+    private final AIAnalysisProperties properties;
+    private final Executor aiAnalysisExecutor;
+
+    // 진행 중인 분석 작업 (apiVideoId -> 상태), 같은 비디오 행은 한 번만 실행 (행이 교체되면 새 행의 작업으로 대체)
+    private final ConcurrentMap<String, Job> jobs = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    public AIAnalysisJobService(ChunkedAnalysisService analysisService, CommentService commentService,
+                                VideoService videoService, ResponseMappingService responseMappingService,
+                                AIAnalysisProperties properties,
+                                @Qualifier("aiAnalysisExecutor") Executor aiAnalysisExecutor) {
+        this.analysisService = analysisService;
+        this.commentService = commentService;
+        this.videoService = videoService;
+        this.responseMappingService = responseMappingService;
+        this.properties = properties;
+        this.aiAnalysisExecutor = aiAnalysisExecutor;
+    }
+
+    private static final class Job {
+        private final Long videoId;
+        private volatile AnalysisStatus status = AnalysisStatus.PENDING;
+
+        private Job(Long videoId) {
+            this.videoId = videoId;
+        }
+    }
+
+    public boolean isAsync() {
+        return properties.isAsync();
+    }
+
+    public boolean isInProgress(String apiVideoId, Long videoId) {
+        Job job = jobs.get(apiVideoId);
+        return job != null && job.videoId.equals(videoId);
+    }
+
+    /**
+     * AI 분석 후 결과 반영 (호출 스레드에서 실행)
+     *
+     * @return 분석 결과 (실패하면 null)
+     */
+    public AIAnalysisResponse analyze(String apiVideoId, List<CommentApiResponse.CommentData> allComments, Long videoId) {
+        AIAnalysisResponse aiAnalysisResponse = performAIAnalysis(apiVideoId, allComments, videoId);
+
+        if (aiAnalysisResponse != null) {
+            videoService.applyAIResults(videoId, aiAnalysisResponse);
+        } else {
+            videoService.updateAnalysisStatus(videoId, AnalysisStatus.FAILED);
+        }
+        return aiAnalysisResponse;
+    }
+
+    /**
+     * 백그라운드 AI 분석 요청
+     * 같은 비디오 행의 분석이 이미 진행 중이면 새로 요청하지 않고 그 상태를 돌려준다.
+     * 진행 중인 작업이 교체되기 전 행의 것이면 새 행의 작업으로 대체한다 (이전 작업은 결과를 알리지 않고 끝남).
+     */
+    public AnalysisStatus submit(String apiVideoId, List<CommentApiResponse.CommentData> allComments, Long videoId) {
+        Job job = new Job(videoId);
+        Job existing;
+        while ((existing = jobs.putIfAbsent(apiVideoId, job)) != null) {
+            if (existing.videoId.equals(videoId)) {
+                log.info("진행 중인 AI 분석 작업 재사용: apiVideoId={}, status={}", apiVideoId, existing.status);
+                return existing.status;
+            }
+            if (jobs.replace(apiVideoId, existing, job)) {
+                log.info("교체된 비디오의 AI 분석 작업 대체: apiVideoId={}, 이전 videoId={}, videoId={}",
+                        apiVideoId, existing.videoId, videoId);
+                break;
+            }
+        }
+
+        videoService.updateAnalysisStatus(videoId, AnalysisStatus.PENDING);
+        List<CommentApiResponse.CommentData> comments = List.copyOf(allComments);
+
+        try {
+            aiAnalysisExecutor.execute(() -> run(apiVideoId, comments, videoId, job));
+        } catch (RejectedExecutionException e) {
+            log.warn("AI 분석 대기열 가득 참, 다음 요청 때 다시 시도: apiVideoId={}", apiVideoId);
+            finish(apiVideoId, videoId, job, AnalysisStatus.FAILED);
+            return AnalysisStatus.FAILED;
+        }
+
+        log.info("AI 분석 작업 등록: apiVideoId={}, 댓글 수={}", apiVideoId, comments.size());
+        return AnalysisStatus.PENDING;
+    }
+
+    /**
+     * 현재 분석 상태 (진행 중인 작업 -> DB 순으로 확인)
+     */
+    public AnalysisStatus currentStatus(String apiVideoId) {
+        Job job = jobs.get(apiVideoId);
+        if (job != null) {
+            return job.status;
+        }
+        return videoService.findByApiVideoId(apiVideoId)
+                .map(this::storedStatus)
+                .orElse(AnalysisStatus.NONE);
+    }
+
+    /**
+     * 분석 상태 + 현재까지의 분석 결과
+     */
+    public AnalysisStatusResponse getStatus(String apiVideoId) {
+        Job job = jobs.get(apiVideoId);
+        Optional<Video> video = videoService.findByApiVideoId(apiVideoId);
+
+        if (video.isEmpty()) {
+            return new AnalysisStatusResponse(apiVideoId,
+                    job != null ? job.status : AnalysisStatus.NONE, null, Map.of());
+        }
+
+        AnalysisStatus status = job != null ? job.status : storedStatus(video.get());
+        Map<String, String> commentSentiments = status == AnalysisStatus.COMPLETED
+                ? responseMappingService.mapDbCommentSentiments(video.get().getId())
+                : Map.of();
+
+        return new AnalysisStatusResponse(apiVideoId, status,
+                responseMappingService.mapDbVideoToAnalysisResponse(video.get()), commentSentiments);
+    }
+
+    /**
+     * 분석 결과 SSE 구독
+     * 진행 중인 작업이 없으면 현재 상태를 한 번 보내고 바로 닫는다.
+     */
+    public SseEmitter subscribe(String apiVideoId) {
+        SseEmitter emitter = new SseEmitter(properties.getSseTimeout().toMillis());
+
+        if (!jobs.containsKey(apiVideoId)) {
+            send(emitter, getStatus(apiVideoId));
+            emitter.complete();
+            return emitter;
+        }
+
+        Set<SseEmitter> emitters = subscribers.computeIfAbsent(apiVideoId, key -> ConcurrentHashMap.newKeySet());
+        emitters.add(emitter);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(error -> emitters.remove(emitter));
+
+        send(emitter, new AnalysisStatusResponse(apiVideoId, currentStatus(apiVideoId), null, Map.of()));
+
+        // 등록하는 사이에 작업이 끝났으면 바로 결과 전송
+        if (!jobs.containsKey(apiVideoId)) {
+            publish(apiVideoId);
+        }
+        return emitter;
+    }
+
+    private void run(String apiVideoId, List<CommentApiResponse.CommentData> comments, Long videoId, Job job) {
+        job.status = AnalysisStatus.RUNNING;
+        AnalysisStatus result = AnalysisStatus.FAILED;
+
+        try {
+            result = analyze(apiVideoId, comments, videoId) != null ? AnalysisStatus.COMPLETED : AnalysisStatus.FAILED;
+        } catch (RuntimeException e) {
+            log.error("AI 분석 결과 반영 실패: apiVideoId={}, error={}", apiVideoId, e.getMessage());
+        } finally {
+            finish(apiVideoId, videoId, job, result);
+        }
+    }
+
+    private void finish(String apiVideoId, Long videoId, Job job, AnalysisStatus status) {
+        job.status = status;
+        if (status == AnalysisStatus.FAILED) {
+            videoService.updateAnalysisStatus(videoId, AnalysisStatus.FAILED);
+        }
+        boolean current = jobs.remove(apiVideoId, job);
+        log.info("AI 분석 작업 종료: apiVideoId={}, videoId={}, status={}", apiVideoId, videoId, status);
+
+        // 새 행의 작업으로 대체되었으면 구독자에게는 그 작업이 끝날 때 알림
+        if (current) {
+            publish(apiVideoId);
+        }
+    }
+
+    private void publish(String apiVideoId) {
+        Set<SseEmitter> emitters = subscribers.remove(apiVideoId);
+        if (emitters == null || emitters.isEmpty()) {
+            return;
+        }
+
+        AnalysisStatusResponse response = getStatus(apiVideoId);
+        for (SseEmitter emitter : emitters) {
+            send(emitter, response);
+            emitter.complete();
+        }
+    }
+
+    private void send(SseEmitter emitter, AnalysisStatusResponse response) {
+        try {
+            emitter.send(SseEmitter.event().name(SSE_EVENT_NAME).data(response));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("AI 분석 SSE 전송 실패 (구독 종료): apiVideoId={}, error={}", response.apiVideoId(), e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+
+    // 상태 컬럼이 없던 시절의 행은 AI 결과 유무로 판단
+    private AnalysisStatus storedStatus(Video video) {
+        if (video.getAnalysisStatus() != null) {
+            return video.getAnalysisStatus();
+        }
+        return videoService.isAIAnalysisCompleted(video) ? AnalysisStatus.COMPLETED : AnalysisStatus.NONE;
+    }
+
+    /**
+     * AI 분석 수행
+     */
+    private AIAnalysisResponse performAIAnalysis(String apiVideoId, List<CommentApiResponse.CommentData> allComments, Long videoId) {
+        try {
+            // AI 분석용 댓글 추출 (전체 최대 개수 사용)
+            Map<String, String> commentsForAI = commentService.extractCommentsForAI(allComments);
+
+            if (!commentsForAI.isEmpty()) {
+                log.info("AI 분석 요청 시작: apiVideoId={}, 분석 댓글 수={}", apiVideoId, commentsForAI.size());
+
+                AIAnalysisResponse aiAnalysisResponse = requestAnalysis(apiVideoId, videoId, commentsForAI);
+
+                AIAnalysisResponse updatedResponse = new AIAnalysisResponse(
+                        videoId, aiAnalysisResponse.apiVideoId(), aiAnalysisResponse.summation(),
+                        aiAnalysisResponse.isWarning(), aiAnalysisResponse.keywords(),
+                        aiAnalysisResponse.sentimentComments(), aiAnalysisResponse.languageRatio(),
+                        aiAnalysisResponse.sentimentRatio()
+                );
+
+                log.info("AI 분석 완료: apiVideoId={}, 요약 길이={}, 경고={}",
+                        apiVideoId, aiAnalysisResponse.summation().length(), aiAnalysisResponse.isWarning());
+
+                return updatedResponse;
+            }
+        } catch (BusinessException e) {
+            log.warn("AI 서버 서킷 열림 또는 대기열 거절, 분석 생략: apiVideoId={}, error={}", apiVideoId, e.getMessage());
+        } catch (org.springframework.web.client.ResourceAccessException e) {
+            log.error("AI 서버 연결 실패 (네트워크): apiVideoId={}, error={}", apiVideoId, e.getMessage());
+        } catch (org.springframework.web.client.HttpClientErrorException e) {
+            log.error("AI 서버 클라이언트 오류: apiVideoId={}, status={}", apiVideoId, e.getStatusCode());
+        } catch (org.springframework.web.client.HttpServerErrorException e) {
+            log.error("AI 서버 내부 오류: apiVideoId={}, status={}", apiVideoId, e.getStatusCode());
+        } catch (RuntimeException e) {
+            log.error("AI 분석 실패: apiVideoId={}, error={}", apiVideoId, e.getMessage());
+        } catch (Exception e) {
+            log.error("AI 분석 예상치 못한 오류: apiVideoId={}, error={}", apiVideoId, e.getMessage());
+        }
+
+        return null;
+    }
+
+    /**
+     * AI 분석 요청 (이미 분석된 댓글이 충분하면 새 댓글만 보내고 저장된 결과와 병합)
+     */
+    private AIAnalysisResponse requestAnalysis(String apiVideoId, Long videoId, Map<String, String> commentsForAI) {
+        if (properties.isReuseSentiments()) {
+            Optional<AIAnalysisResponse> stored = videoService.findByApiVideoId(apiVideoId)
+                    .filter(video -> video.getId().equals(videoId))
+                    .flatMap(videoService::findStoredAIResults);
+
+            if (stored.isPresent()) {
+                Map<String, SentimentType> known = commentService.findClassifiedSentiments(videoId);
+                Map<String, SentimentType> reused = new LinkedHashMap<>();
+                Map<String, String> unclassified = new LinkedHashMap<>();
+                commentsForAI.forEach((apiCommentId, text) -> {
+                    SentimentType sentimentType = known.get(apiCommentId);
+                    if (sentimentType != null) {
+                        reused.put(apiCommentId, sentimentType);
+                    } else {
+                        unclassified.put(apiCommentId, text);
+                    }
+                });
+
+                double churn = (double) unclassified.size() / commentsForAI.size();
+                if (!reused.isEmpty() && churn <= properties.getMaxReuseChurn()) {
+                    log.info("감정 분석 결과 재사용: apiVideoId={}, 재사용={}, 새로 분석={}",
+                            apiVideoId, reused.size(), unclassified.size());
+                    AIAnalysisResponse fresh = unclassified.isEmpty()
+                            ? null
+                            : analysisService.requestAnalysis(apiVideoId, unclassified);
+                    return mergeWithStored(stored.get(), reused, fresh, unclassified.size());
+                }
+                log.info("새 댓글 비율이 높아 전체 재분석: apiVideoId={}, 새 댓글 비율={}",
+                        apiVideoId, String.format("%.2f", churn));
+            }
+        }
+
+        return analysisService.requestAnalysis(apiVideoId, commentsForAI);
+    }
+
+    /**
+     * 저장된 결과 + 새 댓글 분석 결과 병합
+     * 요약/키워드는 저장된 것을 유지하고, 감정 비율은 병합한 댓글별 감정으로 다시 계산하며,
+     * 언어 비율은 재사용한 댓글 수와 새 댓글 수로 가중 평균한다 (비율이 없는 쪽은 가중치에서 뺌).
+     */
+    static AIAnalysisResponse mergeWithStored(AIAnalysisResponse stored, Map<String, SentimentType> reused,
+                                              AIAnalysisResponse fresh, int freshCount) {
+        Map<String, SentimentType> sentimentComments = new LinkedHashMap<>(reused);
+        Map<String, Double> languageRatio = new LinkedHashMap<>();
+        double languageWeight = 0;
+        if (stored.languageRatio() != null && !stored.languageRatio().isEmpty()) {
+            stored.languageRatio().forEach((language, ratio) -> languageRatio.merge(language, ratio * reused.size(), Double::sum));
+            languageWeight += reused.size();
+        }
+        boolean isWarning = stored.isWarning();
+
+        if (fresh != null) {
+            if (fresh.sentimentComments() != null) {
+                sentimentComments.putAll(fresh.sentimentComments());
+            }
+            if (fresh.languageRatio() != null && !fresh.languageRatio().isEmpty()) {
+                fresh.languageRatio().forEach((language, ratio) -> languageRatio.merge(language, ratio * freshCount, Double::sum));
+                languageWeight += freshCount;
+            }
+            isWarning |= fresh.isWarning();
+        }
+
+        if (languageWeight > 0) {
+            double totalLanguageWeight = languageWeight;
+            languageRatio.replaceAll((language, weighted) -> weighted / totalLanguageWeight);
+        }
+
+        return new AIAnalysisResponse(
+                stored.videoId(), stored.apiVideoId(), stored.summation(), isWarning, stored.keywords(),
+                sentimentComments, languageRatio, sentimentRatio(sentimentComments)
+        );
+    }
+
+    // 댓글별 감정으로 비율 계산 (키는 AI 응답과 같은 소문자 감정 이름)
+    private static Map<String, Double> sentimentRatio(Map<String, SentimentType> sentimentComments) {
+        Map<String, Double> ratio = new LinkedHashMap<>();
+        for (SentimentType sentimentType : SentimentType.values()) {
+            ratio.put(sentimentType.name().toLowerCase(), 0.0);
+        }
+        if (sentimentComments.isEmpty()) {
+            return ratio;
+        }
+
+        double unit = 1.0 / sentimentComments.size();
+        for (SentimentType sentimentType : sentimentComments.values()) {
+            ratio.merge(sentimentType.name().toLowerCase(), unit, Double::sum);
+        }
+        return ratio;
+    }
+}
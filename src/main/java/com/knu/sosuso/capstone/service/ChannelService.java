@@ -1,33 +1,58 @@
 package com.knu.sosuso.capstone.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.knu.sosuso.capstone.config.ApiConfig;
+import com.knu.sosuso.capstone.config.ChannelDirectoryProperties;
+import com.knu.sosuso.capstone.dto.response.search.ChannelAutocompleteResponse;
 import com.knu.sosuso.capstone.dto.response.search.ChannelSearchResponse;
+import com.knu.sosuso.capstone.exception.BusinessException;
+import com.knu.sosuso.capstone.exception.error.QuotaError;
+import com.knu.sosuso.capstone.youtube.cache.ChannelMetadata;
+import com.knu.sosuso.capstone.youtube.cache.ChannelMetadataCache;
+import com.knu.sosuso.capstone.youtube.cache.ChannelSearchCache;
+import com.knu.sosuso.capstone.youtube.client.YouTubeApiClient;
+import com.knu.sosuso.capstone.youtube.client.YouTubeEndpoint;
+import com.knu.sosuso.capstone.youtube.client.YouTubeRequest;
+import com.knu.sosuso.capstone.youtube.directory.ChannelDirectory;
+import com.knu.sosuso.capstone.youtube.quota.QuotaLedger;
+import com.knu.sosuso.capstone.youtube.quota.QuotaLevel;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class ChannelService {
-    private static final String YOUTUBE_SEARCH_API_URL = "https://www.googleapis.com/youtube/v3/search";
-    private static final String YOUTUBE_CHANNELS_API_URL = "https://www.googleapis.com/youtube/v3/channels";
+    private static final int PLAYLIST_LOOKUP_SIZE = 5;
 
-    private final ApiConfig config;
-    private final RestTemplate restTemplate;
+    private final YouTubeApiClient youTubeApiClient;
     private final ObjectMapper objectMapper;
     private final UserDataService userDataService;
+    private final ChannelMetadataCache channelMetadataCache;
+    private final ChannelSearchCache channelSearchCache;
+    private final QuotaLedger quotaLedger;
+    private final ChannelDirectory channelDirectory;
+    private final ChannelDirectoryProperties channelDirectoryProperties;
+
+    @Qualifier("channelLookupExecutor")
+    private final Executor channelLookupExecutor;
 
 
     public ChannelSearchResponse searchChannels(String token, String query) {
@@ -38,26 +63,33 @@ public class ChannelService {
         try {
             log.info("채널 검색 시작: query={}", query);
 
-            // 1. 채널 검색
-            String searchResponse = searchChannelsByQuery(query.trim());
+            // 0. 로컬 디렉터리에 좋은 일치가 충분하면 search.list 없이 응답
+            ChannelSearchResponse localResult = searchLocalChannels(token, query);
+            if (localResult != null) {
+                log.info("채널 검색 완료 (로컬 디렉터리): query={}, resultCount={}", query, localResult.results().size());
+                return localResult;
+            }
 
-            // 2. 채널 ID 수집
-            List<String> channelIds = extractChannelIds(searchResponse);
+            // 1. 채널 검색 + ID 수집 (같은 검색어는 모든 사용자가 캐시된 결과를 공유)
+            List<String> channelIds = channelSearchCache.get(query.trim(), this::searchChannelIds);
 
             if (channelIds.isEmpty()) {
                 log.info("검색된 채널이 없음: query={}", query);
                 return new ChannelSearchResponse(List.of());
             }
 
-            // 3. 채널 상세 정보 조회
-            String channelsResponse = getChannelsDetails(channelIds);
+            // 2. 채널 상세 정보 조회 (캐시)
+            Map<String, ChannelMetadata> channels = channelMetadataCache.getAll(channelIds);
 
-            // 4. 결과 변환 및 정렬
-            List<ChannelSearchResponse.ChannelDto> results = parseChannelsResponse(token, channelsResponse);
+            // 3. 결과 변환 및 정렬 (관심 채널 여부만 사용자별로 계산)
+            List<ChannelSearchResponse.ChannelDto> results = toChannelDtos(token, channelIds, channels);
 
             log.info("채널 검색 완료: query={}, resultCount={}", query, results.size());
             return new ChannelSearchResponse(results);
 
+        } catch (BusinessException e) {
+            throw e;
+
         } catch (HttpClientErrorException.Forbidden e) {
             log.warn("YouTube API 접근 금지: query={}", query);
             throw new IllegalStateException("YouTube API에 접근할 수 없습니다", e);
@@ -72,20 +104,81 @@ public class ChannelService {
         }
     }
 
+    /**
+     * 채널 이름 / 핸들 자동완성 (로컬 디렉터리만 사용, YouTube API 호출 없음)
+     */
+    public ChannelAutocompleteResponse autocompleteChannels(String query, Integer limit) {
+        if (query == null || query.trim().isEmpty()) {
+            throw new IllegalArgumentException("검색어는 필수입니다");
+        }
+
+        int size = limit == null
+                ? channelDirectoryProperties.getAutocompleteLimit()
+                : Math.min(Math.max(limit, 1), channelDirectoryProperties.getAutocompleteMaxLimit());
+
+        List<ChannelAutocompleteResponse.Suggestion> suggestions = new ArrayList<>();
+        for (ChannelDirectory.DirectoryMatch match : channelDirectory.search(query, size)) {
+            ChannelMetadata channel = match.channel();
+            suggestions.add(new ChannelAutocompleteResponse.Suggestion(
+                    channel.channelId(), channel.title(), channel.customUrl(),
+                    channel.thumbnailUrl("medium", "default"), parseLong(channel.subscriberCount())));
+        }
+
+        return new ChannelAutocompleteResponse(suggestions);
+    }
+
+    /**
+     * 로컬 디렉터리 검색 결과 (좋은 일치가 minLocalMatches 미만이면 null)
+     * 순서는 search.list와 같이 구독자 수 기준으로 다시 정렬된다.
+     */
+    private ChannelSearchResponse searchLocalChannels(String token, String query) {
+        if (!channelDirectoryProperties.isLocalFirst()) {
+            return null;
+        }
+
+        List<ChannelDirectory.DirectoryMatch> matches =
+                channelDirectory.search(query, channelDirectoryProperties.getMaxLocalResults());
+        long goodMatches = matches.stream().filter(ChannelDirectory.DirectoryMatch::isGood).count();
+        if (goodMatches < channelDirectoryProperties.getMinLocalMatches()) {
+            log.debug("로컬 디렉터리 일치 부족: query={}, goodMatches={}", query, goodMatches);
+            return null;
+        }
+
+        List<String> channelIds = new ArrayList<>();
+        Map<String, ChannelMetadata> channels = new LinkedHashMap<>();
+        for (ChannelDirectory.DirectoryMatch match : matches) {
+            channelIds.add(match.channel().channelId());
+            channels.put(match.channel().channelId(), match.channel());
+        }
+
+        return new ChannelSearchResponse(toChannelDtos(token, channelIds, channels));
+    }
+
+    /**
+     * 캐시 미스일 때만 호출 (search.list 100단위)
+     * 할당량이 부족하면 새 검색만 거부하고, 캐시된 검색어는 계속 응답한다.
+     */
+    private List<String> searchChannelIds(String query) {
+        if (quotaLedger.isAtLeast(QuotaLevel.REJECT_CHANNEL_SEARCH)) {
+            log.warn("할당량 부족으로 채널 검색 거부: query={}, 남은 할당량={}", query, quotaLedger.remaining());
+            throw new BusinessException(QuotaError.CHANNEL_SEARCH_UNAVAILABLE);
+        }
+
+        return extractChannelIds(searchChannelsByQuery(query));
+    }
+
     private String searchChannelsByQuery(String query) {
-        String apiUrl = UriComponentsBuilder.fromUriString(YOUTUBE_SEARCH_API_URL)
-                .queryParam("part", "snippet")
-                .queryParam("type", "channel")
-                .queryParam("q", query)
-                .queryParam("maxResults", 25)
-                .queryParam("relevanceLanguage", "ko")
-                .queryParam("key", config.getKey())
-                .build(false)
-                .toUriString();
-
-        return restTemplate.getForObject(apiUrl, String.class);
+        YouTubeRequest request = YouTubeRequest.of(YouTubeEndpoint.SEARCH)
+                .param("part", "snippet")
+                .param("type", "channel")
+                .param("q", query)
+                .param("maxResults", 25)
+                .param("relevanceLanguage", "ko");
+
+        return youTubeApiClient.get(request);
     }
 
+    // 파싱 실패는 빈 결과가 아니라 예외로 던져 검색 캐시에 남지 않게 함
     private List<String> extractChannelIds(String searchResponse) {
         try {
             JsonNode rootNode = objectMapper.readTree(searchResponse);
@@ -104,116 +197,142 @@ public class ChannelService {
             }
 
             return channelIds;
-        } catch (Exception e) {
+        } catch (JsonProcessingException e) {
             log.error("채널 ID 추출 실패: {}", e.getMessage(), e);
-            return List.of();
+            throw new IllegalStateException("채널 검색 응답을 해석할 수 없습니다", e);
         }
     }
 
 
-    private String getChannelsDetails(List<String> channelIds) {
-        String channelIdsStr = String.join(",", channelIds);
+    // 채널 api id로 해당 채널의 최근 영상 apiVideoId 조회 (업로드 재생목록 조회, 1단위)
+    public String getlatestApiVideoId(String apiChannelId){
+        String uploadsPlaylistId = resolveUploadsPlaylistId(channelMetadataCache.get(apiChannelId));
 
-        String apiUrl = UriComponentsBuilder.fromUriString(YOUTUBE_CHANNELS_API_URL)
-                .queryParam("part", "snippet,statistics")
-                .queryParam("id", channelIdsStr)
-                .queryParam("key", config.getKey())
-                .build(false)
-                .toUriString();
+        if (uploadsPlaylistId == null) {
+            log.warn("채널 업로드 재생목록을 찾을 수 없음: apiChannelId={}", apiChannelId);
+            return null;
+        }
 
-        return restTemplate.getForObject(apiUrl, String.class);
+        return fetchLatestVideoIdFromPlaylist(uploadsPlaylistId);
     }
 
+    /**
+     * 여러 채널의 최근 영상 apiVideoId 일괄 조회
+     * 업로드 재생목록 ID는 채널 캐시에서 한 번에 가져오고 (channels.list 최대 50개씩),
+     * 재생목록 조회만 채널별로 병렬 수행한다.
+     *
+     * @return 채널 ID -> 최근 영상 ID (영상이 없거나 조회에 실패한 채널은 제외)
+     */
+    public Map<String, String> getLatestApiVideoIds(Collection<String> apiChannelIds) {
+        Map<String, ChannelMetadata> channels = channelMetadataCache.getAll(apiChannelIds);
+
+        Map<String, CompletableFuture<String>> lookups = new LinkedHashMap<>();
+        for (String apiChannelId : new LinkedHashSet<>(apiChannelIds)) {
+            String uploadsPlaylistId = resolveUploadsPlaylistId(channels.get(apiChannelId));
+            if (uploadsPlaylistId == null) {
+                log.warn("채널 업로드 재생목록을 찾을 수 없음: apiChannelId={}", apiChannelId);
+                continue;
+            }
+            lookups.put(apiChannelId, CompletableFuture.supplyAsync(
+                    () -> fetchLatestVideoIdFromPlaylist(uploadsPlaylistId), channelLookupExecutor));
+        }
 
-    // 채널 api id로 해당 채널의 최근 영상 apiVideoId 조회
-    public String getlatestApiVideoId(String apiChannelId){
-        String apiUrl = UriComponentsBuilder.fromUriString(YOUTUBE_SEARCH_API_URL)
-                .queryParam("part", "snippet")
-                .queryParam("channelId", apiChannelId)
-                .queryParam("order", "date")
-                .queryParam("maxResults", 1)
-                .queryParam("type","video")
-                .queryParam("key", config.getKey())
-                .toUriString();
-
-        String response = restTemplate.getForObject(apiUrl, String.class);
-
+        Map<String, String> latestVideoIds = new LinkedHashMap<>();
+        lookups.forEach((apiChannelId, lookup) -> {
+            try {
+                String apiVideoId = lookup.join();
+                if (apiVideoId != null) {
+                    latestVideoIds.put(apiChannelId, apiVideoId);
+                }
+            } catch (CompletionException e) {
+                log.warn("관심 채널 최근 영상 조회 실패: apiChannelId={}, error={}", apiChannelId, e.getCause().getMessage());
+            }
+        });
 
-        return extractVideoIdFromSearchResponse(response);
+        log.info("관심 채널 최근 영상 일괄 조회 완료: 요청={}, 성공={}", lookups.size(), latestVideoIds.size());
+        return latestVideoIds;
     }
 
-    private String extractVideoIdFromSearchResponse(String json){
-        try{
-            JsonNode root = objectMapper.readTree(json);
-            JsonNode items = root.path("items");
-
-            if(items.isArray() && !items.isEmpty()){
-                JsonNode videoIdNode = items.get(0).path("id").path("videoId");
-                return videoIdNode.asText();
-            }
-        }catch (Exception e){
-            log.error("관심 채널 최근 영상 응답 파싱 실패: {}", e.getMessage(), e);
+    private String resolveUploadsPlaylistId(ChannelMetadata channel) {
+        if (channel == null) {
             return null;
         }
+        if (!channel.uploadsPlaylistId().isEmpty()) {
+            return channel.uploadsPlaylistId();
+        }
+        // 업로드 재생목록 ID는 채널 ID의 "UC" 접두어를 "UU"로 바꾼 값
+        if (channel.channelId().startsWith("UC")) {
+            return "UU" + channel.channelId().substring(2);
+        }
         return null;
     }
 
-    private List<ChannelSearchResponse.ChannelDto> parseChannelsResponse(String token, String channelsResponse) {
-        try {
-            JsonNode channelsRootNode = objectMapper.readTree(channelsResponse);
-            JsonNode channelsItemsNode = channelsRootNode.path("items");
+    private String fetchLatestVideoIdFromPlaylist(String uploadsPlaylistId) {
+        YouTubeRequest request = YouTubeRequest.of(YouTubeEndpoint.PLAYLIST_ITEMS)
+                .param("part", "contentDetails")
+                .param("playlistId", uploadsPlaylistId)
+                .param("maxResults", PLAYLIST_LOOKUP_SIZE)
+                .param("fields", "items(contentDetails(videoId,videoPublishedAt))");
 
-            List<ChannelSearchResponse.ChannelDto> results = new ArrayList<>();
+        String response = youTubeApiClient.get(request);
 
-            if (channelsItemsNode.isArray()) {
-                for (JsonNode channel : channelsItemsNode) {
-                    String channelId = channel.path("id").asText();
-                    JsonNode snippetNode = channel.path("snippet");
-                    String title = snippetNode.path("title").asText();
-                    String handle = snippetNode.path("customUrl").asText();
-                    String description = snippetNode.path("description").asText();
+        return extractLatestVideoIdFromPlaylistResponse(response);
+    }
 
-                    // 썸네일 URL 추출
-                    String thumbnailUrl = extractThumbnailUrl(snippetNode.path("thumbnails"));
+    // 업로드 재생목록은 보통 최신순이지만, 예약 공개 등으로 순서가 어긋날 수 있어 게시 시각으로 다시 고른다.
+    private String extractLatestVideoIdFromPlaylistResponse(String json){
+        try{
+            JsonNode items = objectMapper.readTree(json).path("items");
 
-                    // 구독자 수 정보 가져오기
-                    JsonNode statisticsNode = channel.path("statistics");
-                    String subscriberCountStr = statisticsNode.path("subscriberCount").asText();
-                    Long subscriberCount = parseLong(subscriberCountStr);
+            String latestVideoId = null;
+            String latestPublishedAt = "";
 
-                    Long favoriteChannelId = userDataService.getUserFavoriteChannelId(token, channelId);
+            for (JsonNode item : items) {
+                JsonNode contentDetails = item.path("contentDetails");
+                String publishedAt = contentDetails.path("videoPublishedAt").asText("");
 
-                    results.add(new ChannelSearchResponse.ChannelDto(
-                            channelId, title, handle, description, thumbnailUrl, subscriberCount, favoriteChannelId));
+                // 비공개/삭제된 영상은 게시 시각이 없음
+                if (publishedAt.isEmpty()) {
+                    continue;
+                }
+                if (publishedAt.compareTo(latestPublishedAt) > 0) {
+                    latestPublishedAt = publishedAt;
+                    latestVideoId = contentDetails.path("videoId").asText();
                 }
             }
-
-            // 구독자 수 기준으로 정렬 (내림차순)
-            results.sort((a, b) -> Long.compare(b.subscriberCount(), a.subscriberCount()));
-
-            return results;
-        } catch (Exception e) {
-            log.error("채널 응답 파싱 실패: {}", e.getMessage(), e);
-            return List.of();
+            return latestVideoId;
+        }catch (Exception e){
+            log.error("관심 채널 최근 영상 응답 파싱 실패: {}", e.getMessage(), e);
+            return null;
         }
     }
 
-    private String extractThumbnailUrl(JsonNode thumbnailsNode) {
-        // medium 썸네일 우선, 없으면 default
-        JsonNode mediumNode = thumbnailsNode.path("medium");
-        if (!mediumNode.isMissingNode()) {
-            String url = mediumNode.path("url").asText();
-            if (!url.isEmpty()) {
-                return url;
+    private List<ChannelSearchResponse.ChannelDto> toChannelDtos(String token, List<String> channelIds,
+                                                               Map<String, ChannelMetadata> channels) {
+        List<ChannelSearchResponse.ChannelDto> results = new ArrayList<>();
+        Map<String, Long> favoriteChannelIds = userDataService.getUserFavoriteChannelIds(token, channels.keySet());
+
+        for (String channelId : channelIds) {
+            ChannelMetadata channel = channels.get(channelId);
+            if (channel == null) {
+                continue;
             }
-        }
 
-        JsonNode defaultNode = thumbnailsNode.path("default");
-        if (!defaultNode.isMissingNode()) {
-            return defaultNode.path("url").asText();
+            // 썸네일 URL: medium 우선, 없으면 default
+            String thumbnailUrl = channel.thumbnailUrl("medium", "default");
+            Long subscriberCount = parseLong(channel.subscriberCount());
+
+            Long favoriteChannelId = favoriteChannelIds.get(channelId);
+
+            results.add(new ChannelSearchResponse.ChannelDto(
+                    channelId, channel.title(), channel.customUrl(), channel.description(),
+                    thumbnailUrl, subscriberCount, favoriteChannelId));
         }
 
-        return "";
+        // 구독자 수 기준으로 정렬 (내림차순)
+        results.sort((a, b) -> Long.compare(b.subscriberCount(), a.subscriberCount()));
+
+        return results;
     }
 
     private Long parseLong(String value) {
@@ -0,0 +1,174 @@
+package com.knu.sosuso.capstone.service;
+
+import com.knu.sosuso.capstone.dto.response.CommentApiResponse;
+import com.knu.sosuso.capstone.dto.response.CommentApiResponse.CommentData;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 분석 누적기
+ * 페이지가 도착할 때마다 댓글을 넣으면 중복 제거, 시간대 분포, 타임스탬프 언급 집계를 바로 갱신한다.
+ * 마지막 페이지가 들어온 시점에 histogram / popularTimestamps가 이미 완성되어 있다.
+ */
+@Slf4j
+public class CommentAnalyticsAccumulator {
+
+    private static final Pattern HOUR_PATTERN = Pattern.compile("\\b(\\d{1,2}):(\\d{2}):(\\d{2})\\b");
+    private static final Pattern MINUTE_PATTERN = Pattern.compile("\\b(\\d{1,2}):(\\d{2})\\b");
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+    private static final int POPULAR_TIMESTAMP_LIMIT = 5;
+
+    private final List<CommentData> comments = new ArrayList<>();
+    private final Set<String> commentIds = new HashSet<>();
+    private final int[] hourlyCount = new int[24];
+    private final Map<String, Integer> timestampCount = new HashMap<>();
+
+    /**
+     * 이미 들어온 댓글 ID면 무시하고 false 반환
+     */
+    public boolean accept(CommentData comment) {
+        if (!commentIds.add(comment.id())) {
+            return false;
+        }
+
+        comments.add(comment);
+        countHour(comment);
+
+        for (String timestamp : extractAllTimestamps(comment.commentText())) {
+            timestampCount.merge(timestamp, 1, Integer::sum);
+        }
+        return true;
+    }
+
+    /**
+     * limit까지만 넣고, 실제로 추가된 댓글 수 반환
+     */
+    public int acceptAll(List<CommentData> page, int limit) {
+        int accepted = 0;
+        for (CommentData comment : page) {
+            if (comments.size() >= limit) {
+                break;
+            }
+            if (accept(comment)) {
+                accepted++;
+            }
+        }
+        return accepted;
+    }
+
+    public int size() {
+        return comments.size();
+    }
+
+    public List<CommentData> comments() {
+        return comments;
+    }
+
+    /**
+     * 시간대별 댓글 분포 (한국시간 0~23시)
+     */
+    public Map<Integer, Integer> histogram() {
+        Map<Integer, Integer> histogram = new HashMap<>();
+        for (int hour = 0; hour < hourlyCount.length; hour++) {
+            histogram.put(hour, hourlyCount[hour]);
+        }
+        return histogram;
+    }
+
+    /**
+     * 가장 많이 언급된 타임스탬프 상위 5개
+     */
+    public Map<String, Integer> popularTimestamps() {
+        return timestampCount.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(POPULAR_TIMESTAMP_LIMIT)
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey,
+                        Map.Entry::getValue,
+                        (e1, e2) -> e1,
+                        LinkedHashMap::new
+                ));
+    }
+
+    public int distinctTimestampCount() {
+        return timestampCount.size();
+    }
+
+    public CommentApiResponse toResponse() {
+        return new CommentApiResponse(histogram(), popularTimestamps(), new ArrayList<>(comments));
+    }
+
+    private void countHour(CommentData comment) {
+        try {
+            ZonedDateTime utcTime = ZonedDateTime.parse(comment.publishedAt());
+            hourlyCount[utcTime.withZoneSameInstant(KOREA_ZONE).getHour()]++;
+        } catch (Exception e) {
+            log.warn("댓글 시간 파싱 실패: publishedAt={}, error={}", comment.publishedAt(), e.getMessage());
+        }
+    }
+
+    static Set<String> extractAllTimestamps(String commentText) {
+        Set<String> allTimestamps = new HashSet<>();
+
+        if (commentText == null || commentText.trim().isEmpty()) {
+            return allTimestamps;
+        }
+
+        // 시:분:초 패턴 처리
+        List<int[]> hourRanges = new ArrayList<>();
+        Matcher hourMatcher = HOUR_PATTERN.matcher(commentText);
+
+        while (hourMatcher.find()) {
+            try {
+                int hours = Integer.parseInt(hourMatcher.group(1));
+                int minutes = Integer.parseInt(hourMatcher.group(2));
+                int seconds = Integer.parseInt(hourMatcher.group(3));
+
+                if (hours <= 23 && minutes <= 59 && seconds <= 59) {
+                    String timestamp = String.format("%d:%02d:%02d", hours, minutes, seconds);
+                    allTimestamps.add(timestamp);
+                    hourRanges.add(new int[]{hourMatcher.start(), hourMatcher.end()});
+                }
+            } catch (NumberFormatException e) {
+                continue;
+            }
+        }
+
+        // 분:초 패턴 처리
+        Matcher minuteMatcher = MINUTE_PATTERN.matcher(commentText);
+
+        while (minuteMatcher.find()) {
+            try {
+                int minutes = Integer.parseInt(minuteMatcher.group(1));
+                int seconds = Integer.parseInt(minuteMatcher.group(2));
+
+                if (minutes <= 99 && seconds <= 59) {
+                    int start = minuteMatcher.start();
+                    int end = minuteMatcher.end();
+
+                    boolean isOverlapping = false;
+                    for (int[] range : hourRanges) {
+                        if (!(end <= range[0] || start >= range[1])) {
+                            isOverlapping = true;
+                            break;
+                        }
+                    }
+
+                    if (!isOverlapping) {
+                        allTimestamps.add(minuteMatcher.group());
+                    }
+                }
+            } catch (NumberFormatException e) {
+                continue;
+            }
+        }
+
+        return allTimestamps;
+    }
+}
@@ -0,0 +1,161 @@
+package com.knu.sosuso.capstone.service;
+
+import com.knu.sosuso.capstone.config.CommentReplyProperties;
+import com.knu.sosuso.capstone.dto.response.CommentApiResponse.CommentData;
+import com.knu.sosuso.capstone.youtube.client.CommentThreadsPage;
+import com.knu.sosuso.capstone.youtube.client.CommentThreadsPageDecoder;
+import com.knu.sosuso.capstone.youtube.client.YouTubeApiClient;
+import com.knu.sosuso.capstone.youtube.client.YouTubeEndpoint;
+import com.knu.sosuso.capstone.youtube.client.YouTubeRequest;
+import com.knu.sosuso.capstone.youtube.quota.QuotaLedger;
+import com.knu.sosuso.capstone.youtube.quota.QuotaLevel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 답글 수집 (comments.list?parentId)
+ * 답글이 많은 스레드만 골라 비디오당 동시성 제한과 전체 동시성 제한 안에서 병렬로 가져온다.
+ */
+@Slf4j
+@Service
+public class CommentReplyService {
+
+    private static final int MAX_RESULTS_PER_REQUEST = 100;
+
+    private final YouTubeApiClient youTubeApiClient;
+    private final CommentThreadsPageDecoder commentThreadsPageDecoder;
+    private final CommentReplyProperties replyProperties;
+    private final QuotaLedger quotaLedger;
+    private final Executor replyFetchExecutor;
+
+    // 전체 비디오에 걸친 동시 요청 수 제한
+    private final Semaphore globalPermits;
+
+    public CommentReplyService(YouTubeApiClient youTubeApiClient,
+                               CommentThreadsPageDecoder commentThreadsPageDecoder,
+                               CommentReplyProperties replyProperties,
+                               QuotaLedger quotaLedger,
+                               @Qualifier("replyFetchExecutor") Executor replyFetchExecutor) {
+        this.youTubeApiClient = youTubeApiClient;
+        this.commentThreadsPageDecoder = commentThreadsPageDecoder;
+        this.replyProperties = replyProperties;
+        this.quotaLedger = quotaLedger;
+        this.replyFetchExecutor = replyFetchExecutor;
+        this.globalPermits = new Semaphore(replyProperties.getGlobalConcurrency());
+    }
+
+    public boolean isEnabled() {
+        return replyProperties.isEnabled() && !quotaLedger.isAtLeast(QuotaLevel.SERVE_STALE);
+    }
+
+    /**
+     * 답글 수가 기준 이상인 스레드의 답글 수집
+     * 답글이 많은 스레드부터 처리하며, 스레드 하나가 실패해도 나머지 답글은 그대로 반환한다.
+     *
+     * @param replyCounts 최상위 댓글 ID -> 전체 답글 수
+     * @return 수집한 답글 (parentId 포함)
+     */
+    public List<CommentData> fetchReplies(String apiVideoId, Map<String, Integer> replyCounts) {
+        if (!isEnabled() || replyCounts.isEmpty()) {
+            return List.of();
+        }
+
+        Queue<String> parentIds = new ConcurrentLinkedQueue<>();
+        replyCounts.entrySet().stream()
+                .filter(entry -> entry.getValue() >= replyProperties.getMinReplyCount())
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> parentIds.add(entry.getKey()));
+
+        if (parentIds.isEmpty()) {
+            return List.of();
+        }
+
+        int threadCount = parentIds.size();
+        Queue<CommentData> replies = new ConcurrentLinkedQueue<>();
+        AtomicInteger remaining = new AtomicInteger(replyProperties.getMaxRepliesPerVideo());
+
+        // 비디오당 동시성: 워커 수만큼만 작업을 띄우고 워커가 스레드 큐를 나눠 처리
+        int workerCount = Math.min(replyProperties.getPerVideoConcurrency(), threadCount);
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(CompletableFuture.runAsync(
+                    () -> drainThreads(apiVideoId, parentIds, replies, remaining), replyFetchExecutor));
+        }
+        CompletableFuture.allOf(workers.toArray(CompletableFuture[]::new)).join();
+
+        log.info("답글 수집 완료: apiVideoId={}, 대상 스레드={}, 답글 수={}", apiVideoId, threadCount, replies.size());
+        return new ArrayList<>(replies);
+    }
+
+    private void drainThreads(String apiVideoId, Queue<String> parentIds, Queue<CommentData> replies,
+                              AtomicInteger remaining) {
+        String parentId;
+        while (remaining.get() > 0 && (parentId = parentIds.poll()) != null) {
+            try {
+                fetchThreadReplies(parentId, replies, remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("답글 수집 실패: apiVideoId={}, parentId={}, error={}", apiVideoId, parentId, e.getMessage());
+            }
+        }
+    }
+
+    private void fetchThreadReplies(String parentId, Queue<CommentData> replies, AtomicInteger remaining)
+            throws InterruptedException {
+        String pageToken = null;
+        int collected = 0;
+
+        do {
+            CommentThreadsPage page;
+            globalPermits.acquire();
+            try {
+                page = youTubeApiClient.get(buildReplyRequest(parentId, pageToken),
+                        response -> commentThreadsPageDecoder.decodeReplies(response.getBody(), parentId));
+            } finally {
+                globalPermits.release();
+            }
+
+            if (page == null) {
+                return;
+            }
+
+            for (CommentData reply : page.comments()) {
+                if (collected >= replyProperties.getMaxRepliesPerThread() || remaining.getAndDecrement() <= 0) {
+                    return;
+                }
+                replies.add(reply);
+                collected++;
+            }
+
+            pageToken = page.nextPageToken();
+        } while (pageToken != null && !pageToken.isBlank());
+    }
+
+    private YouTubeRequest buildReplyRequest(String parentId, String pageToken) {
+        YouTubeRequest request = YouTubeRequest.of(YouTubeEndpoint.COMMENTS)
+                .param("part", "snippet")
+                .param("parentId", parentId)
+                .param("maxResults", MAX_RESULTS_PER_REQUEST)
+                .param("textFormat", "plainText")
+                .param("fields", CommentThreadsPageDecoder.REPLY_FIELDS);
+
+        if (pageToken != null && !pageToken.isBlank()) {
+            request.param("pageToken", pageToken);
+        }
+
+        return request;
+    }
+}
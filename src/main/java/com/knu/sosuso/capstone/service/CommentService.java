@@ -1,27 +1,36 @@
 package com.knu.sosuso.capstone.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.knu.sosuso.capstone.ai.dto.AIAnalysisResponse;
-import com.knu.sosuso.capstone.config.ApiConfig;
 import com.knu.sosuso.capstone.domain.Comment;
 import com.knu.sosuso.capstone.domain.Video;
+import com.knu.sosuso.capstone.domain.value.SentimentType;
 import com.knu.sosuso.capstone.dto.response.CommentApiResponse;
 import com.knu.sosuso.capstone.dto.response.CommentApiResponse.CommentData;
+import com.knu.sosuso.capstone.exception.BusinessException;
 import com.knu.sosuso.capstone.repository.CommentRepository;
+import com.knu.sosuso.capstone.youtube.archive.ResponseArchive;
+import com.knu.sosuso.capstone.youtube.cache.VideoNegativeCache;
+import com.knu.sosuso.capstone.youtube.client.CommentThreadsPage;
+import com.knu.sosuso.capstone.youtube.client.CommentThreadsPageDecoder;
+import com.knu.sosuso.capstone.youtube.client.YouTubeApiClient;
+import com.knu.sosuso.capstone.youtube.client.YouTubeEndpoint;
+import com.knu.sosuso.capstone.youtube.client.YouTubeRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Instant;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -29,71 +38,301 @@ import java.util.stream.Collectors;
 @Service
 public class CommentService {
 
-    private static final String YOUTUBE_COMMENT_API_URL = "https://www.googleapis.com/youtube/v3/commentThreads";
-    private static final Pattern HOUR_PATTERN = Pattern.compile("\\b(\\d{1,2}):(\\d{2}):(\\d{2})\\b");
-    private static final Pattern MINUTE_PATTERN = Pattern.compile("\\b(\\d{1,2}):(\\d{2})\\b");
     private static final int MAX_RESULTS_PER_REQUEST = 100;
     private static final int MAX_TOTAL_COMMENTS = 300;
 
-    private final ApiConfig apiConfig;
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final YouTubeApiClient youTubeApiClient;
+    private final CommentThreadsPageDecoder commentThreadsPageDecoder;
     private final CommentRepository commentRepository;
+    private final CommentReplyService commentReplyService;
+    private final VideoNegativeCache videoNegativeCache;
+    private final ResponseArchive responseArchive;
+
+    @Qualifier("commentFetchExecutor")
+    private final Executor commentFetchExecutor;
 
     /**
      * 관련도순으로 댓글 가져오기 (YouTube API 호출)
      */
     public List<CommentData> fetchAllComments(String apiVideoId) {
-        List<CommentData> allComments = new ArrayList<>();
-        String pageToken = null;
+        return ingestComments(apiVideoId).allComments();
+    }
+
+    /**
+     * 댓글 수집 + 백엔드 분석을 한 번에 수행
+     * 페이지 N을 디코딩하는 동안 페이지 N+1 요청이 이미 나가 있고,
+     * 도착한 페이지는 바로 누적기에 들어가 중복 제거/시간대 분포/타임스탬프 집계가 갱신된다.
+     * 답글 수집이 켜져 있으면 최상위 댓글 수집 후 답글이 많은 스레드의 답글도 함께 누적한다.
+     */
+    public CommentApiResponse ingestComments(String apiVideoId) {
+        Optional<VideoNegativeCache.Reason> unavailable = videoNegativeCache.commentsUnavailable(apiVideoId);
+        if (unavailable.isPresent()) {
+            log.info("댓글 수집 생략: apiVideoId={}, reason={}", apiVideoId, unavailable.get());
+            return processCommentsForClient(new ArrayList<>());
+        }
+
+        CommentAnalyticsAccumulator accumulator = new CommentAnalyticsAccumulator();
+        Map<String, Integer> replyCounts = new HashMap<>();
         int pageCount = 0;
+        PageFetch fetch = null;
 
         try {
-            do {
-                String apiUrl = buildApiUrl(apiVideoId, pageToken);
-                String jsonResponse = callYouTubeApi(apiUrl);
-                JsonNode rootNode = objectMapper.readTree(jsonResponse);
-                JsonNode itemsNode = rootNode.path("items");
+            fetch = startPageFetch(apiVideoId, null, 1);
 
-                if (!itemsNode.isArray() || itemsNode.isEmpty()) {
+            while (fetch != null) {
+                CommentThreadsPage page = awaitPage(fetch);
+                pageCount++;
+
+                if (page == null || page.comments().isEmpty()) {
                     break;
                 }
 
-                List<CommentData> pageComments = parseCommentsFromJson(itemsNode);
-                allComments.addAll(pageComments);
+                accumulator.acceptAll(page.comments(), MAX_TOTAL_COMMENTS);
+                replyCounts.putAll(page.replyCounts());
 
-                if (allComments.size() >= MAX_TOTAL_COMMENTS) {
-                    log.info("댓글 수집 제한 도달: apiVideoId={}, 수집된 댓글 수={}", apiVideoId, allComments.size());
-                    allComments = allComments.subList(0, Math.min(allComments.size(), MAX_TOTAL_COMMENTS));
+                if (accumulator.size() >= MAX_TOTAL_COMMENTS) {
+                    log.info("댓글 수집 제한 도달: apiVideoId={}, 수집된 댓글 수={}", apiVideoId, accumulator.size());
                     break;
                 }
 
-                pageToken = rootNode.path("nextPageToken").asText();
-                if (pageToken.isEmpty()) {
-                    pageToken = null;
-                }
-
-                pageCount++;
                 if (pageCount % 10 == 0) {
-                    log.info("댓글 수집 진행: apiVideoId={}, 페이지={}, 누적={}", apiVideoId, pageCount, allComments.size());
+                    log.info("댓글 수집 진행: apiVideoId={}, 페이지={}, 누적={}", apiVideoId, pageCount, accumulator.size());
                 }
 
-            } while (isValidPageToken(pageToken));
+                fetch = nextPageFetch(apiVideoId, fetch, page);
+            }
+
+            // 중간에 멈췄으면 선요청된 페이지 체인을 취소 (끝까지 읽었으면 fetch == null)
+            cancelPrefetch(fetch);
+            ingestReplies(apiVideoId, accumulator, replyCounts);
 
         } catch (HttpClientErrorException.Forbidden e) {
             // 댓글이 비활성화된 경우
             if (e.getResponseBodyAsString().contains("commentsDisabled")) {
                 log.info("댓글이 비활성화된 영상: apiVideoId={}", apiVideoId);
-                return new ArrayList<>(); // 빈 리스트 반환
+                videoNegativeCache.record(apiVideoId, VideoNegativeCache.Reason.COMMENTS_DISABLED);
+                return processCommentsForClient(new ArrayList<>()); // 빈 응답 반환
             }
             throw e; // 다른 403 에러는 재던지기
+        } catch (HttpClientErrorException.NotFound e) {
+            log.info("댓글 수집 대상 영상이 없음: apiVideoId={}", apiVideoId);
+            videoNegativeCache.record(apiVideoId, VideoNegativeCache.Reason.NOT_FOUND);
+            throw new RuntimeException("댓글 수집 중 오류 발생", e);
+        } catch (BusinessException e) {
+            // 할당량을 모두 쓰면 보관해 둔 응답으로 대신
+            if (responseArchive.shouldReplay(e)) {
+                List<CommentData> archived = replayComments(apiVideoId);
+                if (!archived.isEmpty()) {
+                    log.warn("할당량 소진, 보관된 댓글로 응답: apiVideoId={}, 댓글 수={}", apiVideoId, archived.size());
+                    return processCommentsForClient(archived);
+                }
+            }
+            throw e;
         } catch (Exception e) {
             log.error("댓글 수집 실패: apiVideoId={}, error={}", apiVideoId, e.getMessage());
             throw new RuntimeException("댓글 수집 중 오류 발생", e);
+        } finally {
+            cancelPrefetch(fetch);
+        }
+
+        log.info("댓글 수집 완료: apiVideoId={}, 페이지={}, 총 댓글 수={}, 언급된 시간대={}",
+                apiVideoId, pageCount, accumulator.size(), accumulator.distinctTimestampCount());
+        return accumulator.toResponse();
+    }
+
+    /**
+     * 누적기에 들어간 최상위 댓글의 답글을 수집해 함께 누적
+     */
+    private void ingestReplies(String apiVideoId, CommentAnalyticsAccumulator accumulator,
+                               Map<String, Integer> replyCounts) {
+        if (!commentReplyService.isEnabled()) {
+            return;
+        }
+
+        Map<String, Integer> acceptedReplyCounts = new HashMap<>();
+        for (CommentData comment : accumulator.comments()) {
+            Integer replyCount = replyCounts.get(comment.id());
+            if (replyCount != null) {
+                acceptedReplyCounts.put(comment.id(), replyCount);
+            }
+        }
+
+        List<CommentData> replies = commentReplyService.fetchReplies(apiVideoId, acceptedReplyCounts);
+        replies.forEach(accumulator::accept);
+    }
+
+    /**
+     * 보관된 commentThreads 응답으로 댓글 목록 재구성 (YouTube 호출 없음)
+     * 가장 최근 수집의 첫 페이지부터 nextPageToken을 따라, 같은 수집에서 이어 받은 페이지를 차례로 읽는다.
+     */
+    public List<CommentData> replayComments(String apiVideoId) {
+        List<CommentData> comments = new ArrayList<>();
+        Set<String> seenIds = new HashSet<>();
+        int pageCount = 0;
+
+        Optional<ResponseArchive.ArchivedResponse> archived =
+                responseArchive.latest(YouTubeEndpoint.COMMENT_THREADS, apiVideoId, "relevance", null);
+        try {
+            while (archived.isPresent() && comments.size() < MAX_TOTAL_COMMENTS) {
+                CommentThreadsPage page = commentThreadsPageDecoder.decode(new ByteArrayInputStream(archived.get().body()));
+                pageCount++;
+
+                for (CommentData comment : page.comments()) {
+                    if (comments.size() < MAX_TOTAL_COMMENTS && seenIds.add(comment.id())) {
+                        comments.add(comment);
+                    }
+                }
+
+                if (!isValidPageToken(page.nextPageToken())) {
+                    break;
+                }
+                archived = responseArchive.earliestSince(YouTubeEndpoint.COMMENT_THREADS, apiVideoId, "relevance",
+                        page.nextPageToken(), archived.get().fetchedAt());
+            }
+        } catch (IOException e) {
+            log.warn("보관된 댓글 응답 디코딩 실패: apiVideoId={}, error={}", apiVideoId, e.getMessage());
+        }
+
+        log.info("보관된 댓글 재구성: apiVideoId={}, 페이지={}, 댓글 수={}", apiVideoId, pageCount, comments.size());
+        return comments;
+    }
+
+    /**
+     * 마지막 수집 이후 새로 달린 댓글만 가져오기 (증분 갱신)
+     * 최신순으로 페이지를 넘기다가 이미 저장된 댓글이나 마지막 수집 시각 이전 댓글을 만나면 멈춘다.
+     * 요청 페이지 수가 저장된 댓글 수가 아니라 새 댓글 수에 비례한다.
+     *
+     * @param knownCommentIds 이미 저장된 apiCommentId
+     * @param syncedAt        마지막 댓글 수집 시각 (이보다 오래된 댓글은 이미 수집 대상이었음)
+     * @return 새 댓글 (최신순) + 도중에 다시 본 기존 댓글의 최신 좋아요 수
+     */
+    public CommentDelta fetchNewComments(String apiVideoId, Set<String> knownCommentIds, Instant syncedAt) {
+        if (videoNegativeCache.commentsUnavailable(apiVideoId).isPresent()) {
+            log.info("댓글이 비활성화된 영상, 증분 갱신 생략: apiVideoId={}", apiVideoId);
+            return new CommentDelta(List.of(), Map.of());
+        }
+
+        List<CommentData> newComments = new ArrayList<>();
+        Map<String, Integer> likeCounts = new HashMap<>();
+        Set<String> seenIds = new HashSet<>();
+        String pageToken = null;
+        int pageCount = 0;
+
+        try {
+            while (newComments.size() < MAX_TOTAL_COMMENTS) {
+                CommentThreadsPage page = youTubeApiClient.get(buildCommentRequest(apiVideoId, pageToken, "time"),
+                        response -> commentThreadsPageDecoder.decode(response.getBody()));
+                pageCount++;
+
+                if (page == null || page.comments().isEmpty()) {
+                    break;
+                }
+
+                boolean reachedKnown = false;
+                for (CommentData comment : page.comments()) {
+                    if (knownCommentIds.contains(comment.id())) {
+                        // 기준점 도달 - 같은 페이지의 기존 댓글은 좋아요 수만 갱신
+                        likeCounts.put(comment.id(), comment.likeCount());
+                        reachedKnown = true;
+                        continue;
+                    }
+                    if (reachedKnown || isPublishedBefore(comment, syncedAt)) {
+                        reachedKnown = true;
+                        continue;
+                    }
+                    if (newComments.size() < MAX_TOTAL_COMMENTS && seenIds.add(comment.id())) {
+                        newComments.add(comment);
+                    }
+                }
+
+                if (reachedKnown || !isValidPageToken(page.nextPageToken())) {
+                    break;
+                }
+                pageToken = page.nextPageToken();
+            }
+
+        } catch (HttpClientErrorException.Forbidden e) {
+            if (e.getResponseBodyAsString().contains("commentsDisabled")) {
+                log.info("댓글이 비활성화된 영상, 증분 갱신 생략: apiVideoId={}", apiVideoId);
+                videoNegativeCache.record(apiVideoId, VideoNegativeCache.Reason.COMMENTS_DISABLED);
+                return new CommentDelta(List.of(), Map.of());
+            }
+            throw e;
+        } catch (Exception e) {
+            log.error("증분 댓글 수집 실패: apiVideoId={}, error={}", apiVideoId, e.getMessage());
+            throw new RuntimeException("증분 댓글 수집 중 오류 발생", e);
+        }
+
+        log.info("증분 댓글 수집 완료: apiVideoId={}, 페이지={}, 새 댓글={}, 좋아요 갱신={}",
+                apiVideoId, pageCount, newComments.size(), likeCounts.size());
+        return new CommentDelta(newComments, likeCounts);
+    }
+
+    /**
+     * 증분 수집 결과
+     *
+     * @param newComments 새로 달린 댓글
+     * @param likeCounts  기존 댓글 apiCommentId -> 최신 좋아요 수
+     */
+    public record CommentDelta(List<CommentData> newComments, Map<String, Integer> likeCounts) {
+    }
+
+    /**
+     * 비디오에 저장된 apiCommentId 조회
+     */
+    @Transactional(readOnly = true)
+    public Set<String> findApiCommentIds(Long videoId) {
+        return new HashSet<>(commentRepository.findApiCommentIdsByVideoId(videoId));
+    }
+
+    /**
+     * 기존 댓글 좋아요 수 일괄 갱신 (값이 바뀐 댓글만 UPDATE, JDBC 배치로 전송)
+     */
+    @Transactional
+    public void updateLikeCounts(Long videoId, Map<String, Integer> likeCounts) {
+        if (likeCounts.isEmpty()) {
+            return;
+        }
+
+        List<Comment> comments = commentRepository.findByVideoIdAndApiCommentIdIn(videoId, likeCounts.keySet());
+        int updated = 0;
+
+        for (Comment comment : comments) {
+            Integer likeCount = likeCounts.get(comment.getApiCommentId());
+            if (likeCount != null && !likeCount.equals(comment.getLikeCount())) {
+                comment.setLikeCount(likeCount);
+                updated++;
+            }
+        }
+
+        log.info("댓글 좋아요 수 갱신 완료: videoId={}, 대상={}, 변경={}", videoId, comments.size(), updated);
+    }
+
+    /**
+     * 증분 병합 후 비디오의 최상위 댓글을 MAX_TOTAL_COMMENTS개로 제한 (최신 댓글 우선, 잘린 댓글의 답글도 함께 삭제)
+     * 갱신할 때마다 댓글이 쌓이면 AI 요청과 응답 크기가 영상 나이에 비례해 커지므로 처음 수집 때와 같은 상한을 유지한다.
+     *
+     * @return 삭제한 댓글 수 (답글 포함)
+     */
+    @Transactional
+    public int trimToLimit(Long videoId) {
+        List<Comment> topLevel = new ArrayList<>(commentRepository.findByVideoIdAndParentApiCommentIdIsNull(videoId));
+        if (topLevel.size() <= MAX_TOTAL_COMMENTS) {
+            return 0;
         }
 
-        log.info("댓글 수집 완료: apiVideoId={}, 총 댓글 수={}", apiVideoId, allComments.size());
-        return allComments;
+        // writtenAt은 ISO-8601 (UTC) 문자열이라 문자열 순서가 시간 순서
+        topLevel.sort(Comparator.comparing(Comment::getWrittenAt, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+                .thenComparing(Comment::getId)
+                .reversed());
+        List<Comment> dropped = new ArrayList<>(topLevel.subList(MAX_TOTAL_COMMENTS, topLevel.size()));
+        Set<String> droppedIds = dropped.stream().map(Comment::getApiCommentId).collect(Collectors.toSet());
+        dropped.addAll(commentRepository.findByVideoIdAndParentApiCommentIdIn(videoId, droppedIds));
+
+        // 같은 트랜잭션에서 좋아요 수를 바꾼 댓글이 포함될 수 있으므로 일괄 쿼리 대신 엔티티 단위로 삭제 (JDBC 배치)
+        commentRepository.deleteAll(dropped);
+        log.info("댓글 수 제한 적용: videoId={}, 최상위 댓글={}, 삭제={}", videoId, topLevel.size(), dropped.size());
+        return dropped.size();
     }
 
     /**
@@ -105,14 +344,11 @@ public class CommentService {
         }
 
         // 관련도 순서 그대로 유지
-        List<CommentData> relevanceOrderedComments = new ArrayList<>(allComments);
+        CommentAnalyticsAccumulator accumulator = new CommentAnalyticsAccumulator();
+        allComments.forEach(accumulator::accept);
 
-        // 백엔드 분석 데이터 생성
-        Map<Integer, Integer> commentHistogram = analyzeCommentHistogram(relevanceOrderedComments);
-        Map<String, Integer> popularTimestamps = analyzePopularTimestamps(relevanceOrderedComments);
-
-        log.info("클라이언트용 댓글 처리 완료: 댓글 수={}", relevanceOrderedComments.size());
-        return new CommentApiResponse(commentHistogram, popularTimestamps, relevanceOrderedComments);
+        log.info("클라이언트용 댓글 처리 완료: 댓글 수={}", accumulator.size());
+        return accumulator.toResponse();
     }
 
     /**
@@ -123,7 +359,8 @@ public class CommentService {
             return new HashMap<>();
         }
 
-        Map<String, String> commentsForAI = new HashMap<>();
+        // 청크 분석 시 댓글 순서대로 나누도록 순서 유지
+        Map<String, String> commentsForAI = new LinkedHashMap<>();
 
         for (CommentData commentData : allComments) {
             commentsForAI.put(commentData.id(), commentData.commentText());
@@ -145,7 +382,14 @@ public class CommentService {
         log.info("댓글 DB 저장 시작: apiVideoId={}, 댓글수={}", video.getApiVideoId(), Objects.requireNonNull(comments).size());
 
         try {
+            // 댓글마다 exists 쿼리를 날리지 않고 한 번의 IN 쿼리로 중복 확인
+            Set<String> existingIds = comments.isEmpty()
+                    ? Set.of()
+                    : new HashSet<>(commentRepository.findExistingApiCommentIds(
+                            comments.stream().map(CommentData::id).collect(Collectors.toSet())));
+
             List<Comment> commentsToSave = comments.stream()
+                    .filter(commentData -> !existingIds.contains(commentData.id()))
                     .map(commentData -> Comment.builder()
                             .video(video)
                             .apiCommentId(commentData.id())
@@ -154,8 +398,8 @@ public class CommentService {
                             .sentimentType(null) // AI 분석 전이므로 null
                             .writer(commentData.authorName())
                             .writtenAt(commentData.publishedAt())
+                            .parentApiCommentId(commentData.parentId())
                             .build())
-                    .filter(comment -> !commentRepository.existsByApiCommentId(comment.getApiCommentId()))
                     .collect(Collectors.toList());
 
             List<Comment> savedComments = commentRepository.saveAll(commentsToSave);
@@ -176,16 +420,20 @@ public class CommentService {
     public void updateCommentsWithAnalysis(AIAnalysisResponse analysisResponse) {
         try {
             List<Comment> comments = commentRepository.findAllByVideoId(analysisResponse.videoId());
+            List<Comment> changed = new ArrayList<>();
 
+            // 감정이 바뀐 댓글만 갱신 (이전 결과를 재사용한 댓글은 쓰지 않음)
             for (Comment comment : comments) {
-                if (analysisResponse.sentimentComments().containsKey(comment.getApiCommentId())) {
-                    comment.setSentimentType(analysisResponse.sentimentComments().get(comment.getApiCommentId()));
+                SentimentType sentimentType = analysisResponse.sentimentComments().get(comment.getApiCommentId());
+                if (sentimentType != null && sentimentType != comment.getSentimentType()) {
+                    comment.setSentimentType(sentimentType);
+                    changed.add(comment);
                 }
             }
 
-            commentRepository.saveAll(comments);
-            log.info("댓글 감정 분석 결과 업데이트 완료: videoId={}, 업데이트된 댓글 수={}",
-                    analysisResponse.videoId(), comments.size());
+            commentRepository.saveAll(changed);
+            log.info("댓글 감정 분석 결과 업데이트 완료: videoId={}, 전체 댓글 수={}, 업데이트된 댓글 수={}",
+                    analysisResponse.videoId(), comments.size(), changed.size());
         } catch (Exception e) {
             log.error("댓글 감정 분석 업데이트 실패: videoId={}, error={}",
                     analysisResponse.videoId(), e.getMessage());
@@ -193,6 +441,18 @@ public class CommentService {
         }
     }
 
+    /**
+     * 이미 감정 분석된 댓글 (apiCommentId -> 감정)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, SentimentType> findClassifiedSentiments(Long videoId) {
+        Map<String, SentimentType> sentiments = new HashMap<>();
+        for (CommentRepository.CommentSentiment comment : commentRepository.findClassifiedSentimentsByVideoId(videoId)) {
+            sentiments.put(comment.getApiCommentId(), comment.getSentimentType());
+        }
+        return sentiments;
+    }
+
     /**
      * 비디오 ID로 댓글 삭제 (1일 지난 데이터 삭제 시 사용)
      */
@@ -221,7 +481,8 @@ public class CommentService {
                         comment.getCommentContent(),
                         comment.getLikeCount(),
                         comment.getSentimentType() != null ? comment.getSentimentType().name().toLowerCase() : null,
-                        comment.getWrittenAt()
+                        comment.getWrittenAt(),
+                        comment.getParentApiCommentId()
                 ))
                 .collect(Collectors.toList());
 
@@ -235,192 +496,136 @@ public class CommentService {
      * 시간대별 댓글 분포 분석
      */
     public Map<Integer, Integer> analyzeCommentHistogram(List<CommentData> comments) {
-        Map<Integer, Integer> hourlyCount = new HashMap<>();
-
-        // 0~23시 초기화
-        for (int i = 0; i < 24; i++) {
-            hourlyCount.put(i, 0);
-        }
-
-        ZoneId koreaZone = ZoneId.of("Asia/Seoul");
-
-        for (CommentData comment : comments) {
-            try {
-                String timeString = comment.publishedAt();
-                ZonedDateTime utcTime = ZonedDateTime.parse(timeString);
-                ZonedDateTime koreaTime = utcTime.withZoneSameInstant(koreaZone);
-
-                int hour = koreaTime.getHour();
-                hourlyCount.put(hour, hourlyCount.get(hour) + 1);
-
-            } catch (Exception e) {
-                log.warn("댓글 시간 파싱 실패: publishedAt={}, error={}",
-                        comment.publishedAt(), e.getMessage());
-            }
-        }
+        CommentAnalyticsAccumulator accumulator = new CommentAnalyticsAccumulator();
+        comments.forEach(accumulator::accept);
 
         log.info("시간대별 댓글 분포 분석 완료 (한국시간): 총 댓글 수={}", comments.size());
-        return hourlyCount;
+        return accumulator.histogram();
     }
 
     /**
      * 타임스탬프 언급 분석
      */
     public Map<String, Integer> analyzePopularTimestamps(List<CommentData> comments) {
-        Map<String, Integer> timestampCount = new HashMap<>();
-
         if (comments == null || comments.isEmpty()) {
             return new LinkedHashMap<>();
         }
 
-        for (CommentData comment : comments) {
-            Set<String> uniqueTimestamps = extractAllTimestamps(comment.commentText());
-
-            if (uniqueTimestamps.isEmpty()) {
-                continue;
-            }
-
-            for (String timestamp : uniqueTimestamps) {
-                timestampCount.merge(timestamp, 1, Integer::sum);
-            }
-        }
+        CommentAnalyticsAccumulator accumulator = new CommentAnalyticsAccumulator();
+        comments.forEach(accumulator::accept);
 
-        log.info("시간대 언급 분석 완료: 총 {}개의 서로 다른 시간대가 언급됨", timestampCount.size());
-
-        return timestampCount.entrySet().stream()
-                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
-                .limit(5)
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        Map.Entry::getValue,
-                        (e1, e2) -> e1,
-                        LinkedHashMap::new
-                ));
+        log.info("시간대 언급 분석 완료: 총 {}개의 서로 다른 시간대가 언급됨", accumulator.distinctTimestampCount());
+        return accumulator.popularTimestamps();
     }
 
-    private String buildApiUrl(String apiVideoId, String pageToken) {
-        UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(YOUTUBE_COMMENT_API_URL)
-                .queryParam("part", "snippet")
-                .queryParam("maxResults", MAX_RESULTS_PER_REQUEST)
-                .queryParam("textFormat", "plainText")
-                .queryParam("order", "relevance")
-                .queryParam("videoId", apiVideoId)
-                .queryParam("key", apiConfig.getKey());
+    /**
+     * 댓글 페이지 요청을 비동기로 시작
+     * 디코더가 nextPageToken을 읽는 즉시 다음 페이지 요청을 이어서 시작한다 (선요청).
+     * 재시도로 같은 페이지를 다시 디코딩해도 다음 페이지 요청은 한 번만 시작하고, 취소된 요청은 다음 페이지를 잇지 않는다.
+     */
+    private PageFetch startPageFetch(String apiVideoId, String pageToken, int pageNumber) {
+        AtomicReference<PageFetch> prefetched = new AtomicReference<>();
+        AtomicBoolean cancelled = new AtomicBoolean();
 
-        if (isValidPageToken(pageToken)) {
-            builder.queryParam("pageToken", pageToken);
-        }
+        CompletableFuture<CommentThreadsPage> page = CompletableFuture.supplyAsync(() -> {
+            if (cancelled.get()) {
+                return null;
+            }
+            return youTubeApiClient.get(buildCommentRequest(apiVideoId, pageToken),
+                    response -> commentThreadsPageDecoder.decode(response.getBody(), nextPageToken -> {
+                        if (cancelled.get() || prefetched.get() != null
+                                || pageNumber * MAX_RESULTS_PER_REQUEST >= MAX_TOTAL_COMMENTS
+                                || !isValidPageToken(nextPageToken)) {
+                            return;
+                        }
+                        PageFetch next = startPageFetch(apiVideoId, nextPageToken, pageNumber + 1);
+                        // 동시에 시작된 요청이 있거나 그사이 취소되었으면 방금 시작한 요청을 취소
+                        if (!prefetched.compareAndSet(null, next) || cancelled.get()) {
+                            next.cancel();
+                        }
+                    }));
+        }, commentFetchExecutor);
 
-        return builder.build(false).toUriString();
+        return new PageFetch(page, pageNumber, prefetched, cancelled);
     }
 
-    private String callYouTubeApi(String apiUrl) {
-        return restTemplate.getForObject(apiUrl, String.class);
+    /**
+     * 선요청된 다음 페이지가 있으면 그대로 쓰고, 없으면 (중복 제거로 페이지가 더 필요한 경우 등) 지금 요청
+     */
+    private PageFetch nextPageFetch(String apiVideoId, PageFetch current, CommentThreadsPage page) {
+        PageFetch prefetched = current.prefetched().get();
+        if (prefetched != null) {
+            return prefetched;
+        }
+        if (isValidPageToken(page.nextPageToken())) {
+            return startPageFetch(apiVideoId, page.nextPageToken(), current.pageNumber() + 1);
+        }
+        return null;
     }
 
-    private List<CommentData> parseCommentsFromJson(JsonNode itemsNode) {
-        List<CommentData> comments = new ArrayList<>();
-
-        for (JsonNode item : itemsNode) {
-            CommentData commentData = extractCommentData(item);
-            if (commentData != null) {
-                comments.add(commentData);
-            }
+    private static void cancelPrefetch(PageFetch fetch) {
+        if (fetch != null) {
+            fetch.cancel();
         }
-
-        return comments;
     }
 
-    private CommentData extractCommentData(JsonNode item) {
+    private CommentThreadsPage awaitPage(PageFetch fetch) {
         try {
-            JsonNode snippet = item.path("snippet");
-            if (snippet.isMissingNode()) {
-                return null;
-            }
-
-            JsonNode topLevelComment = snippet.path("topLevelComment");
-            if (topLevelComment.isMissingNode()) {
-                return null;
+            return fetch.page().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
-
-            JsonNode commentSnippet = topLevelComment.path("snippet");
-            if (commentSnippet.isMissingNode()) {
-                return null;
-            }
-
-            String commentId = topLevelComment.path("id").asText();
-            String authorName = commentSnippet.path("authorDisplayName").asText();
-            String commentText = commentSnippet.path("textDisplay").asText();
-            int likeCount = commentSnippet.path("likeCount").asInt(0);
-            String publishedAt = commentSnippet.path("publishedAt").asText();
-
-            String sentiment = null; // 초기값
-
-            return new CommentData(commentId, authorName, commentText, likeCount, sentiment, publishedAt);
-
-        } catch (Exception e) {
-            log.warn("댓글 파싱 실패: {}", e.getMessage());
-            return null;
+            throw e;
         }
     }
 
-    private Set<String> extractAllTimestamps(String commentText) {
-        Set<String> allTimestamps = new HashSet<>();
-
-        if (commentText == null || commentText.trim().isEmpty()) {
-            return allTimestamps;
-        }
-
-        // 시:분:초 패턴 처리
-        List<int[]> hourRanges = new ArrayList<>();
-        Matcher hourMatcher = CommentService.HOUR_PATTERN.matcher(commentText);
-
-        while (hourMatcher.find()) {
-            try {
-                int hours = Integer.parseInt(hourMatcher.group(1));
-                int minutes = Integer.parseInt(hourMatcher.group(2));
-                int seconds = Integer.parseInt(hourMatcher.group(3));
-
-                if (hours <= 23 && minutes <= 59 && seconds <= 59) {
-                    String timestamp = String.format("%d:%02d:%02d", hours, minutes, seconds);
-                    allTimestamps.add(timestamp);
-                    hourRanges.add(new int[]{hourMatcher.start(), hourMatcher.end()});
+    private record PageFetch(CompletableFuture<CommentThreadsPage> page, int pageNumber,
+                             AtomicReference<PageFetch> prefetched, AtomicBoolean cancelled) {
+
+        /**
+         * 이 요청과 이어서 선요청된 페이지들을 모두 취소 (이미 나간 HTTP 호출은 끝나도 다음 페이지를 잇지 않음)
+         */
+        void cancel() {
+            if (cancelled.compareAndSet(false, true)) {
+                page.cancel(false);
+                PageFetch next = prefetched.get();
+                if (next != null) {
+                    next.cancel();
                 }
-            } catch (NumberFormatException e) {
-                continue;
             }
         }
+    }
 
-        // 분:초 패턴 처리
-        Matcher minuteMatcher = CommentService.MINUTE_PATTERN.matcher(commentText);
+    private YouTubeRequest buildCommentRequest(String apiVideoId, String pageToken) {
+        return buildCommentRequest(apiVideoId, pageToken, "relevance");
+    }
 
-        while (minuteMatcher.find()) {
-            try {
-                int minutes = Integer.parseInt(minuteMatcher.group(1));
-                int seconds = Integer.parseInt(minuteMatcher.group(2));
+    private YouTubeRequest buildCommentRequest(String apiVideoId, String pageToken, String order) {
+        YouTubeRequest request = YouTubeRequest.of(YouTubeEndpoint.COMMENT_THREADS)
+                .param("part", "snippet")
+                .param("maxResults", MAX_RESULTS_PER_REQUEST)
+                .param("textFormat", "plainText")
+                .param("order", order)
+                .param("videoId", apiVideoId)
+                .param("fields", CommentThreadsPageDecoder.FIELDS);
 
-                if (minutes <= 99 && seconds <= 59) {
-                    int start = minuteMatcher.start();
-                    int end = minuteMatcher.end();
+        if (isValidPageToken(pageToken)) {
+            request.param("pageToken", pageToken);
+        }
 
-                    boolean isOverlapping = false;
-                    for (int[] range : hourRanges) {
-                        if (!(end <= range[0] || start >= range[1])) {
-                            isOverlapping = true;
-                            break;
-                        }
-                    }
+        return request;
+    }
 
-                    if (!isOverlapping) {
-                        allTimestamps.add(minuteMatcher.group());
-                    }
-                }
-            } catch (NumberFormatException e) {
-                continue;
-            }
+    private boolean isPublishedBefore(CommentData comment, Instant syncedAt) {
+        if (syncedAt == null) {
+            return false;
+        }
+        try {
+            return Instant.parse(comment.publishedAt()).isBefore(syncedAt);
+        } catch (Exception e) {
+            return false;
         }
-
-        return allTimestamps;
     }
 
     private boolean isValidPageToken(String pageToken) {
@@ -7,6 +7,7 @@ import com.knu.sosuso.capstone.dto.response.detail.DetailCommentDto;
 import com.knu.sosuso.capstone.dto.response.detail.DetailPageResponse;
 import com.knu.sosuso.capstone.dto.response.favorite_channel.CancelFavoriteChannelResponse;
 import com.knu.sosuso.capstone.dto.response.favorite_channel.FavoriteChannelListResponse;
+import com.knu.sosuso.capstone.dto.response.favorite_channel.FavoriteLatestVideoResponse;
 import com.knu.sosuso.capstone.dto.response.favorite_channel.FavoriteVideoInfoResponse;
 import com.knu.sosuso.capstone.dto.response.favorite_channel.RegisterFavoriteChannelResponse;
 import com.knu.sosuso.capstone.exception.BusinessException;
@@ -15,6 +16,8 @@ import com.knu.sosuso.capstone.exception.error.FavoriteChannelError;
 import com.knu.sosuso.capstone.repository.FavoriteChannelRepository;
 import com.knu.sosuso.capstone.repository.UserRepository;
 import com.knu.sosuso.capstone.security.jwt.JwtUtil;
+import com.knu.sosuso.capstone.youtube.quota.QuotaCaller;
+import com.knu.sosuso.capstone.youtube.quota.QuotaContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,6 +25,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -107,14 +111,36 @@ public class FavoriteChannelService {
         return new CancelFavoriteChannelResponse(favoriteChannelId);
     }
 
-    @Transactional
-    public FavoriteVideoInfoResponse processLatestVideoFromFavoriteChannel(String token, String apiChannelId){
+    /**
+     * 관심 채널 전체의 최근 영상 ID 일괄 조회 (영상 분석 없이 ID만)
+     * 관심 채널이 많은 사용자도 channels.list 몇 번 + 채널별 playlistItems 1단위로 끝난다.
+     */
+    public List<FavoriteLatestVideoResponse> getLatestVideosOfFavoriteChannels(String token) {
+        List<FavoriteChannelListResponse> favoriteChannelList = getFavoriteChannelList(token);
+
+        try (QuotaContext.Scope ignored = QuotaContext.open(QuotaCaller.FAVORITES)) {
+            Map<String, String> latestVideoIds = channelService.getLatestApiVideoIds(
+                    favoriteChannelList.stream().map(FavoriteChannelListResponse::apiChannelId).toList());
+
+            List<FavoriteLatestVideoResponse> responses = new ArrayList<>();
+            for (FavoriteChannelListResponse favoriteChannel : favoriteChannelList) {
+                responses.add(new FavoriteLatestVideoResponse(
+                        favoriteChannel.favoriteChannelId(),
+                        favoriteChannel.apiChannelId(),
+                        latestVideoIds.get(favoriteChannel.apiChannelId())));
+            }
+            return responses;
+        }
+    }
 
-        String latestApiVideoId = channelService.getlatestApiVideoId(apiChannelId);
+    public FavoriteVideoInfoResponse processLatestVideoFromFavoriteChannel(String token, String apiChannelId){
+        try (QuotaContext.Scope ignored = QuotaContext.open(QuotaCaller.FAVORITES)) {
+            String latestApiVideoId = channelService.getlatestApiVideoId(apiChannelId);
 
-        DetailPageResponse response = videoProcessingService.processVideoToSearchResult(token, latestApiVideoId, true);
+            DetailPageResponse response = videoProcessingService.processVideoToSearchResult(token, latestApiVideoId, true);
 
-        return convertToVideoSummaryFavoriteResponse(response);
+            return convertToVideoSummaryFavoriteResponse(response);
+        }
     }
 
 
@@ -12,7 +12,6 @@ import com.knu.sosuso.capstone.security.jwt.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
@@ -31,7 +30,6 @@ public class MainPageService {
     private final FavoriteChannelRepository favoriteChannelRepository;
     private final JwtUtil jwtUtil;
 
-    @Transactional
     public MainPageResponse getMainPageData(String token) {
         log.info("메인 페이지 데이터 조회 시작");
 
@@ -51,7 +49,6 @@ public class MainPageService {
     }
 
     // 인증된 사용자용 메인 페이지 데이터
-    @Transactional
     public MainPageResponse getAuthenticatedMainPageData(String token) {
         log.info("인증된 사용자 메인 페이지 데이터 조회");
 
@@ -75,7 +72,6 @@ public class MainPageService {
     }
 
     // 비인증 사용자용 메인 페이지 데이터
-    @Transactional
     public MainPageResponse getGuestMainPageData() {
         log.info("비인증 사용자 메인 페이지 데이터 조회");
 
@@ -94,7 +90,6 @@ public class MainPageService {
     }
 
     // 트렌딩 비디오는 토큰 없이도 조회 가능하도록 오버로드
-    @Transactional
     public List<VideoSummaryResponse> getTrendingVideos() {
         return getTrendingVideos(null);
     }
@@ -111,7 +106,6 @@ public class MainPageService {
     /**
      * 스크랩된 비디오 목록 조회 (최대 3개)
      */
-    @Transactional
     public List<VideoSummaryResponse> getScrapVideos(String token) {
         try {
             List<VideoSummaryResponse> allScrapVideos = scrapService.getScrappedVideos(token);
@@ -132,7 +126,6 @@ public class MainPageService {
     /**
      * 트렌딩 비디오 목록 조회 (최대 3개)
      */
-    @Transactional
     public List<VideoSummaryResponse> getTrendingVideos(String token) {
         try {
             List<VideoSummaryResponse> trendingVideos = trendingService.getTrendingVideoWithComments(token, "latest", 3);
@@ -148,7 +141,6 @@ public class MainPageService {
     /**
      * 즐겨찾기 채널 응답 생성
      */
-    @Transactional
     public MainPageResponse.FavoriteChannelResponse getFavoriteChannelResponse(String token) {
         if (!jwtUtil.isValidToken(token)) {
             throw new BusinessException(AuthenticationError.INVALID_TOKEN);
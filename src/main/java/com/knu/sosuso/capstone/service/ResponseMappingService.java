@@ -35,31 +35,30 @@ public class ResponseMappingService {
      * YouTube API 데이터를 SearchResultResponse로 변환 (새로운 데이터)
      */
     public DetailPageResponse mapToSearchResult(
-            String token,
             VideoApiResponse videoInfo,
             CommentApiResponse commentInfo,
             AIAnalysisResponse analysisResponse) {
 
-        DetailVideoDto video = mapToVideoResponse(token, videoInfo);
-        DetailChannelDto channel = mapToChannelResponse(token, videoInfo);
+        DetailVideoDto video = mapToVideoResponse(videoInfo);
+        DetailChannelDto channel = mapToChannelResponse(videoInfo);
         DetailAnalysisDto analysis = mapToAnalysisResponse(commentInfo, analysisResponse);
         List<DetailCommentDto> comments = mapToCommentResponses(commentInfo.allComments(), analysisResponse);
 
-        return new DetailPageResponse(video, channel, analysis, comments);
+        return new DetailPageResponse(video, channel, analysis, comments, null);
     }
 
     /**
      * DB 데이터를 SearchResultResponse로 변환 (기존 데이터)
      */
     @Transactional
-    public DetailPageResponse mapFromDbToSearchResult(String token, Video video) {
+    public DetailPageResponse mapFromDbToSearchResult(Video video) {
         try {
-            DetailVideoDto detailVideoDto = mapDbVideoToVideoResponse(token, video);
-            DetailChannelDto detailChannelDto = mapDbVideoToChannelResponse(token, video);
+            DetailVideoDto detailVideoDto = mapDbVideoToVideoResponse(video);
+            DetailChannelDto detailChannelDto = mapDbVideoToChannelResponse(video);
             DetailAnalysisDto detailAnalysisDto = mapDbVideoToAnalysisResponse(video);
             List<DetailCommentDto> detailCommentDtos = mapDbCommentsToCommentResponses(video.getId());
 
-            return new DetailPageResponse(detailVideoDto, detailChannelDto, detailAnalysisDto, detailCommentDtos);
+            return new DetailPageResponse(detailVideoDto, detailChannelDto, detailAnalysisDto, detailCommentDtos, null);
 
         } catch (Exception e) {
             log.error("DB 데이터 매핑 실패: videoId={}, error={}", video.getId(), e.getMessage());
@@ -68,11 +67,40 @@ public class ResponseMappingService {
     }
 
     /**
-     * VideoApiResponse -> VideoResponse 변환
+     * 공용 응답에 요청 사용자 정보(scrapId, favoriteChannelId) 적용
+     * 파이프라인 결과는 사용자와 무관하게 공유되므로, 사용자별 정보는 응답 직전에 덧씌운다.
      */
-    public DetailVideoDto mapToVideoResponse(String token, VideoApiResponse videoInfo) {
-        Long scrapId = userDataService.getUserScrapId(token, videoInfo.apiVideoId());
+    public DetailPageResponse applyUserData(String token, DetailPageResponse response) {
+        DetailVideoDto video = response.video();
+        DetailChannelDto channel = response.channel();
+
+        DetailVideoDto userVideo = new DetailVideoDto(
+                video.id(),
+                video.title(),
+                video.description(),
+                video.publishedAt(),
+                video.thumbnailUrl(),
+                video.viewCount(),
+                video.likeCount(),
+                video.commentCount(),
+                userDataService.getUserScrapId(token, video.id())
+        );
+
+        DetailChannelDto userChannel = new DetailChannelDto(
+                channel.id(),
+                channel.title(),
+                channel.thumbnailUrl(),
+                channel.subscriberCount(),
+                userDataService.getUserFavoriteChannelId(token, channel.id())
+        );
+
+        return new DetailPageResponse(userVideo, userChannel, response.analysis(), response.comments(), response.analysisStatus());
+    }
 
+    /**
+     * VideoApiResponse -> VideoResponse 변환 (사용자 정보 제외)
+     */
+    public DetailVideoDto mapToVideoResponse(VideoApiResponse videoInfo) {
         return new DetailVideoDto(
                 videoInfo.apiVideoId(),
                 videoInfo.title(),
@@ -82,31 +110,27 @@ public class ResponseMappingService {
                 parseLong(videoInfo.viewCount()),
                 parseLong(videoInfo.likeCount()),
                 parseInt(videoInfo.commentCount()),
-                scrapId
+                null
         );
     }
 
     /**
-     * VideoApiResponse -> ChannelResponse 변환
+     * VideoApiResponse -> ChannelResponse 변환 (사용자 정보 제외)
      */
-    public DetailChannelDto mapToChannelResponse(String token, VideoApiResponse videoInfo) {
-        Long favoriteChannelId = userDataService.getUserFavoriteChannelId(token, videoInfo.channelId());
-
+    public DetailChannelDto mapToChannelResponse(VideoApiResponse videoInfo) {
         return new DetailChannelDto(
                 videoInfo.channelId(),
                 videoInfo.channelTitle(),
                 videoInfo.channelThumbnailUrl(),
                 parseLong(videoInfo.subscriberCount()),
-                favoriteChannelId
+                null
         );
     }
 
     /**
-     * DB Video -> VideoResponse 변환
+     * DB Video -> VideoResponse 변환 (사용자 정보 제외)
      */
-    private DetailVideoDto mapDbVideoToVideoResponse(String token, Video video) {
-        Long scrapId = userDataService.getUserScrapId(token, video.getApiVideoId());
-
+    private DetailVideoDto mapDbVideoToVideoResponse(Video video) {
         return new DetailVideoDto(
                 video.getApiVideoId(),
                 video.getTitle(),
@@ -116,22 +140,20 @@ public class ResponseMappingService {
                 parseLong(video.getViewCount()),
                 parseLong(video.getLikeCount()),
                 parseInt(video.getCommentCount()),
-                scrapId
+                null
         );
     }
 
     /**
-     * DB Video -> ChannelResponse 변환
+     * DB Video -> ChannelResponse 변환 (사용자 정보 제외)
      */
-    private DetailChannelDto mapDbVideoToChannelResponse(String token, Video video) {
-        Long favoriteChannelId = userDataService.getUserFavoriteChannelId(token, video.getChannelId());
-
+    private DetailChannelDto mapDbVideoToChannelResponse(Video video) {
         return new DetailChannelDto(
                 video.getChannelId(),
                 video.getChannelName(),
                 video.getChannelThumbnailUrl(),
                 parseLong(video.getSubscriberCount()),
-                favoriteChannelId
+                null
         );
     }
 
@@ -244,6 +266,19 @@ public class ResponseMappingService {
         }
     }
 
+    /**
+     * DB 댓글별 감정 분석 결과 (apiCommentId -> 감정, 분석되지 않은 댓글은 제외)
+     */
+    public Map<String, String> mapDbCommentSentiments(Long videoId) {
+        Map<String, String> sentiments = new HashMap<>();
+        for (Comment comment : commentRepository.findByVideoIdOrderByIdAsc(videoId)) {
+            if (comment.getSentimentType() != null) {
+                sentiments.put(comment.getApiCommentId(), comment.getSentimentType().name().toUpperCase());
+            }
+        }
+        return sentiments;
+    }
+
     /**
      * 댓글 리스트 변환 (관련도 순서 유지)
      */
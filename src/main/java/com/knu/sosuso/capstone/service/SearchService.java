@@ -1,12 +1,14 @@
 package com.knu.sosuso.capstone.service;
 
 import com.knu.sosuso.capstone.dto.response.detail.DetailPageResponse;
+import com.knu.sosuso.capstone.dto.response.search.ChannelAutocompleteResponse;
 import com.knu.sosuso.capstone.dto.response.search.SearchApiResponse;
 import com.knu.sosuso.capstone.dto.response.search.ChannelSearchResponse;
+import com.knu.sosuso.capstone.youtube.quota.QuotaCaller;
+import com.knu.sosuso.capstone.youtube.quota.QuotaContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -20,7 +22,6 @@ public class SearchService {
     private final VideoProcessingService videoProcessingService;
 
     // 1. 검색어 입력
-    @Transactional
     public SearchApiResponse<?> search(String token, String query) {
         if (query == null || query.trim().isEmpty()) {
             throw new IllegalArgumentException("검색어는 필수입니다");
@@ -31,7 +32,7 @@ public class SearchService {
 
         // 2. URL or 채널 구분
         // -> URL이면 영상 정보 추출 메서드 호출
-        try {
+        try (QuotaContext.Scope ignored = QuotaContext.open(QuotaCaller.SEARCH)) {
             if (isVideoUrl(trimmedQuery)) {
                 DetailPageResponse videoResult = searchVideo(token, trimmedQuery);
                 return new SearchApiResponse<>("URL", List.of(videoResult));
@@ -45,6 +46,11 @@ public class SearchService {
         }
     }
 
+    // 채널 자동완성 (로컬 채널 디렉터리만 조회하므로 할당량을 쓰지 않음)
+    public ChannelAutocompleteResponse autocompleteChannels(String query, Integer limit) {
+        return channelService.autocompleteChannels(query, limit);
+    }
+
     // 3. 영상 정보 가져옴
     private DetailPageResponse searchVideo(String token, String videoUrl) {
         String apiVideoId = videoService.extractVideoId(videoUrl);
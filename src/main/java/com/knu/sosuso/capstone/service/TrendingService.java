@@ -2,14 +2,17 @@ package com.knu.sosuso.capstone.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.knu.sosuso.capstone.config.ApiConfig;
+import com.knu.sosuso.capstone.dto.response.VideoApiResponse;
 import com.knu.sosuso.capstone.dto.response.VideoSummaryResponse;
 import com.knu.sosuso.capstone.dto.response.detail.DetailPageResponse;
+import com.knu.sosuso.capstone.youtube.client.YouTubeApiClient;
+import com.knu.sosuso.capstone.youtube.client.YouTubeEndpoint;
+import com.knu.sosuso.capstone.youtube.client.YouTubeRequest;
+import com.knu.sosuso.capstone.youtube.quota.QuotaCaller;
+import com.knu.sosuso.capstone.youtube.quota.QuotaContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -18,33 +21,32 @@ import java.util.List;
 @Slf4j
 @RequiredArgsConstructor
 public class TrendingService {
-    private static final String YOUTUBE_VIDEOS_API_URL = "https://www.googleapis.com/youtube/v3/videos";
-
     private final VideoProcessingService videoProcessingService;
-    private final ApiConfig config;
-    private final RestTemplate restTemplate;
+    private final VideoService videoService;
+    private final YouTubeApiClient youTubeApiClient;
     private final ObjectMapper objectMapper;
 
     public List<VideoSummaryResponse> getTrendingVideoWithComments(String token, String categoryType, int maxResults) {
         log.info("인기급상승 영상 조회 시작: categoryType={}, maxResults={}", categoryType, maxResults);
 
-        try {
+        try (QuotaContext.Scope ignored = QuotaContext.open(QuotaCaller.TRENDING)) {
             String categoryId = getCategoryId(categoryType);
-            List<String> videoIds = fetchTrendingVideoIds(categoryId, maxResults);
+            List<VideoApiResponse> videos = fetchTrendingVideos(categoryId, maxResults);
 
-            if (videoIds.isEmpty()) {
+            if (videos.isEmpty()) {
                 log.warn("인기급상승 영상이 없습니다: categoryType={}", categoryType);
                 return new ArrayList<>();
             }
 
             List<VideoSummaryResponse> results = new ArrayList<>();
 
-            for (String videoId : videoIds) {
+            for (VideoApiResponse video : videos) {
+                String videoId = video.apiVideoId();
                 try {
                     log.debug("비디오 전체 처리 시작: apiVideoId={}", videoId);
 
-                    // 전체 처리 과정: 영상정보 + 댓글수집 + AI분석 + DB저장
-                    DetailPageResponse detailResponse = videoProcessingService.processVideoToSearchResult(token, videoId, true);
+                    // 전체 처리 과정: 댓글수집 + AI분석 + DB저장 (영상/채널 정보는 목록 조회 시 받아둔 것 사용)
+                    DetailPageResponse detailResponse = videoProcessingService.processVideoToSearchResult(token, video, true);
 
                     if (detailResponse != null) {
                         // 처리된 결과에서 VideoSummaryResponse로 변환
@@ -61,7 +63,7 @@ public class TrendingService {
                 }
             }
 
-            log.info("인기급상승 영상 조회 완료: 요청={}, 성공={}", videoIds.size(), results.size());
+            log.info("인기급상승 영상 조회 완료: 요청={}, 성공={}", videos.size(), results.size());
             return results;
 
         } catch (Exception e) {
@@ -130,45 +132,40 @@ public class TrendingService {
         };
     }
 
-    private List<String> fetchTrendingVideoIds(String categoryId, int maxResults) {
+    /**
+     * 인기급상승 목록을 영상/채널 정보까지 채워서 조회
+     * videos.list(chart) 한 번 + channels.list(캐시 미스만, 최대 50개씩 묶음)로 끝난다.
+     */
+    private List<VideoApiResponse> fetchTrendingVideos(String categoryId, int maxResults) {
         try {
-            String apiUrl = buildTrendingApiUrl(categoryId, maxResults);
-            log.debug("인기급상승 API 호출: {}", apiUrl);
-
-            String jsonResponse = restTemplate.getForObject(apiUrl, String.class);
-            JsonNode rootNode = objectMapper.readTree(jsonResponse);
+            YouTubeRequest request = buildTrendingRequest(categoryId, maxResults);
+            log.debug("인기급상승 API 호출: categoryId={}", categoryId);
 
-            List<String> videoIds = new ArrayList<>();
-            JsonNode itemsNode = rootNode.path("items");
+            String jsonResponse = youTubeApiClient.get(request);
+            JsonNode itemsNode = objectMapper.readTree(jsonResponse).path("items");
 
-            if (itemsNode.isArray()) {
-                for (JsonNode item : itemsNode) {
-                    String videoId = item.path("id").asText();
-                    if (!videoId.isEmpty()) {
-                        videoIds.add(videoId);
-                    }
-                }
+            if (!itemsNode.isArray()) {
+                return new ArrayList<>();
             }
 
-            log.info("인기급상승 비디오 ID 조회 완료: 개수={}", videoIds.size());
-            return videoIds;
+            List<VideoApiResponse> videos = videoService.buildVideoResponses(itemsNode);
+
+            log.info("인기급상승 비디오 조회 완료: 개수={}", videos.size());
+            return videos;
         } catch (Exception e) {
-            log.error("인기급상승 비디오 ID 조회 실패: categoryId={}, error={}", categoryId, e.getMessage(), e);
+            log.error("인기급상승 비디오 조회 실패: categoryId={}, error={}", categoryId, e.getMessage(), e);
             throw new RuntimeException("인기급상승 목록을 가져올 수 없습니다", e);
         }
     }
 
-    private String buildTrendingApiUrl(String categoryId, int maxResults) {
-        UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(YOUTUBE_VIDEOS_API_URL)
-                .queryParam("part", "id")
-                .queryParam("chart", "mostPopular")
-                .queryParam("regionCode", "KR")
-                .queryParam("maxResults", Math.min(maxResults, 30))  // YouTube API 제한
-                .queryParam("key", config.getKey());
-
-        builder.queryParam("videoCategoryId", categoryId);
-
-        return builder.build(false).toUriString();
+    private YouTubeRequest buildTrendingRequest(String categoryId, int maxResults) {
+        return YouTubeRequest.of(YouTubeEndpoint.VIDEOS)
+                .param("part", "snippet,statistics")
+                .param("chart", "mostPopular")
+                .param("regionCode", "KR")
+                .param("maxResults", Math.min(maxResults, 30))  // YouTube API 제한
+                .param("videoCategoryId", categoryId)
+                .param("hl", "ko");
     }
 
 }
@@ -9,7 +9,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -61,4 +64,25 @@ public class UserDataService {
             return null;
         }
     }
+
+    /**
+     * 여러 채널에 대한 사용자의 관심 채널 ID 일괄 조회 (한 번의 IN 쿼리)
+     * @param token 사용자 토큰 (nullable)
+     * @param apiChannelIds 채널 ID 목록
+     * @return 채널 ID -> 관심 채널 ID (관심 채널이 아니면 없음)
+     */
+    public Map<String, Long> getUserFavoriteChannelIds(String token, Collection<String> apiChannelIds) {
+        if (token == null || !jwtUtil.isValidToken(token) || apiChannelIds.isEmpty()) {
+            return Map.of();
+        }
+
+        try {
+            Long userId = jwtUtil.getUserId(token);
+            return favoriteChannelRepository.findByUserIdAndApiChannelIdIn(userId, apiChannelIds).stream()
+                    .collect(Collectors.toMap(FavoriteChannel::getApiChannelId, FavoriteChannel::getId, (a, b) -> a));
+        } catch (Exception e) {
+            log.warn("관심 채널 ID 일괄 조회 실패: 채널 수={}, error={}", apiChannelIds.size(), e.getMessage());
+            return Map.of();
+        }
+    }
 }
@@ -1,23 +1,28 @@
 package com.knu.sosuso.capstone.service;
 
-import com.knu.sosuso.capstone.ai.dto.AIAnalysisRequest;
 import com.knu.sosuso.capstone.ai.dto.AIAnalysisResponse;
-import com.knu.sosuso.capstone.ai.service.AnalysisService;
-import com.knu.sosuso.capstone.domain.Comment;
+import com.knu.sosuso.capstone.config.VideoRefreshProperties;
 import com.knu.sosuso.capstone.domain.Video;
+import com.knu.sosuso.capstone.domain.value.AnalysisStatus;
 import com.knu.sosuso.capstone.dto.response.CommentApiResponse;
 import com.knu.sosuso.capstone.dto.response.VideoApiResponse;
 import com.knu.sosuso.capstone.dto.response.detail.DetailChannelDto;
 import com.knu.sosuso.capstone.dto.response.detail.DetailPageResponse;
 import com.knu.sosuso.capstone.dto.response.detail.DetailVideoDto;
 import com.knu.sosuso.capstone.repository.CommentRepository;
+import com.knu.sosuso.capstone.youtube.quota.QuotaLedger;
+import com.knu.sosuso.capstone.youtube.quota.QuotaLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -26,24 +31,84 @@ public class VideoProcessingService {
 
     private final VideoService videoService;
     private final CommentService commentService;
-    private final AnalysisService analysisService;
+    private final AIAnalysisJobService aiAnalysisJobService;
     private final ResponseMappingService responseMappingService;
     private final CommentRepository commentRepository;
+    private final QuotaLedger quotaLedger;
+    private final VideoRefreshProperties videoRefreshProperties;
+
+    /**
+     * 처리 중인 비디오별 공유 결과 (apiVideoId -> 진행 중인 처리)
+     * 같은 비디오에 대한 동시 요청은 하나의 수집/분석 결과를 기다린다 (Video 행이 중복 저장되지 않도록 비디오당 하나만 진행).
+     * prefetchedVideoInfo는 videos.list 호출을 줄이는 용도일 뿐 결과가 같으므로 구분하지 않는다.
+     */
+    private final ConcurrentMap<String, Flight> inFlightVideos = new ConcurrentHashMap<>();
+
+    /**
+     * 진행 중인 처리 (AI 분석 없이 시작했으면 합류한 AI 요청이 분석만 따로 맡김)
+     */
+    private record Flight(CompletableFuture<DetailPageResponse> result, boolean enableAIAnalysis) {
+    }
 
     /**
      * 비디오 완전 처리 (댓글 수집 + AI 분석 + DB 저장)
      * SearchService와 TrendingService에서 공통으로 사용
+     * 같은 apiVideoId로 동시에 들어온 요청은 한 번만 처리하고, 사용자 정보만 각자 적용한다.
      *
      * @param apiVideoId       비디오 ID
      * @param enableAIAnalysis AI 분석 수행 여부
      * @return 처리된 비디오 + 댓글 정보
      */
-    @Transactional
     public DetailPageResponse processVideoToSearchResult(String token, String apiVideoId, boolean enableAIAnalysis) {
+        return processVideoToSearchResult(token, apiVideoId, null, enableAIAnalysis);
+    }
+
+    /**
+     * 이미 조회한 비디오 정보로 처리 (TrendingService 등 목록 조회 단계에서 videos.list를 받아둔 경우)
+     * 새로 수집해야 할 때 videos.list / channels.list를 다시 호출하지 않고 댓글만 수집한다.
+     *
+     * @param prefetchedVideoInfo 미리 조회한 비디오 정보
+     */
+    public DetailPageResponse processVideoToSearchResult(String token, VideoApiResponse prefetchedVideoInfo, boolean enableAIAnalysis) {
+        return processVideoToSearchResult(token, prefetchedVideoInfo.apiVideoId(), prefetchedVideoInfo, enableAIAnalysis);
+    }
+
+    private DetailPageResponse processVideoToSearchResult(String token, String apiVideoId,
+                                                          VideoApiResponse prefetchedVideoInfo, boolean enableAIAnalysis) {
         if (apiVideoId == null || apiVideoId.trim().isEmpty()) {
             throw new IllegalArgumentException("비디오 ID는 필수입니다.");
         }
 
+        Flight flight = new Flight(new CompletableFuture<>(), enableAIAnalysis);
+        Flight inFlight = inFlightVideos.putIfAbsent(apiVideoId, flight);
+
+        if (inFlight != null) {
+            log.info("진행 중인 비디오 처리 결과 대기: apiVideoId={}", apiVideoId);
+            DetailPageResponse sharedResponse = awaitInFlight(inFlight.result());
+            if (enableAIAnalysis && !inFlight.enableAIAnalysis()) {
+                sharedResponse = requestAIAnalysisAfterJoin(apiVideoId, sharedResponse);
+            }
+            return responseMappingService.applyUserData(token, withAnalysisStatus(apiVideoId, sharedResponse));
+        }
+
+        try {
+            DetailPageResponse sharedResponse = processVideo(apiVideoId, prefetchedVideoInfo, enableAIAnalysis);
+            flight.result().complete(sharedResponse);
+            return responseMappingService.applyUserData(token, withAnalysisStatus(apiVideoId, sharedResponse));
+
+        } catch (RuntimeException e) {
+            flight.result().completeExceptionally(e);
+            throw e;
+
+        } finally {
+            inFlightVideos.remove(apiVideoId, flight);
+        }
+    }
+
+    /**
+     * 사용자와 무관한 공용 처리 결과 생성
+     */
+    private DetailPageResponse processVideo(String apiVideoId, VideoApiResponse prefetchedVideoInfo, boolean enableAIAnalysis) {
         try {
             log.info("비디오 처리 시작: apiVideoId={}, AI분석={}", apiVideoId, enableAIAnalysis);
 
@@ -51,10 +116,10 @@ public class VideoProcessingService {
 
             if (existingVideo.isPresent()) {
                 log.info("DB에서 기존 데이터 발견: apiVideoId={}", apiVideoId);
-                return handleExistingVideo(token, existingVideo.get(), apiVideoId, enableAIAnalysis);
+                return handleExistingVideo(existingVideo.get(), apiVideoId, prefetchedVideoInfo, enableAIAnalysis);
             } else {
                 log.info("새로운 데이터 - YouTube API에서 수집: apiVideoId={}", apiVideoId);
-                return handleNewVideo(token, apiVideoId, enableAIAnalysis);
+                return handleNewVideo(apiVideoId, prefetchedVideoInfo, enableAIAnalysis);
             }
 
         } catch (Exception e) {
@@ -63,20 +128,83 @@ public class VideoProcessingService {
         }
     }
 
+    /**
+     * AI 분석 없이 진행된 처리에 합류한 경우 저장이 끝난 비디오에 AI 분석만 요청
+     * 이미 완료되었거나 진행 중이면 다시 요청하지 않는다.
+     */
+    private DetailPageResponse requestAIAnalysisAfterJoin(String apiVideoId, DetailPageResponse sharedResponse) {
+        Optional<Video> video = videoService.findByApiVideoId(apiVideoId);
+        if (video.isEmpty() || !commentRepository.existsByVideoId(video.get().getId())) {
+            return sharedResponse;
+        }
+        return handleExistingVideoWithComments(video.get(), apiVideoId, true);
+    }
+
+    /**
+     * 다른 요청이 진행 중인 처리 결과 대기 (원래 예외를 그대로 전달)
+     */
+    private DetailPageResponse awaitInFlight(CompletableFuture<DetailPageResponse> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 응답 시점의 AI 분석 상태 적용 (백그라운드 분석이면 PENDING / RUNNING으로 먼저 응답)
+     * 댓글이 없어 분석 대상이 아닌 응답은 NONE을 유지한다.
+     */
+    private DetailPageResponse withAnalysisStatus(String apiVideoId, DetailPageResponse response) {
+        if (response.analysisStatus() != null) {
+            return response;
+        }
+        return response.withAnalysisStatus(aiAnalysisJobService.currentStatus(apiVideoId));
+    }
+
+    private VideoApiResponse resolveVideoInfo(String apiVideoId, VideoApiResponse prefetchedVideoInfo) {
+        if (prefetchedVideoInfo != null) {
+            return prefetchedVideoInfo;
+        }
+        return videoService.getVideoInfo(apiVideoId);
+    }
+
     /**
      * 기존 DB 데이터가 있는 경우 처리
      */
-    @Transactional
-    public DetailPageResponse handleExistingVideo(String token, Video existingVideo, String apiVideoId, boolean enableAIAnalysis) {
+    public DetailPageResponse handleExistingVideo(Video existingVideo, String apiVideoId,
+                                                  VideoApiResponse prefetchedVideoInfo, boolean enableAIAnalysis) {
 
-        LocalDateTime oneDayAgo = LocalDateTime.now().minusDays(1);  // 기준점 1일로 설정
-        boolean isWithinOneDay = existingVideo.getCreatedAt().isAfter(oneDayAgo);
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(videoRefreshProperties.getTtl());  // 기준점 1일
+        LocalDateTime lastRefreshedAt = existingVideo.getRefreshedAt() != null
+                ? existingVideo.getRefreshedAt() : existingVideo.getCreatedAt();
+        boolean isWithinOneDay = lastRefreshedAt.isAfter(expiredBefore);
 
         if (!isWithinOneDay) {
-            // 1일 지남 - 기존 데이터 삭제 후 새로 처리
-            log.info("1일 지난 데이터, 삭제 후 새로 처리: apiVideoId={}", apiVideoId);
-            videoService.deleteExistingData(existingVideo.getId());
-            return handleNewVideo(token, apiVideoId, enableAIAnalysis);
+            if (quotaLedger.isAtLeast(QuotaLevel.SERVE_STALE)) {
+                // 할당량 절약 - 1일 지났어도 기존 DB 데이터로 응답
+                log.info("할당량 절약, 1일 지난 DB 데이터로 응답: apiVideoId={}", apiVideoId);
+            } else {
+                // 1일 지남 - 통계 먼저 확인 (videos.list 1단위)
+                VideoApiResponse videoInfo = resolveVideoInfo(apiVideoId, prefetchedVideoInfo);
+
+                if (!isCommentCountChanged(existingVideo, videoInfo)) {
+                    // 댓글 수 변화 없음 - 댓글/AI 결과 유지, 통계만 갱신
+                    log.info("1일 지난 데이터, 댓글 수 변화 없음 - 통계만 갱신: apiVideoId={}", apiVideoId);
+                    existingVideo = videoService.refreshStatistics(existingVideo.getId(), videoInfo);
+                } else if (videoRefreshProperties.getMode() == VideoRefreshProperties.Mode.INCREMENTAL) {
+                    // 댓글 수 변화 - 새 댓글만 받아 기존 데이터에 병합
+                    log.info("1일 지난 데이터, 새 댓글만 수집 후 병합: apiVideoId={}", apiVideoId);
+                    return handleIncrementalRefresh(existingVideo, apiVideoId, videoInfo, enableAIAnalysis);
+                } else {
+                    // 댓글 수 변화 - 새로 수집한 뒤 기존 데이터 교체
+                    log.info("1일 지난 데이터, 새로 수집 후 교체: apiVideoId={}", apiVideoId);
+                    return handleExpiredVideo(existingVideo, apiVideoId, videoInfo, enableAIAnalysis);
+                }
+            }
         }
 
         // 1일 이내 - 댓글 유무 먼저 확인
@@ -84,88 +212,185 @@ public class VideoProcessingService {
 
         if (!hasComments) {
             // 댓글 없음 - YouTube API에서 댓글 수집 시도
-            return handleExistingVideoWithoutComments(token, existingVideo, apiVideoId, enableAIAnalysis);
+            return handleExistingVideoWithoutComments(existingVideo, apiVideoId, enableAIAnalysis);
 
         } else {
             // 댓글 있음 - AI 분석 상태 확인 (기존 로직)
-            return handleExistingVideoWithComments(token, existingVideo, apiVideoId, enableAIAnalysis);
+            return handleExistingVideoWithComments(existingVideo, apiVideoId, enableAIAnalysis);
+        }
+    }
+
+    /**
+     * 마지막 댓글 수집 이후 댓글 수가 설정값보다 많이 변했는지 확인
+     */
+    private boolean isCommentCountChanged(Video existingVideo, VideoApiResponse videoInfo) {
+        try {
+            long storedCount = Long.parseLong(existingVideo.getCommentCount());
+            long currentCount = Long.parseLong(videoInfo.commentCount());
+            long delta = Math.abs(currentCount - storedCount);
+
+            log.info("댓글 수 변화 확인: apiVideoId={}, 저장={}, 현재={}, 허용={}",
+                    videoInfo.apiVideoId(), storedCount, currentCount, videoRefreshProperties.getCommentCountDelta());
+            return delta > videoRefreshProperties.getCommentCountDelta();
+
+        } catch (NumberFormatException | NullPointerException e) {
+            // 비교할 수 없으면 새로 수집
+            return true;
         }
     }
 
+    /**
+     * 1일 지난 비디오 증분 갱신
+     * 최신순으로 기존에 저장된 댓글까지만 받아 병합하고, 새 댓글이 있을 때만 AI 분석을 다시 수행한다.
+     * 저장된 댓글이 없으면 전체 교체로 처리한다.
+     */
+    public DetailPageResponse handleIncrementalRefresh(Video existingVideo, String apiVideoId,
+                                                       VideoApiResponse videoInfo, boolean enableAIAnalysis) {
+        Set<String> knownCommentIds = commentService.findApiCommentIds(existingVideo.getId());
+        if (knownCommentIds.isEmpty()) {
+            return handleExpiredVideo(existingVideo, apiVideoId, videoInfo, enableAIAnalysis);
+        }
+
+        LocalDateTime syncedAt = existingVideo.getCommentsSyncedAt() != null
+                ? existingVideo.getCommentsSyncedAt() : existingVideo.getCreatedAt();
+
+        // 1. 새 댓글 수집 (트랜잭션 없음)
+        CommentService.CommentDelta delta = commentService.fetchNewComments(
+                apiVideoId, knownCommentIds, syncedAt.atZone(ZoneId.systemDefault()).toInstant());
+
+        // 2. 병합 저장 (짧은 쓰기 트랜잭션)
+        CommentApiResponse mergedComments = videoService.mergeNewComments(existingVideo.getId(), videoInfo, delta);
+
+        // 3. 새 댓글이 있을 때만 병합된 댓글로 AI 재분석 (없으면 기존 결과 유지)
+        AIAnalysisResponse aiAnalysisResponse = null;
+        if (!delta.newComments().isEmpty()) {
+            aiAnalysisResponse = tryAIAnalysisAndUpdate(apiVideoId, mergedComments.allComments(),
+                    existingVideo.getId(), enableAIAnalysis);
+        }
+
+        Video updatedVideo = videoService.findById(existingVideo.getId())
+                .orElseThrow(() -> new RuntimeException("업데이트된 비디오를 찾을 수 없습니다"));
+
+        log.info("증분 갱신 응답 생성 (새 댓글={}, AI 분석={}): apiVideoId={}", delta.newComments().size(),
+                aiAnalysisResponse != null ? "성공" : "유지", apiVideoId);
+
+        return responseMappingService.mapFromDbToSearchResult(updatedVideo);
+    }
+
+    /**
+     * 1일 지난 비디오 처리
+     * 수집이 끝난 뒤 삭제와 저장을 한 트랜잭션에서 수행하므로, 수집 실패 시 기존 데이터가 유지된다.
+     */
+    public DetailPageResponse handleExpiredVideo(Video existingVideo, String apiVideoId,
+                                                 VideoApiResponse prefetchedVideoInfo, boolean enableAIAnalysis) {
+        // 1. 수집 (트랜잭션 없음)
+        VideoApiResponse videoInfo = resolveVideoInfo(apiVideoId, prefetchedVideoInfo);
+        CommentApiResponse commentInfo = commentService.ingestComments(apiVideoId);
+        List<CommentApiResponse.CommentData> allComments = commentInfo.allComments();
+
+        if (allComments.isEmpty()) {
+            log.info("댓글이 없음, 기존 데이터 삭제 후 비디오 정보만 응답: apiVideoId={}", apiVideoId);
+            videoService.deleteExistingData(existingVideo.getId());
+            return createVideoOnlyResponse(videoInfo);
+        }
+
+        // 2. 교체 저장 (짧은 쓰기 트랜잭션)
+        Long videoId = videoService.replaceVideoAndComments(existingVideo.getId(), videoInfo, commentInfo);
+
+        // 3. AI 분석 (트랜잭션 없음) 후 결과 반영
+        AIAnalysisResponse aiAnalysisResponse = tryAIAnalysisAndUpdate(apiVideoId, allComments, videoId, enableAIAnalysis);
+
+        log.info("만료 데이터 교체 응답 생성 (AI 분석={}): apiVideoId={}",
+                aiResultLabel(aiAnalysisResponse), apiVideoId);
+
+        return responseMappingService.mapToSearchResult(videoInfo, commentInfo, aiAnalysisResponse);
+    }
+
     /**
      * 기존 비디오에 댓글이 없는 경우 처리
      */
-    @Transactional
-    public DetailPageResponse handleExistingVideoWithoutComments(String token, Video existingVideo, String apiVideoId, boolean enableAIAnalysis) {
+    public DetailPageResponse handleExistingVideoWithoutComments(Video existingVideo, String apiVideoId, boolean enableAIAnalysis) {
+        if (quotaLedger.isAtLeast(QuotaLevel.SKIP_COMMENT_REFRESH)) {
+            log.info("할당량 절약, 댓글 수집 생략 후 기존 비디오 정보로 응답: apiVideoId={}", apiVideoId);
+            return createVideoOnlyResponseFromDb(existingVideo);
+        }
+
         log.info("기존 데이터에 댓글 없음, 댓글 수집 시도: apiVideoId={}", apiVideoId);
         List<CommentApiResponse.CommentData> allComments = commentService.fetchAllComments(apiVideoId);
 
         if (allComments.isEmpty()) {
             log.info("댓글 수집 시도 후에도 댓글 없음, 기존 비디오 정보로 응답: apiVideoId={}", apiVideoId);
-            return createVideoOnlyResponseFromDb(token, existingVideo);
+            return createVideoOnlyResponseFromDb(existingVideo);
         } else {
             log.info("새로운 댓글 발견, 분석 및 저장 진행: apiVideoId={}, 댓글수={}", apiVideoId, allComments.size());
-            return processCommentsForExistingVideo(token, existingVideo, allComments, enableAIAnalysis);
+            return processCommentsForExistingVideo(existingVideo, allComments, enableAIAnalysis);
         }
     }
 
     /**
      * 기존 비디오에 댓글이 있는 경우 처리
      */
-    @Transactional
-    public DetailPageResponse handleExistingVideoWithComments(String token, Video existingVideo, String apiVideoId, boolean enableAIAnalysis) {
+    public DetailPageResponse handleExistingVideoWithComments(Video existingVideo, String apiVideoId, boolean enableAIAnalysis) {
         boolean isAICompleted = videoService.isAIAnalysisCompleted(existingVideo);
 
         if (isAICompleted) {
             log.info("AI 분석 완료된 DB 데이터로 응답: apiVideoId={}", apiVideoId);
-            return responseMappingService.mapFromDbToSearchResult(token, existingVideo);
+            return responseMappingService.mapFromDbToSearchResult(existingVideo);
+        } else if (aiAnalysisJobService.isInProgress(apiVideoId, existingVideo.getId())) {
+            log.info("AI 분석 진행 중, DB 데이터로 응답: apiVideoId={}", apiVideoId);
+            return responseMappingService.mapFromDbToSearchResult(existingVideo);
         } else if (enableAIAnalysis) {
             log.info("AI 분석 미완료, 재시도 (DB 데이터 + AI 재분석): apiVideoId={}", apiVideoId);
-            return retryAIAnalysisOnly(token, existingVideo, apiVideoId);
+            return retryAIAnalysisOnly(existingVideo, apiVideoId);
         } else {
             log.info("AI 분석 비활성화, DB 데이터로 응답: apiVideoId={}", apiVideoId);
-            return responseMappingService.mapFromDbToSearchResult(token, existingVideo);
+            return responseMappingService.mapFromDbToSearchResult(existingVideo);
         }
     }
 
     /**
      * 새로운 비디오 처리
+     * 수집 -> 저장 -> AI 분석 -> 결과 반영 순으로 진행하며, 트랜잭션은 저장/반영 단계에만 짧게 열린다.
      */
-    @Transactional
-    public DetailPageResponse handleNewVideo(String token, String apiVideoId, boolean enableAIAnalysis) {
+    public DetailPageResponse handleNewVideo(String apiVideoId, VideoApiResponse prefetchedVideoInfo, boolean enableAIAnalysis) {
 
         log.info("YouTube API에서 비디오 정보 수집 시작: apiVideoId={}", apiVideoId);
 
-        // 1. YouTube API로 영상 정보 가져오기
-        VideoApiResponse videoInfo = videoService.getVideoInfo(apiVideoId);
+        // 1. YouTube API로 영상 정보 가져오기 (미리 조회한 정보가 있으면 재사용)
+        VideoApiResponse videoInfo = resolveVideoInfo(apiVideoId, prefetchedVideoInfo);
         log.info("YouTube API - 비디오 정보 수집 완료: title={}", videoInfo.title());
 
-        // 2. 댓글 정보 가져오기
-        List<CommentApiResponse.CommentData> allComments = commentService.fetchAllComments(apiVideoId);
+        if (quotaLedger.isAtLeast(QuotaLevel.SKIP_COMMENT_REFRESH)) {
+            log.info("할당량 절약, 댓글 수집 생략 후 비디오 정보만 응답: apiVideoId={}", apiVideoId);
+            return createVideoOnlyResponse(videoInfo);
+        }
+
+        // 2. 댓글 정보 가져오기 (페이지 수집과 백엔드 분석이 함께 진행됨)
+        CommentApiResponse commentInfo = commentService.ingestComments(apiVideoId);
+        List<CommentApiResponse.CommentData> allComments = commentInfo.allComments();
         log.info("YouTube API - 댓글 수집 완료: 댓글 수={}", allComments.size());
 
         if (allComments.isEmpty()) {
             log.info("댓글이 없음, 비디오 정보만 응답 (YouTube API): apiVideoId={}", apiVideoId);
-            return createVideoOnlyResponse(token, videoInfo);
+            return createVideoOnlyResponse(videoInfo);
         }
 
-        // 댓글 수 업데이트
-        Long videoId = saveVideoAndCommentsToDb(videoInfo, allComments);
+        // 3. 저장
+        Long videoId = saveVideoAndCommentsToDb(videoInfo, commentInfo);
 
+        // 4. AI 분석 후 결과 반영
         AIAnalysisResponse aiAnalysisResponse = tryAIAnalysisAndUpdate(apiVideoId, allComments, videoId, enableAIAnalysis);
 
         log.info("최종 응답 생성 (YouTube API + 백엔드 분석 + AI 분석={}): apiVideoId={}",
-                aiAnalysisResponse != null ? "성공" : "실패", apiVideoId);
+                aiResultLabel(aiAnalysisResponse), apiVideoId);
 
-        CommentApiResponse commentInfo = commentService.processCommentsForClient(allComments);
-        return responseMappingService.mapToSearchResult(token, videoInfo, commentInfo, aiAnalysisResponse);
+        return responseMappingService.mapToSearchResult(videoInfo, commentInfo, aiAnalysisResponse);
     }
 
     /**
      * 기존 비디오에 새 댓글 처리
      */
-    @Transactional
-    public DetailPageResponse processCommentsForExistingVideo(String token, Video existingVideo, List<CommentApiResponse.CommentData> allComments, boolean enableAIAnalysis) {
+    public DetailPageResponse processCommentsForExistingVideo(Video existingVideo, List<CommentApiResponse.CommentData> allComments, boolean enableAIAnalysis) {
         try {
             processAndSaveCommentsForExistingVideo(existingVideo, allComments);
             AIAnalysisResponse aiAnalysisResponse = tryAIAnalysisAndUpdate(existingVideo.getApiVideoId(), allComments, existingVideo.getId(), enableAIAnalysis);
@@ -174,9 +399,9 @@ public class VideoProcessingService {
                     .orElseThrow(() -> new RuntimeException("업데이트된 비디오를 찾을 수 없습니다"));
 
             log.info("기존 비디오 최종 응답 생성 (새 댓글 + AI 분석={}): apiVideoId={}",
-                    aiAnalysisResponse != null ? "성공" : "실패", existingVideo.getApiVideoId());
+                    aiResultLabel(aiAnalysisResponse), existingVideo.getApiVideoId());
 
-            return responseMappingService.mapFromDbToSearchResult(token,updatedVideo);
+            return responseMappingService.mapFromDbToSearchResult(updatedVideo);
 
         } catch (Exception e) {
             log.error("기존 비디오 새 댓글 처리 실패: videoId={}, error={}", existingVideo.getId(), e.getMessage());
@@ -187,18 +412,15 @@ public class VideoProcessingService {
     /**
      * AI 분석만 재시도 (기존 DB 데이터 있는 경우)
      */
-    @Transactional
-    public DetailPageResponse retryAIAnalysisOnly(String token, Video existingVideo, String apiVideoId) {
-        List<Comment> existingComments = commentRepository.findAllByVideoId(existingVideo.getId());
+    public DetailPageResponse retryAIAnalysisOnly(Video existingVideo, String apiVideoId) {
+        List<CommentApiResponse.CommentData> allComments = commentService.getCommentsFromDb(existingVideo.getId()).allComments();
 
-        List<CommentApiResponse.CommentData> allComments;
-        if (existingComments.isEmpty()) {
+        if (allComments.isEmpty()) {
             log.info("DB에 댓글 없음, YouTube API에서 댓글 재수집: apiVideoId={}", apiVideoId);
             allComments = commentService.fetchAllComments(apiVideoId);
             processAndSaveCommentsForExistingVideo(existingVideo, allComments);
         } else {
-            log.info("DB에서 기존 댓글 사용: 댓글 수={}", existingComments.size());
-            allComments = commentService.fetchAllComments(apiVideoId);
+            log.info("DB에서 기존 댓글 사용: 댓글 수={}", allComments.size());
         }
 
         AIAnalysisResponse analysisResponse = tryAIAnalysisAndUpdate(apiVideoId, allComments, existingVideo.getId(), true);
@@ -207,9 +429,9 @@ public class VideoProcessingService {
                 .orElseThrow(() -> new RuntimeException("업데이트된 비디오를 찾을 수 없습니다"));
 
         log.info("최종 응답 생성 (DB 데이터 + AI 재분석={}): apiVideoId={}",
-                analysisResponse != null ? "성공" : "실패", apiVideoId);
+                aiResultLabel(analysisResponse), apiVideoId);
 
-        return responseMappingService.mapFromDbToSearchResult(token, updatedVideo);
+        return responseMappingService.mapFromDbToSearchResult(updatedVideo);
     }
 
     // ===== 공통 로직 메소드들 =====
@@ -217,9 +439,7 @@ public class VideoProcessingService {
     /**
      * 새 비디오 + 댓글을 DB에 저장 (공통 로직)
      */
-    @Transactional
-    public Long saveVideoAndCommentsToDb(VideoApiResponse videoInfo, List<CommentApiResponse.CommentData> allComments) {
-        CommentApiResponse commentInfo = commentService.processCommentsForClient(allComments);
+    public Long saveVideoAndCommentsToDb(VideoApiResponse videoInfo, CommentApiResponse commentInfo) {
         log.info("백엔드 댓글 분석 완료: 히스토그램={}, 타임스탬프={}",
                 commentInfo.commentHistogram().size(), commentInfo.popularTimestamps().size());
 
@@ -232,34 +452,38 @@ public class VideoProcessingService {
     /**
      * 기존 비디오에 댓글 분석 및 저장 (공통 로직)
      */
-    @Transactional
     public void processAndSaveCommentsForExistingVideo(Video existingVideo, List<CommentApiResponse.CommentData> allComments) {
         CommentApiResponse commentInfo = commentService.processCommentsForClient(allComments);
         log.info("기존 비디오 댓글 분석 완료: 히스토그램={}, 타임스탬프={}",
                 commentInfo.commentHistogram().size(), commentInfo.popularTimestamps().size());
 
-        commentService.saveCommentsToDb(commentInfo.allComments(), existingVideo);
-        videoService.updateVideoWithCommentAnalysis(existingVideo.getId(), commentInfo);
+        videoService.saveCommentsWithAnalysis(existingVideo.getId(), commentInfo);
         log.info("기존 비디오에 댓글 저장 완료: videoId={}, 댓글수={}", existingVideo.getId(), allComments.size());
     }
 
     /**
      * AI 분석 시도 및 DB 업데이트 (공통 로직)
+     * AI 서버 호출은 트랜잭션 밖에서 수행하고, 결과 반영만 하나의 트랜잭션으로 처리한다.
+     * 백그라운드 모드(ai.analysis.async)면 분석을 맡기고 바로 null을 돌려준다.
      */
-    @Transactional
     public AIAnalysisResponse tryAIAnalysisAndUpdate(String apiVideoId, List<CommentApiResponse.CommentData> allComments, Long videoId, boolean enableAIAnalysis) {
         if (!enableAIAnalysis) {
             log.info("AI 분석 비활성화, 백엔드 분석 데이터만 제공: apiVideoId={}", apiVideoId);
             return null;
         }
 
+        if (aiAnalysisJobService.isAsync()) {
+            // 백엔드 분석 데이터로 먼저 응답하고, AI 결과는 상태 조회 / SSE로 전달
+            AnalysisStatus status = aiAnalysisJobService.submit(apiVideoId, allComments, videoId);
+            log.info("AI 분석 백그라운드 요청: apiVideoId={}, status={}", apiVideoId, status);
+            return null;
+        }
+
         log.info("AI 분석 시작: apiVideoId={}", apiVideoId);
-        AIAnalysisResponse aiAnalysisResponse = performAIAnalysis(apiVideoId, allComments, videoId);
+        AIAnalysisResponse aiAnalysisResponse = aiAnalysisJobService.analyze(apiVideoId, allComments, videoId);
 
         if (aiAnalysisResponse != null) {
             log.info("AI 분석 완료 및 DB 업데이트: apiVideoId={}", apiVideoId);
-            videoService.updateWithAIResults(videoId, aiAnalysisResponse);
-            commentService.updateCommentsWithAnalysis(aiAnalysisResponse);
         } else {
             log.warn("AI 분석 실패, 백엔드 분석 데이터만 제공: apiVideoId={}", apiVideoId);
         }
@@ -267,19 +491,26 @@ public class VideoProcessingService {
         return aiAnalysisResponse;
     }
 
+    private String aiResultLabel(AIAnalysisResponse aiAnalysisResponse) {
+        if (aiAnalysisResponse != null) {
+            return "성공";
+        }
+        return aiAnalysisJobService.isAsync() ? "백그라운드" : "실패";
+    }
+
     /**
      * 댓글이 없는 경우 - 영상 정보만 응답 (YouTube API 데이터)
      */
-    private DetailPageResponse createVideoOnlyResponse(String token, VideoApiResponse videoInfo) {
-        DetailVideoDto video = responseMappingService.mapToVideoResponse(token, videoInfo);
-        DetailChannelDto channel = responseMappingService.mapToChannelResponse(token, videoInfo);
-        return new DetailPageResponse(video, channel, null, List.of());
+    private DetailPageResponse createVideoOnlyResponse(VideoApiResponse videoInfo) {
+        DetailVideoDto video = responseMappingService.mapToVideoResponse(videoInfo);
+        DetailChannelDto channel = responseMappingService.mapToChannelResponse(videoInfo);
+        return new DetailPageResponse(video, channel, null, List.of(), AnalysisStatus.NONE);
     }
 
     /**
      * 댓글이 없는 경우 - 영상 정보만 응답 (DB 데이터)
      */
-    private DetailPageResponse createVideoOnlyResponseFromDb(String token, Video video) {
+    private DetailPageResponse createVideoOnlyResponseFromDb(Video video) {
         VideoApiResponse videoInfo = new VideoApiResponse(
                 video.getApiVideoId(), video.getTitle(), video.getDescription(),
                 video.getViewCount(), video.getLikeCount(), video.getCommentCount(),
@@ -288,49 +519,8 @@ public class VideoProcessingService {
                 video.getSubscriberCount(), video.getUploadedAt()
         );
 
-        DetailVideoDto videoDto = responseMappingService.mapToVideoResponse(token, videoInfo);
-        DetailChannelDto channelDto = responseMappingService.mapToChannelResponse(token, videoInfo);
-        return new DetailPageResponse(videoDto, channelDto, null, List.of());
-    }
-
-    /**
-     * AI 분석 수행
-     */
-    private AIAnalysisResponse performAIAnalysis(String apiVideoId, List<CommentApiResponse.CommentData> allComments, Long videoId) {
-        try {
-            // AI 분석용 댓글 추출 (전체 최대 개수 사용)
-            Map<String, String> commentsForAI = commentService.extractCommentsForAI(allComments);
-
-            if (!commentsForAI.isEmpty()) {
-                log.info("AI 분석 요청 시작: apiVideoId={}, 분석 댓글 수={}", apiVideoId, commentsForAI.size());
-
-                AIAnalysisRequest aiAnalysisRequest = new AIAnalysisRequest(apiVideoId, commentsForAI);
-                AIAnalysisResponse aiAnalysisResponse = analysisService.requestAnalysis(aiAnalysisRequest);
-
-                AIAnalysisResponse updatedResponse = new AIAnalysisResponse(
-                        videoId, aiAnalysisResponse.apiVideoId(), aiAnalysisResponse.summation(),
-                        aiAnalysisResponse.isWarning(), aiAnalysisResponse.keywords(),
-                        aiAnalysisResponse.sentimentComments(), aiAnalysisResponse.languageRatio(),
-                        aiAnalysisResponse.sentimentRatio()
-                );
-
-                log.info("AI 분석 완료: apiVideoId={}, 요약 길이={}, 경고={}",
-                        apiVideoId, aiAnalysisResponse.summation().length(), aiAnalysisResponse.isWarning());
-
-                return updatedResponse;
-            }
-        } catch (org.springframework.web.client.ResourceAccessException e) {
-            log.error("AI 서버 연결 실패 (네트워크): apiVideoId={}, error={}", apiVideoId, e.getMessage());
-        } catch (org.springframework.web.client.HttpClientErrorException e) {
-            log.error("AI 서버 클라이언트 오류: apiVideoId={}, status={}", apiVideoId, e.getStatusCode());
-        } catch (org.springframework.web.client.HttpServerErrorException e) {
-            log.error("AI 서버 내부 오류: apiVideoId={}, status={}", apiVideoId, e.getStatusCode());
-        } catch (RuntimeException e) {
-            log.error("AI 분석 실패: apiVideoId={}, error={}", apiVideoId, e.getMessage());
-        } catch (Exception e) {
-            log.error("AI 분석 예상치 못한 오류: apiVideoId={}, error={}", apiVideoId, e.getMessage());
-        }
-
-        return null;
+        DetailVideoDto videoDto = responseMappingService.mapToVideoResponse(videoInfo);
+        DetailChannelDto channelDto = responseMappingService.mapToChannelResponse(videoInfo);
+        return new DetailPageResponse(videoDto, channelDto, null, List.of(), AnalysisStatus.NONE);
     }
-}
\ No newline at end of file
+}
@@ -1,23 +1,38 @@
 package com.knu.sosuso.capstone.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.knu.sosuso.capstone.ai.dto.AIAnalysisResponse;
-import com.knu.sosuso.capstone.config.ApiConfig;
 import com.knu.sosuso.capstone.domain.Video;
+import com.knu.sosuso.capstone.domain.value.AnalysisStatus;
 import com.knu.sosuso.capstone.dto.response.CommentApiResponse;
 import com.knu.sosuso.capstone.dto.response.VideoApiResponse;
+import com.knu.sosuso.capstone.exception.BusinessException;
 import com.knu.sosuso.capstone.repository.VideoRepository;
+import com.knu.sosuso.capstone.youtube.archive.ResponseArchive;
+import com.knu.sosuso.capstone.youtube.cache.ChannelMetadata;
+import com.knu.sosuso.capstone.youtube.cache.ChannelMetadataCache;
+import com.knu.sosuso.capstone.youtube.cache.VideoNegativeCache;
+import com.knu.sosuso.capstone.youtube.client.YouTubeApiClient;
+import com.knu.sosuso.capstone.youtube.client.YouTubeEndpoint;
+import com.knu.sosuso.capstone.youtube.client.YouTubeRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -26,18 +41,17 @@ import java.util.regex.Pattern;
 @Service
 public class VideoService {
 
-    private static final String YOUTUBE_VIDEOS_API_URL = "https://www.googleapis.com/youtube/v3/videos";
-    private static final String YOUTUBE_CHANNELS_API_URL = "https://www.googleapis.com/youtube/v3/channels";
-
     private static final Pattern VIDEO_ID_PATTERN = Pattern.compile(
             "(?:youtube\\.com/(?:watch\\?v=|embed/|v/)|youtu\\.be/|m\\.youtube\\.com/watch\\?v=)([\\w-]{11})"
     );
 
-    private final ApiConfig apiConfig;
-    private final RestTemplate restTemplate;
+    private final YouTubeApiClient youTubeApiClient;
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final VideoRepository videoRepository;
     private final CommentService commentService;
+    private final ChannelMetadataCache channelMetadataCache;
+    private final VideoNegativeCache videoNegativeCache;
+    private final ResponseArchive responseArchive;
 
     /**
      * 비디오 ID 추출
@@ -65,39 +79,55 @@ public class VideoService {
             throw new IllegalArgumentException("비디오 ID는 필수입니다");
         }
 
+        // 최근에 실패한 영상은 다시 호출하지 않고 같은 결과를 돌려줌
+        Optional<VideoNegativeCache.Reason> unavailable = videoNegativeCache.videoUnavailable(videoId.trim());
+        if (unavailable.isPresent()) {
+            log.info("실패한 영상 조회 생략: apiVideoId={}, reason={}", videoId, unavailable.get());
+            throw unavailableVideoException(unavailable.get(), null);
+        }
+
         try {
             log.info("비디오 정보 조회 시작: apiVideoId={}", videoId);
 
             // 1. 비디오 정보 조회
-            String videoResponse = getVideoData(videoId.trim());
-            JsonNode videoJson = objectMapper.readTree(videoResponse);
+            JsonNode videoJson = getVideoData(videoId.trim());
 
+            // 삭제되었거나 ID가 잘못된 영상은 404가 아니라 빈 items로 응답됨
             if (!videoJson.has("items") || videoJson.get("items").isEmpty()) {
-                throw new IllegalArgumentException("존재하지 않는 비디오입니다");
+                videoNegativeCache.record(videoId.trim(), VideoNegativeCache.Reason.NOT_FOUND);
+                throw unavailableVideoException(VideoNegativeCache.Reason.NOT_FOUND, null);
             }
 
             JsonNode videoItem = videoJson.get("items").get(0);
             String channelId = videoItem.get("snippet").get("channelId").asText();
 
-            // 2. 채널 정보 조회
-            String channelResponse = getChannelData(channelId);
-            JsonNode channelJson = objectMapper.readTree(channelResponse);
-
-            JsonNode channelItem = channelJson.get("items").get(0);
+            // 2. 채널 정보 조회 (캐시)
+            ChannelMetadata channel = channelMetadataCache.get(channelId);
+            if (channel == null) {
+                throw new IllegalStateException("채널 정보를 찾을 수 없습니다: " + channelId);
+            }
 
             // 3. 응답 생성
-            VideoApiResponse response = buildVideoResponse(videoItem, channelItem);
+            VideoApiResponse response = buildVideoResponse(videoItem, channel);
 
             log.info("비디오 정보 조회 완료: apiVideoId={}", videoId);
             return response;
 
+        } catch (IllegalArgumentException e) {
+            throw e;
+
         } catch (HttpClientErrorException.NotFound e) {
             log.warn("비디오를 찾을 수 없음: apiVideoId={}", videoId);
-            throw new IllegalArgumentException("존재하지 않는 비디오입니다", e);
+            videoNegativeCache.record(videoId.trim(), VideoNegativeCache.Reason.NOT_FOUND);
+            throw unavailableVideoException(VideoNegativeCache.Reason.NOT_FOUND, e);
 
         } catch (HttpClientErrorException.Forbidden e) {
             log.warn("비디오 접근 금지: apiVideoId={}", videoId);
-            throw new IllegalStateException("이 비디오에 접근할 수 없습니다", e);
+            // 할당량 초과는 영상 문제가 아니므로 기록하지 않음
+            if (YouTubeApiClient.quotaErrorReason(e) == null) {
+                videoNegativeCache.record(videoId.trim(), VideoNegativeCache.Reason.FORBIDDEN);
+            }
+            throw unavailableVideoException(VideoNegativeCache.Reason.FORBIDDEN, e);
 
         } catch (RestClientException e) {
             log.error("YouTube API 호출 실패: apiVideoId={}, error={}", videoId, e.getMessage(), e);
@@ -109,6 +139,43 @@ public class VideoService {
         }
     }
 
+    private RuntimeException unavailableVideoException(VideoNegativeCache.Reason reason, Exception cause) {
+        if (reason == VideoNegativeCache.Reason.FORBIDDEN) {
+            return new IllegalStateException("이 비디오에 접근할 수 없습니다", cause);
+        }
+        return new IllegalArgumentException("존재하지 않는 비디오입니다", cause);
+    }
+
+    /**
+     * videos.list 응답의 items를 VideoApiResponse 목록으로 변환 (목록 조회용)
+     * 채널 정보는 영상마다 조회하지 않고 채널 캐시에서 한 번에 모아서 가져온다.
+     *
+     * @param videoItems part=snippet,statistics로 조회한 videos.list items
+     * @return 변환된 VideoApiResponse 목록 (채널 정보가 없는 영상은 제외)
+     */
+    public List<VideoApiResponse> buildVideoResponses(JsonNode videoItems) {
+        Set<String> channelIds = new LinkedHashSet<>();
+        for (JsonNode videoItem : videoItems) {
+            channelIds.add(videoItem.path("snippet").path("channelId").asText());
+        }
+
+        Map<String, ChannelMetadata> channels = channelMetadataCache.getAll(channelIds);
+
+        List<VideoApiResponse> responses = new ArrayList<>();
+        for (JsonNode videoItem : videoItems) {
+            String channelId = videoItem.path("snippet").path("channelId").asText();
+            ChannelMetadata channel = channels.get(channelId);
+
+            if (channel == null) {
+                log.warn("채널 정보를 찾을 수 없어 제외: apiVideoId={}, channelId={}", videoItem.path("id").asText(), channelId);
+                continue;
+            }
+            responses.add(buildVideoResponse(videoItem, channel));
+        }
+
+        return responses;
+    }
+
     /**
      * DB에서 비디오 조회
      *
@@ -143,6 +210,39 @@ public class VideoService {
         // warning은 boolean이라 null 체크 안함
     }
 
+    /**
+     * 저장된 AI 분석 결과 (댓글별 감정 제외, 분석이 끝나지 않았거나 파싱에 실패하면 empty)
+     */
+    public Optional<AIAnalysisResponse> findStoredAIResults(Video video) {
+        if (!isAIAnalysisCompleted(video)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(new AIAnalysisResponse(
+                    video.getId(), video.getApiVideoId(), video.getSummation(), video.isWarning(),
+                    objectMapper.readValue(video.getKeywords(), new TypeReference<List<String>>() {
+                    }),
+                    Map.of(),
+                    objectMapper.readValue(video.getLanguageDistribution(), new TypeReference<Map<String, Double>>() {
+                    }),
+                    objectMapper.readValue(video.getSentimentDistribution(), new TypeReference<Map<String, Double>>() {
+                    })
+            ));
+        } catch (JsonProcessingException e) {
+            log.warn("저장된 AI 분석 결과 파싱 실패: videoId={}, error={}", video.getId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * AI 분석 상태 변경 (비디오가 그사이 교체/삭제되었으면 무시)
+     */
+    @Transactional
+    public void updateAnalysisStatus(Long videoId, AnalysisStatus status) {
+        videoRepository.findById(videoId).ifPresent(video -> video.setAnalysisStatus(status));
+    }
+
     /**
      * 기존 데이터 삭제 (1일 지난 경우)
      *
@@ -243,6 +343,7 @@ public class VideoService {
                 video.setKeywords(objectMapper.writeValueAsString(analysisResponse.keywords()));
             }
 
+            video.setAnalysisStatus(AnalysisStatus.COMPLETED);
             videoRepository.save(video);
 
             log.info("AI 분석 결과 업데이트 완료: videoId={}", videoId);
@@ -281,59 +382,160 @@ public class VideoService {
         }
     }
 
+    /**
+     * 기존 데이터를 새로 수집한 데이터로 교체 (1일 지난 경우)
+     * 삭제와 저장을 하나의 트랜잭션으로 묶어 중간 상태가 노출되지 않도록 한다.
+     *
+     * @param existingVideoId  교체할 비디오의 데이터베이스 ID
+     * @param videoApiResponse YouTube API로부터 받은 비디오 정보
+     * @param commentInfo      댓글 분석 정보
+     * @return 새로 저장된 비디오의 데이터베이스 ID
+     */
+    @Transactional
+    public Long replaceVideoAndComments(Long existingVideoId, VideoApiResponse videoApiResponse, CommentApiResponse commentInfo) {
+        deleteExistingData(existingVideoId);
+        videoRepository.flush();
+        return saveVideoAndCommentsWithoutAI(videoApiResponse, commentInfo);
+    }
+
+    /**
+     * 통계만 갱신 (댓글 수 변화가 작아 댓글/AI 결과를 유지하는 경우)
+     * comment_count는 마지막으로 댓글을 수집한 시점의 값으로 남겨 다음 만료 때 변화량 기준으로 쓴다.
+     *
+     * @param videoId          비디오의 데이터베이스 ID
+     * @param videoApiResponse YouTube API로부터 받은 최신 비디오 정보
+     * @return 갱신된 비디오
+     */
+    @Transactional
+    public Video refreshStatistics(Long videoId, VideoApiResponse videoApiResponse) {
+        Video video = videoRepository.findById(videoId)
+                .orElseThrow(() -> new IllegalArgumentException("비디오를 찾을 수 없습니다: " + videoId));
+
+        video.setViewCount(videoApiResponse.viewCount());
+        video.setLikeCount(videoApiResponse.likeCount());
+        video.setSubscriberCount(videoApiResponse.subscriberCount());
+        video.setRefreshedAt(LocalDateTime.now());
+
+        log.info("비디오 통계 갱신 완료: videoId={}", videoId);
+        return videoRepository.save(video);
+    }
+
+    /**
+     * 증분 수집한 새 댓글을 기존 댓글에 병합
+     * 새 댓글 저장, 기존 댓글 좋아요 수 갱신, 댓글 수 제한, 통계 갱신, 병합된 전체 댓글 기준 히스토그램/타임스탬프 재계산을 한 트랜잭션에서 수행한다.
+     *
+     * @param videoId          비디오의 데이터베이스 ID
+     * @param videoApiResponse YouTube API로부터 받은 최신 비디오 정보
+     * @param delta            증분 수집 결과
+     * @return 병합된 전체 댓글과 백엔드 분석 결과
+     */
+    @Transactional
+    public CommentApiResponse mergeNewComments(Long videoId, VideoApiResponse videoApiResponse, CommentService.CommentDelta delta) {
+        Video video = videoRepository.findById(videoId)
+                .orElseThrow(() -> new IllegalArgumentException("비디오를 찾을 수 없습니다: " + videoId));
+
+        commentService.saveCommentsToDb(delta.newComments(), video);
+        commentService.updateLikeCounts(videoId, delta.likeCounts());
+        commentService.trimToLimit(videoId);
+
+        LocalDateTime now = LocalDateTime.now();
+        video.setViewCount(videoApiResponse.viewCount());
+        video.setLikeCount(videoApiResponse.likeCount());
+        video.setCommentCount(videoApiResponse.commentCount());
+        video.setSubscriberCount(videoApiResponse.subscriberCount());
+        video.setRefreshedAt(now);
+        video.setCommentsSyncedAt(now);
+
+        CommentApiResponse mergedComments = commentService.getCommentsFromDb(videoId);
+        try {
+            video.setCommentHistogram(objectMapper.writeValueAsString(mergedComments.commentHistogram()));
+            video.setPopularTimestamps(objectMapper.writeValueAsString(mergedComments.popularTimestamps()));
+        } catch (Exception e) {
+            throw new RuntimeException("비디오 댓글 분석 업데이트 중 오류 발생", e);
+        }
+
+        videoRepository.save(video);
+        log.info("증분 댓글 병합 완료: videoId={}, 새 댓글={}, 전체 댓글={}",
+                videoId, delta.newComments().size(), mergedComments.allComments().size());
+        return mergedComments;
+    }
+
+    /**
+     * 기존 비디오에 댓글 저장 및 백엔드 분석 결과 반영
+     *
+     * @param videoId     비디오의 데이터베이스 ID
+     * @param commentInfo 백엔드에서 분석한 댓글 정보
+     */
+    @Transactional
+    public void saveCommentsWithAnalysis(Long videoId, CommentApiResponse commentInfo) {
+        Video video = videoRepository.findById(videoId)
+                .orElseThrow(() -> new IllegalArgumentException("비디오를 찾을 수 없습니다: " + videoId));
+
+        commentService.saveCommentsToDb(commentInfo.allComments(), video);
+        updateVideoWithCommentAnalysis(videoId, commentInfo);
+    }
 
     /**
-     * 유튜브에 해당 영상 데이터를 요청
+     * AI 분석 결과를 비디오와 댓글에 함께 반영
      *
-     * @param videoId YouTube 비디오 ID
-     * @return YouTube API로부터 받은 JSON 응답
+     * @param videoId          비디오의 데이터베이스 ID
+     * @param analysisResponse AI 분석 결과
      */
-    private String getVideoData(String videoId) {
-        String apiUrl = UriComponentsBuilder.fromUriString(YOUTUBE_VIDEOS_API_URL)
-                .queryParam("part", "snippet,statistics")
-                .queryParam("id", videoId)
-                .queryParam("key", apiConfig.getKey())
-                .queryParam("hl", "ko")
-                .build(false)
-                .toUriString();
-
-        return restTemplate.getForObject(apiUrl, String.class);
+    @Transactional
+    public void applyAIResults(Long videoId, AIAnalysisResponse analysisResponse) {
+        updateWithAIResults(videoId, analysisResponse);
+        commentService.updateCommentsWithAnalysis(analysisResponse);
     }
 
+
     /**
-     * 유튜브로부터 채널 데이터를 받아옴
+     * 유튜브에 해당 영상 데이터를 요청
      *
-     * @param channelId YouTube 채널 ID
-     * @return YouTube API로부터 받은 채널 JSON 응답
+     * @param videoId YouTube 비디오 ID
+     * @return YouTube API로부터 받은 JSON 응답 (변경이 없으면 이전에 파싱한 결과 재사용)
      */
-    private String getChannelData(String channelId) {
-        String apiUrl = UriComponentsBuilder.fromUriString(YOUTUBE_CHANNELS_API_URL)
-                .queryParam("part", "snippet,statistics")
-                .queryParam("id", channelId)
-                .queryParam("key", apiConfig.getKey())
-                .build(false)
-                .toUriString();
-
-        return restTemplate.getForObject(apiUrl, String.class);
+    private JsonNode getVideoData(String videoId) {
+        YouTubeRequest request = YouTubeRequest.of(YouTubeEndpoint.VIDEOS)
+                .param("part", "snippet,statistics")
+                .param("id", videoId)
+                .param("hl", "ko");
+
+        try {
+            return youTubeApiClient.getConditional(request, objectMapper::readTree);
+        } catch (BusinessException e) {
+            // 할당량을 모두 쓰면 보관해 둔 응답으로 대신
+            if (!responseArchive.shouldReplay(e)) {
+                throw e;
+            }
+            Optional<ResponseArchive.ArchivedResponse> archived =
+                    responseArchive.latest(YouTubeEndpoint.VIDEOS, videoId, "snippet,statistics", null);
+            if (archived.isEmpty()) {
+                throw e;
+            }
+            log.warn("할당량 소진, 보관된 비디오 정보로 응답: apiVideoId={}, fetchedAt={}", videoId, archived.get().fetchedAt());
+            try {
+                return objectMapper.readTree(archived.get().body());
+            } catch (IOException parseError) {
+                throw e;
+            }
+        }
     }
 
     /**
      * 유튜브로부터 받은 데이터를 VideoApiResponse로 변환
      *
      * @param videoItem          YouTube API의 비디오 아이템 JSON
-     * @param channelItem        YouTube API의 채널 아이템 JSON
+     * @param channel            채널 메타데이터
      * @return 변환된 VideoApiResponse 객체
      */
-    private VideoApiResponse buildVideoResponse(JsonNode videoItem, JsonNode channelItem) {
+    private VideoApiResponse buildVideoResponse(JsonNode videoItem, ChannelMetadata channel) {
         JsonNode snippet = videoItem.get("snippet");
         JsonNode statistics = videoItem.get("statistics");
-        JsonNode channelSnippet = channelItem.get("snippet");
-        JsonNode channelStatistics = channelItem.get("statistics");
 
         // 썸네일 URL 추출 (standard 우선, 없으면 high, 없으면 medium, 없으면 default)
         String thumbnailUrl = extractThumbnailUrl(snippet.get("thumbnails"));
         log.info("썸네일 url: {}", thumbnailUrl);
-        String channelThumbnailUrl = extractThumbnailUrl(channelSnippet.get("thumbnails"));
+        String channelThumbnailUrl = channel.thumbnailUrl("standard", "high", "medium", "default");
 
         return new VideoApiResponse(
                 videoItem.get("id").asText(),
@@ -345,7 +547,7 @@ public class VideoService {
                 snippet.get("channelId").asText(),
                 snippet.get("channelTitle").asText(),
                 channelThumbnailUrl,
-                channelStatistics.has("subscriberCount") ? channelStatistics.get("subscriberCount").asText() : "0",
+                channel.subscriberCount(),
                 snippet.get("publishedAt").asText()
         );
     }
@@ -1,6 +1,7 @@
 package com.knu.sosuso.capstone.swagger;
 
 import com.knu.sosuso.capstone.dto.ResponseDto;
+import com.knu.sosuso.capstone.dto.response.search.ChannelAutocompleteResponse;
 import com.knu.sosuso.capstone.dto.response.search.SearchApiResponse;
 import com.knu.sosuso.capstone.exception.ErrorResponse;
 import com.knu.sosuso.capstone.swagger.annotation.ErrorCode400;
@@ -232,5 +233,51 @@ public interface SearchControllerSwagger {
             @CookieValue(value = "Authorization", required = false) String token,
             @RequestParam String query
     );
-}
 
+    @Operation(
+            summary = "채널 자동완성",
+            description = "지금까지 조회된 채널을 모아 둔 로컬 채널 디렉터리에서 채널 이름 또는 핸들로 자동완성 후보를 찾습니다.\n\n" +
+                    "- YouTube API를 호출하지 않으므로 입력할 때마다 호출해도 됩니다.\n" +
+                    "- 이름/핸들이 검색어로 시작하는 채널이 먼저, 같은 순위는 구독자 수가 많은 순으로 정렬됩니다.\n" +
+                    "- 한글은 띄어쓰기와 관계없이 글자 단위로 일치 여부를 판단합니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "자동완성 조회 성공",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ResponseDto.class),
+                                    examples = @ExampleObject(
+                                            name = "자동완성 결과",
+                                            value = """
+                                                    {
+                                                      "timeStamp": "2025-06-09T15:30:00",
+                                                      "message": "채널 자동완성 조회가 완료되었습니다.",
+                                                      "data": {
+                                                        "suggestions": [
+                                                          {
+                                                            "id": "UC3SyT4_WLHzN7JmHQwKQZww",
+                                                            "title": "이지금 [IU Official]",
+                                                            "handle": "@dlwlrma",
+                                                            "thumbnailUrl": "https://yt3.ggpht.com/example.jpg",
+                                                            "subscriberCount": 10900000
+                                                          }
+                                                        ]
+                                                      }
+                                                    }
+                                                    """
+                                    )
+                            )
+                    )
+            }
+    )
+    @Parameters({
+            @Parameter(name = "query", description = "채널 이름 또는 핸들 일부", required = true, in = ParameterIn.QUERY, example = "아이유"),
+            @Parameter(name = "limit", description = "최대 결과 수 (기본 10, 최대 30)", in = ParameterIn.QUERY, example = "10")
+    })
+    @ErrorCode400
+    ResponseEntity<ResponseDto<ChannelAutocompleteResponse>> autocompleteChannels(
+            @RequestParam String query,
+            @RequestParam(required = false) Integer limit
+    );
+}
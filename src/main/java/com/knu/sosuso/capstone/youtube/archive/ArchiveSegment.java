@@ -0,0 +1,179 @@
+package com.knu.sosuso.capstone.youtube.archive;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.BiConsumer;
+
+/**
+ * 메모리 매핑한 세그먼트 파일 (추가만 가능)
+ * 레코드: [magic int][이후 길이 int][수집 시각 long][endpoint][id][variant][page][원본 길이 int][압축 길이 int][압축 본문]
+ * 문자열은 [길이 short][UTF-8] 형식이다. 쓰기는 ResponseArchive의 잠금 안에서만 하고, 읽기는 buffer 복제본으로 잠금 없이 한다.
+ * 파일은 생성할 때 세그먼트 크기만큼 매핑하고 닫을 때도 줄이지 않는다 (다시 열 때 magic이 없는 위치에서 읽기를 멈춤).
+ */
+class ArchiveSegment {
+
+    static final int RECORD_MAGIC = 0x59544152; // "YTAR"
+    static final int MAX_STRING_BYTES = 0xFFFF;
+
+    private final int id;
+    private final Path path;
+    private final FileChannel channel;
+    private volatile MappedByteBuffer buffer;
+    private volatile int position;
+    private volatile long lastFetchedAt;
+    private volatile boolean sealed;
+
+    /**
+     * 레코드 헤더 (본문 제외)
+     */
+    record Header(long fetchedAt, String endpoint, String id, String variant, String page) {
+    }
+
+    private ArchiveSegment(int id, Path path, FileChannel channel, MappedByteBuffer buffer, boolean sealed) {
+        this.id = id;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.sealed = sealed;
+    }
+
+    static ArchiveSegment create(int id, Path path, long capacity) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new ArchiveSegment(id, path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity), false);
+    }
+
+    /**
+     * 기존 세그먼트를 읽기 전용으로 열고 레코드 헤더를 순서대로 전달 (잘린 마지막 레코드는 무시)
+     */
+    static ArchiveSegment open(int id, Path path, BiConsumer<Integer, Header> headerConsumer) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        ArchiveSegment segment = new ArchiveSegment(id, path, channel,
+                channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), true);
+
+        ByteBuffer view = segment.buffer.duplicate();
+        int offset = 0;
+        while (offset + 8 <= view.limit() && view.getInt(offset) == RECORD_MAGIC) {
+            int length = view.getInt(offset + 4);
+            if (length <= 0 || offset + 8 + length > view.limit()) {
+                break;
+            }
+            view.position(offset + 8);
+            Header header = readHeader(view);
+            headerConsumer.accept(offset, header);
+            segment.lastFetchedAt = Math.max(segment.lastFetchedAt, header.fetchedAt());
+            offset += 8 + length;
+        }
+        segment.position = offset;
+        return segment;
+    }
+
+    /**
+     * 레코드 추가
+     *
+     * @return 레코드 시작 위치 (남은 공간이 부족하면 -1)
+     * @throws IllegalArgumentException 헤더 문자열이 MAX_STRING_BYTES를 넘는 경우 (아무것도 쓰지 않음)
+     */
+    int append(Header header, int rawLength, byte[] compressed) {
+        byte[][] strings = {
+                utf8(header.endpoint()), utf8(header.id()), utf8(header.variant()), utf8(header.page())
+        };
+        int length = Long.BYTES + Integer.BYTES * 2 + compressed.length;
+        for (byte[] string : strings) {
+            if (string.length > MAX_STRING_BYTES) {
+                throw new IllegalArgumentException("archive header string too long: " + string.length + " bytes");
+            }
+            length += Short.BYTES + string.length;
+        }
+
+        int offset = position;
+        if (sealed || offset + 8 + length > buffer.capacity()) {
+            return -1;
+        }
+
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset + 4);
+        view.putInt(length);
+        view.putLong(header.fetchedAt());
+        for (byte[] string : strings) {
+            view.putShort((short) string.length);
+            view.put(string);
+        }
+        view.putInt(rawLength);
+        view.putInt(compressed.length);
+        view.put(compressed);
+        // magic을 마지막에 써서 중간에 멈춘 레코드는 다음 기동 때 읽지 않음
+        view.putInt(offset, RECORD_MAGIC);
+
+        position = offset + 8 + length;
+        lastFetchedAt = Math.max(lastFetchedAt, header.fetchedAt());
+        return offset;
+    }
+
+    /**
+     * 레코드 본문 (압축 상태)과 원본 길이
+     */
+    Payload readPayload(int offset) {
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset + 8);
+        readHeader(view);
+        int rawLength = view.getInt();
+        byte[] compressed = new byte[view.getInt()];
+        view.get(compressed);
+        return new Payload(rawLength, compressed);
+    }
+
+    record Payload(int rawLength, byte[] compressed) {
+    }
+
+    /**
+     * 더 쓰지 않는 세그먼트로 전환 (디스크에 반영 후 쓴 부분만 읽기 전용으로 다시 매핑)
+     * 매핑된 파일을 잘라내면 기존 매핑으로 읽을 때 SIGBUS가 날 수 있으므로 파일 크기는 그대로 둔다.
+     */
+    void seal() throws IOException {
+        if (sealed) {
+            return;
+        }
+        sealed = true;
+        buffer.force();
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, position);
+    }
+
+    void delete() throws IOException {
+        channel.close();
+        Files.deleteIfExists(path);
+    }
+
+    int id() {
+        return id;
+    }
+
+    int size() {
+        return position;
+    }
+
+    long lastFetchedAt() {
+        return lastFetchedAt;
+    }
+
+    private static Header readHeader(ByteBuffer view) {
+        long fetchedAt = view.getLong();
+        return new Header(fetchedAt, readString(view), readString(view), readString(view), readString(view));
+    }
+
+    private static String readString(ByteBuffer view) {
+        byte[] bytes = new byte[view.getShort() & 0xFFFF];
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,369 @@
+package com.knu.sosuso.capstone.youtube.archive;
+
+import com.knu.sosuso.capstone.config.ResponseArchiveProperties;
+import com.knu.sosuso.capstone.exception.BusinessException;
+import com.knu.sosuso.capstone.exception.error.QuotaError;
+import com.knu.sosuso.capstone.youtube.client.YouTubeEndpoint;
+import com.knu.sosuso.capstone.youtube.client.YouTubeRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * YouTube 원본 응답 보관소 (videos / channels / commentThreads)
+ * 응답 본문을 Deflate로 압축해 메모리 매핑한 세그먼트 파일 끝에 추가하고,
+ * (endpoint, id, variant, page) -> (세그먼트, 위치, 수집 시각) 색인을 메모리에 유지한다.
+ * variant는 같은 ID라도 응답 모양이 달라지는 파라미터(commentThreads는 order, 나머지는 part)이다.
+ * 색인은 기동할 때 세그먼트 헤더를 읽어 다시 만들며, 오래되었거나 용량을 넘긴 세그먼트는 통째로 지운다.
+ * 재분석, 디버깅, 할당량 소진 시 대체 응답에 사용한다.
+ */
+@Slf4j
+@Component
+public class ResponseArchive {
+
+    private static final Set<YouTubeEndpoint> ARCHIVED_ENDPOINTS =
+            EnumSet.of(YouTubeEndpoint.VIDEOS, YouTubeEndpoint.CHANNELS, YouTubeEndpoint.COMMENT_THREADS);
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".ytar";
+
+    private final ResponseArchiveProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentNavigableMap<Integer, ArchiveSegment> segments = new ConcurrentSkipListMap<>();
+    private final ConcurrentMap<ArchiveKey, List<IndexEntry>> index = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private volatile ArchiveSegment active;
+
+    private record ArchiveKey(String endpoint, String id, String variant, String page) {
+    }
+
+    // 세그먼트 안의 레코드 위치 (수집 시각 순으로 쌓임)
+    private record IndexEntry(int segmentId, int offset, long fetchedAt) {
+    }
+
+    /**
+     * 보관된 응답
+     *
+     * @param body      원본 응답 본문 (JSON)
+     * @param fetchedAt 수집 시각
+     */
+    public record ArchivedResponse(byte[] body, Instant fetchedAt) {
+    }
+
+    public ResponseArchive(ResponseArchiveProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("youtube.archive.segments", segments, ConcurrentNavigableMap::size).register(meterRegistry);
+        Gauge.builder("youtube.archive.bytes", this, ResponseArchive::totalSize).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Path dir = Paths.get(properties.getDir());
+        Files.createDirectories(dir);
+
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(dir)) {
+            files = listing.filter(file -> file.getFileName().toString().startsWith(SEGMENT_PREFIX)
+                            && file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+
+        for (Path file : files) {
+            int segmentId = segmentId(file);
+            if (segmentId < 0) {
+                log.warn("세그먼트 이름 형식이 아닌 파일은 건너뜀: file={}", file);
+                continue;
+            }
+            try {
+                ArchiveSegment segment = ArchiveSegment.open(segmentId, file,
+                        (offset, header) -> addToIndex(segmentId, offset, header));
+                segments.put(segmentId, segment);
+            } catch (IOException e) {
+                log.error("응답 보관 세그먼트 열기 실패: file={}, error={}", file, e.getMessage());
+            }
+        }
+
+        log.info("응답 보관소 열기 완료: dir={}, segments={}, keys={}", dir, segments.size(), index.size());
+    }
+
+    /**
+     * 보관 대상 요청인지 (보관이 켜져 있고 videos / channels / commentThreads인 경우)
+     */
+    public boolean accepts(YouTubeRequest request) {
+        return properties.isEnabled() && ARCHIVED_ENDPOINTS.contains(request.getEndpoint());
+    }
+
+    /**
+     * 이 실패를 보관된 응답으로 대신할지 (모든 API 키의 할당량을 소진한 경우)
+     */
+    public boolean shouldReplay(Exception failure) {
+        return properties.isEnabled() && properties.isFallbackOnQuotaExhausted()
+                && failure instanceof BusinessException businessException
+                && businessException.getBaseError() == QuotaError.ALL_KEYS_EXHAUSTED;
+    }
+
+    /**
+     * 응답 추가 (보관 실패는 원래 요청에 영향을 주지 않음)
+     * 여러 ID를 한 번에 조회한 응답은 ID마다 같은 레코드를 가리키도록 색인한다.
+     */
+    public void append(YouTubeRequest request, byte[] body) {
+        if (!accepts(request) || body == null || body.length == 0) {
+            return;
+        }
+
+        String endpoint = request.getEndpoint().getPath();
+        ArchiveSegment.Header header = new ArchiveSegment.Header(System.currentTimeMillis(), endpoint,
+                param(request, idParam(request.getEndpoint())), param(request, variantParam(request.getEndpoint())),
+                param(request, "pageToken"));
+        byte[] compressed = compress(body);
+
+        try {
+            synchronized (writeLock) {
+                int offset = active == null ? -1 : active.append(header, body.length, compressed);
+                if (offset < 0) {
+                    if (compressed.length + 1024 > properties.getSegmentSize().toBytes()) {
+                        log.warn("세그먼트보다 큰 응답은 보관하지 않음: endpoint={}, bytes={}", endpoint, compressed.length);
+                        return;
+                    }
+                    roll();
+                    offset = active.append(header, body.length, compressed);
+                    if (offset < 0) {
+                        log.warn("새 세그먼트에도 들어가지 않는 응답은 보관하지 않음: endpoint={}, id={}", endpoint, header.id());
+                        return;
+                    }
+                }
+                addToIndex(active.id(), offset, header);
+            }
+
+            Counter.builder("youtube.archive.appends").tag("endpoint", endpoint).register(meterRegistry).increment();
+            Counter.builder("youtube.archive.raw.bytes").tag("endpoint", endpoint).register(meterRegistry).increment(body.length);
+            Counter.builder("youtube.archive.compressed.bytes").tag("endpoint", endpoint).register(meterRegistry)
+                    .increment(compressed.length);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("응답 보관 실패: endpoint={}, id={}, error={}", endpoint, header.id(), e.getMessage());
+        }
+    }
+
+    /**
+     * 가장 최근에 보관된 응답
+     */
+    public Optional<ArchivedResponse> latest(YouTubeEndpoint endpoint, String id, String variant, String page) {
+        List<IndexEntry> entries = index.get(new ArchiveKey(endpoint.getPath(), id, variant, nullToEmpty(page)));
+        if (entries == null || entries.isEmpty()) {
+            return replayed(endpoint, Optional.empty());
+        }
+        return replayed(endpoint, read(entries.get(entries.size() - 1)));
+    }
+
+    /**
+     * since 이후 가장 먼저 보관된 응답 (같은 수집에서 이어진 다음 페이지를 찾을 때 사용)
+     */
+    public Optional<ArchivedResponse> earliestSince(YouTubeEndpoint endpoint, String id, String variant, String page,
+                                                    Instant since) {
+        List<IndexEntry> entries = index.get(new ArchiveKey(endpoint.getPath(), id, variant, nullToEmpty(page)));
+        if (entries != null) {
+            long sinceMillis = since.toEpochMilli();
+            for (IndexEntry entry : entries) {
+                if (entry.fetchedAt() >= sinceMillis) {
+                    return replayed(endpoint, read(entry));
+                }
+            }
+        }
+        return replayed(endpoint, Optional.empty());
+    }
+
+    /**
+     * 보관 기간이 지났거나 전체 용량을 넘긴 세그먼트 삭제 (쓰는 중인 세그먼트는 제외)
+     */
+    @Scheduled(fixedDelayString = "${youtube.archive.retention-check-interval-ms:3600000}")
+    public void purgeExpired() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        long cutoff = Instant.now().minus(properties.getRetention()).toEpochMilli();
+        long totalSize = totalSize();
+
+        for (ArchiveSegment segment : List.copyOf(segments.values())) {
+            if (segment == active) {
+                break;
+            }
+            boolean expired = segment.lastFetchedAt() < cutoff;
+            boolean overSize = totalSize > properties.getMaxTotalSize().toBytes();
+            if (!expired && !overSize) {
+                break;
+            }
+
+            // 빈 목록을 지우는 사이 addToIndex가 같은 목록에 추가하면 항목을 잃으므로 쓰기 잠금 안에서 정리
+            synchronized (writeLock) {
+                segments.remove(segment.id());
+                index.values().forEach(entries -> entries.removeIf(entry -> entry.segmentId() == segment.id()));
+                index.values().removeIf(List::isEmpty);
+            }
+            totalSize -= segment.size();
+
+            try {
+                segment.delete();
+                log.info("응답 보관 세그먼트 삭제: segment={}, expired={}, overSize={}", segment.id(), expired, overSize);
+            } catch (IOException e) {
+                log.warn("응답 보관 세그먼트 삭제 실패: segment={}, error={}", segment.id(), e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        synchronized (writeLock) {
+            if (active != null) {
+                try {
+                    active.seal();
+                } catch (IOException e) {
+                    log.warn("응답 보관 세그먼트 닫기 실패: segment={}, error={}", active.id(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    // writeLock 안에서 호출
+    private void roll() throws IOException {
+        if (active != null) {
+            active.seal();
+        }
+
+        int nextId = segments.isEmpty() ? 1 : segments.lastKey() + 1;
+        Path file = Paths.get(properties.getDir(), String.format("%s%08d%s", SEGMENT_PREFIX, nextId, SEGMENT_SUFFIX));
+        active = ArchiveSegment.create(nextId, file, properties.getSegmentSize().toBytes());
+        segments.put(nextId, active);
+        log.info("응답 보관 세그먼트 생성: segment={}", nextId);
+    }
+
+    // writeLock 안에서 호출 (기동 시 open 제외)
+    private void addToIndex(int segmentId, int offset, ArchiveSegment.Header header) {
+        IndexEntry entry = new IndexEntry(segmentId, offset, header.fetchedAt());
+        for (String id : header.id().split(",")) {
+            index.computeIfAbsent(new ArchiveKey(header.endpoint(), id, header.variant(), header.page()),
+                    key -> new CopyOnWriteArrayList<>()).add(entry);
+        }
+    }
+
+    private Optional<ArchivedResponse> read(IndexEntry entry) {
+        ArchiveSegment segment = segments.get(entry.segmentId());
+        if (segment == null) {
+            return Optional.empty();
+        }
+
+        ArchiveSegment.Payload payload = segment.readPayload(entry.offset());
+        return Optional.of(new ArchivedResponse(decompress(payload), Instant.ofEpochMilli(entry.fetchedAt())));
+    }
+
+    private Optional<ArchivedResponse> replayed(YouTubeEndpoint endpoint, Optional<ArchivedResponse> response) {
+        Counter.builder("youtube.archive.replays")
+                .tag("endpoint", endpoint.getPath())
+                .tag("result", response.isPresent() ? "hit" : "miss")
+                .register(meterRegistry)
+                .increment();
+        return response;
+    }
+
+    private byte[] compress(byte[] body) {
+        Deflater deflater = new Deflater(properties.getCompressionLevel());
+        try {
+            deflater.setInput(body);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] decompress(ArchiveSegment.Payload payload) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(payload.compressed());
+            byte[] body = new byte[payload.rawLength()];
+            int read = 0;
+            while (read < body.length && !inflater.finished()) {
+                read += inflater.inflate(body, read, body.length - read);
+            }
+            return body;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("보관된 응답 압축 해제 실패", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private long totalSize() {
+        long total = 0;
+        for (ArchiveSegment segment : segments.values()) {
+            total += segment.size();
+        }
+        return total;
+    }
+
+    private static String idParam(YouTubeEndpoint endpoint) {
+        return endpoint == YouTubeEndpoint.COMMENT_THREADS ? "videoId" : "id";
+    }
+
+    private static String variantParam(YouTubeEndpoint endpoint) {
+        return endpoint == YouTubeEndpoint.COMMENT_THREADS ? "order" : "part";
+    }
+
+    private static String param(YouTubeRequest request, String name) {
+        Object value = request.getParams().get(name);
+        return value == null ? "" : value.toString();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    // 세그먼트 번호 (segment-00000001.ytar -> 1, 형식이 다르면 -1)
+    private static int segmentId(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            int segmentId = Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+            return segmentId > 0 ? segmentId : -1;
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.knu.sosuso.capstone.youtube.cache;
+
+import java.util.Map;
+
+/**
+ * channels.list 응답 중 서비스에서 쓰는 값만 담은 채널 정보
+ *
+ * @param thumbnailUrls     썸네일 크기(default, medium, high, ...) -> URL
+ * @param uploadsPlaylistId 채널 업로드 재생목록 ID (최신 영상 조회용)
+ */
+public record ChannelMetadata(
+        String channelId,
+        String title,
+        String customUrl,
+        String description,
+        Map<String, String> thumbnailUrls,
+        String subscriberCount,
+        String uploadsPlaylistId
+) {
+
+    /**
+     * 우선순위대로 썸네일 URL 선택 (없으면 빈 문자열)
+     */
+    public String thumbnailUrl(String... preferredSizes) {
+        for (String size : preferredSizes) {
+            String url = thumbnailUrls.get(size);
+            if (url != null && !url.isEmpty()) {
+                return url;
+            }
+        }
+        return "";
+    }
+}
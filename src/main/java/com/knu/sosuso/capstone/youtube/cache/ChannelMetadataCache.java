@@ -0,0 +1,272 @@
+package com.knu.sosuso.capstone.youtube.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.knu.sosuso.capstone.config.ChannelCacheProperties;
+import com.knu.sosuso.capstone.youtube.archive.ResponseArchive;
+import com.knu.sosuso.capstone.youtube.client.YouTubeApiClient;
+import com.knu.sosuso.capstone.youtube.client.YouTubeEndpoint;
+import com.knu.sosuso.capstone.youtube.client.YouTubeRequest;
+import com.knu.sosuso.capstone.youtube.directory.ChannelDirectory;
+import com.knu.sosuso.capstone.youtube.quota.QuotaContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+/**
+ * 채널 메타데이터 공용 캐시 (channelId 기준, TTL + 최대 크기)
+ * 캐시 미스는 바로 호출하지 않고 잠깐 모았다가 channels.list 한 번(최대 50개 ID)으로 조회한다.
+ * 동시에 들어온 여러 요청의 미스도 같은 배치로 묶인다.
+ */
+@Slf4j
+@Component
+public class ChannelMetadataCache {
+
+    public static final int MAX_IDS_PER_REQUEST = 50;
+    private static final String PARTS = "snippet,statistics,contentDetails";
+    private static final String FIELDS =
+            "items(id,snippet(title,customUrl,description,thumbnails),statistics(subscriberCount),contentDetails(relatedPlaylists(uploads)))";
+
+    private final YouTubeApiClient youTubeApiClient;
+    private final ObjectMapper objectMapper;
+    private final TaskScheduler channelBatchScheduler;
+    private final ChannelDirectory channelDirectory;
+    private final ResponseArchive responseArchive;
+    private final Duration batchLinger;
+    private final Cache<String, ChannelMetadata> cache;
+
+    // 조회 대기 중이거나 요청이 나가 있는 채널 ID
+    private final ConcurrentMap<String, CompletableFuture<ChannelMetadata>> inFlight = new ConcurrentHashMap<>();
+    private final Object batchLock = new Object();
+    private List<String> pendingIds = new ArrayList<>();
+
+    public ChannelMetadataCache(YouTubeApiClient youTubeApiClient,
+                                ObjectMapper objectMapper,
+                                ChannelCacheProperties properties,
+                                @Qualifier("channelBatchScheduler") TaskScheduler channelBatchScheduler,
+                                ChannelDirectory channelDirectory,
+                                ResponseArchive responseArchive,
+                                MeterRegistry meterRegistry) {
+        this.youTubeApiClient = youTubeApiClient;
+        this.objectMapper = objectMapper;
+        this.channelBatchScheduler = channelBatchScheduler;
+        this.channelDirectory = channelDirectory;
+        this.responseArchive = responseArchive;
+        this.batchLinger = properties.getBatchLinger();
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getTtl())
+                .maximumSize(properties.getMaximumSize())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "youtube.channel-metadata");
+    }
+
+    /**
+     * 채널 하나 조회 (존재하지 않는 채널이면 null)
+     */
+    public ChannelMetadata get(String channelId) {
+        return getAll(List.of(channelId)).get(channelId);
+    }
+
+    /**
+     * 여러 채널 조회
+     * 존재하지 않는 채널은 결과에서 빠진다.
+     */
+    public Map<String, ChannelMetadata> getAll(Collection<String> channelIds) {
+        Map<String, ChannelMetadata> result = new HashMap<>();
+        Map<String, CompletableFuture<ChannelMetadata>> waiting = new LinkedHashMap<>();
+
+        for (String channelId : channelIds) {
+            ChannelMetadata cached = cache.getIfPresent(channelId);
+            if (cached != null) {
+                result.put(channelId, cached);
+            } else if (!waiting.containsKey(channelId)) {
+                waiting.put(channelId, enqueue(channelId));
+            }
+        }
+
+        for (Map.Entry<String, CompletableFuture<ChannelMetadata>> entry : waiting.entrySet()) {
+            ChannelMetadata metadata = await(entry.getValue());
+            if (metadata != null) {
+                result.put(entry.getKey(), metadata);
+            }
+        }
+
+        return result;
+    }
+
+    public void invalidate(String channelId) {
+        cache.invalidate(channelId);
+    }
+
+    private CompletableFuture<ChannelMetadata> enqueue(String channelId) {
+        CompletableFuture<ChannelMetadata> created = new CompletableFuture<>();
+        CompletableFuture<ChannelMetadata> existing = inFlight.putIfAbsent(channelId, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        // 방금 다른 배치가 채웠을 수 있음
+        ChannelMetadata cached = cache.getIfPresent(channelId);
+        if (cached != null) {
+            inFlight.remove(channelId, created);
+            created.complete(cached);
+            return created;
+        }
+
+        List<String> fullBatch = null;
+        synchronized (batchLock) {
+            pendingIds.add(channelId);
+            if (pendingIds.size() >= MAX_IDS_PER_REQUEST) {
+                fullBatch = pendingIds;
+                pendingIds = new ArrayList<>();
+            } else if (pendingIds.size() == 1) {
+                channelBatchScheduler.schedule(QuotaContext.wrap(this::flushPending), Instant.now().plus(batchLinger));
+            }
+        }
+
+        // 50개가 찼으면 기다리지 않고 바로 조회
+        if (fullBatch != null) {
+            fetchBatch(fullBatch);
+        }
+        return created;
+    }
+
+    private void flushPending() {
+        List<String> batch;
+        synchronized (batchLock) {
+            batch = pendingIds;
+            pendingIds = new ArrayList<>();
+        }
+
+        if (!batch.isEmpty()) {
+            fetchBatch(batch);
+        }
+    }
+
+    private void fetchBatch(List<String> channelIds) {
+        try {
+            // ETag 키가 요청 파라미터로 정해지므로 같은 채널 묶음은 도착 순서와 무관하게 같은 id 목록으로 보냄
+            YouTubeRequest request = YouTubeRequest.of(YouTubeEndpoint.CHANNELS)
+                    .param("part", PARTS)
+                    .param("id", String.join(",", channelIds.stream().sorted().toList()))
+                    .param("fields", FIELDS);
+
+            Map<String, ChannelMetadata> fetched = youTubeApiClient.getConditional(request, this::parseChannels);
+            log.info("채널 정보 일괄 조회: 요청={}, 응답={}", channelIds.size(), fetched.size());
+
+            for (String channelId : channelIds) {
+                ChannelMetadata metadata = fetched.get(channelId);
+                if (metadata != null) {
+                    cache.put(channelId, metadata);
+                }
+                complete(channelId, future -> future.complete(metadata));
+            }
+
+            // 한 번 본 채널은 로컬 디렉터리에 남겨 자동완성/채널 검색에 재사용 (실패해도 조회 결과에는 영향 없음)
+            try {
+                channelDirectory.record(fetched.values());
+            } catch (RuntimeException e) {
+                log.warn("채널 디렉터리 기록 실패: 채널 수={}, error={}", fetched.size(), e.getMessage());
+            }
+        } catch (Exception e) {
+            // 할당량을 모두 쓰면 보관해 둔 응답으로 대신 (캐시에는 넣지 않아 할당량이 돌아오면 다시 조회)
+            if (responseArchive.shouldReplay(e)) {
+                Map<String, ChannelMetadata> archived = replayChannels(channelIds);
+                log.warn("할당량 소진, 보관된 채널 정보로 응답: 요청={}, 응답={}", channelIds.size(), archived.size());
+                for (String channelId : channelIds) {
+                    complete(channelId, future -> future.complete(archived.get(channelId)));
+                }
+                return;
+            }
+
+            log.error("채널 정보 일괄 조회 실패: 요청={}, error={}", channelIds.size(), e.getMessage());
+            RuntimeException failure = e instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new RuntimeException("채널 정보 조회 중 오류 발생", e);
+
+            for (String channelId : channelIds) {
+                complete(channelId, future -> future.completeExceptionally(failure));
+            }
+        }
+    }
+
+    private Map<String, ChannelMetadata> replayChannels(List<String> channelIds) {
+        Map<String, ChannelMetadata> channels = new HashMap<>();
+        for (String channelId : channelIds) {
+            responseArchive.latest(YouTubeEndpoint.CHANNELS, channelId, PARTS, null).ifPresent(archived -> {
+                try {
+                    ChannelMetadata metadata = parseChannels(new String(archived.body(), StandardCharsets.UTF_8)).get(channelId);
+                    if (metadata != null) {
+                        channels.put(channelId, metadata);
+                    }
+                } catch (IOException e) {
+                    log.warn("보관된 채널 응답 파싱 실패: channelId={}, error={}", channelId, e.getMessage());
+                }
+            });
+        }
+        return channels;
+    }
+
+    private void complete(String channelId, Consumer<CompletableFuture<ChannelMetadata>> completion) {
+        CompletableFuture<ChannelMetadata> future = inFlight.remove(channelId);
+        if (future != null) {
+            completion.accept(future);
+        }
+    }
+
+    private ChannelMetadata await(CompletableFuture<ChannelMetadata> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Map<String, ChannelMetadata> parseChannels(String json) throws IOException {
+        Map<String, ChannelMetadata> channels = new HashMap<>();
+        JsonNode items = objectMapper.readTree(json).path("items");
+
+        for (JsonNode item : items) {
+            JsonNode snippet = item.path("snippet");
+
+            Map<String, String> thumbnailUrls = new HashMap<>();
+            snippet.path("thumbnails").fields().forEachRemaining(thumbnail ->
+                    thumbnailUrls.put(thumbnail.getKey(), thumbnail.getValue().path("url").asText()));
+
+            JsonNode statistics = item.path("statistics");
+            ChannelMetadata metadata = new ChannelMetadata(
+                    item.path("id").asText(),
+                    snippet.path("title").asText(),
+                    snippet.path("customUrl").asText(),
+                    snippet.path("description").asText(),
+                    Map.copyOf(thumbnailUrls),
+                    statistics.has("subscriberCount") ? statistics.get("subscriberCount").asText() : "0",
+                    item.path("contentDetails").path("relatedPlaylists").path("uploads").asText("")
+            );
+            channels.put(metadata.channelId(), metadata);
+        }
+
+        return Map.copyOf(channels);
+    }
+}
@@ -0,0 +1,57 @@
+package com.knu.sosuso.capstone.youtube.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.knu.sosuso.capstone.config.ChannelSearchCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * 채널 검색 결과 공용 캐시 (정규화한 검색어 -> search.list가 돌려준 채널 ID 순서)
+ * 사용자와 무관한 검색 결과만 저장하고, 관심 채널 여부는 요청마다 따로 붙인다.
+ * 채널 상세 정보는 ChannelMetadataCache가 따로 관리하므로 여기서는 ID 목록만 가진다.
+ */
+@Component
+public class ChannelSearchCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Cache<String, List<String>> cache;
+
+    public ChannelSearchCache(ChannelSearchCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getTtl())
+                .maximumSize(properties.getMaximumSize())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "youtube.channel-search");
+    }
+
+    /**
+     * 캐시에 있으면 그대로, 없으면 loader로 검색해 저장
+     * 같은 검색어로 동시에 들어온 요청은 한 번만 검색하고, loader가 예외를 던지면 아무것도 저장하지 않는다.
+     */
+    public List<String> get(String query, Function<String, List<String>> loader) {
+        return cache.get(normalize(query), key -> List.copyOf(loader.apply(query)));
+    }
+
+    public void invalidate(String query) {
+        cache.invalidate(normalize(query));
+    }
+
+    /**
+     * 검색어 정규화: 앞뒤 공백 제거, 연속 공백 하나로, NFKC (한글 자모 조합형/분리형, 전각 문자 통일), 소문자
+     */
+    public static String normalize(String query) {
+        String normalized = Normalizer.normalize(query.trim(), Normalizer.Form.NFKC);
+        return WHITESPACE.matcher(normalized).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
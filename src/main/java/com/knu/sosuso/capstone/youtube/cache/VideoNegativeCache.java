@@ -0,0 +1,100 @@
+package com.knu.sosuso.capstone.youtube.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.knu.sosuso.capstone.config.VideoNegativeCacheProperties;
+import com.knu.sosuso.capstone.youtube.client.YouTubeEndpoint;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 실패한 영상 조회 결과 캐시 (apiVideoId -> 실패 사유, 사유별 TTL)
+ * 같은 영상을 다시 요청하면 YouTube 호출 없이 바로 같은 결과를 돌려준다.
+ * 존재하지 않음 / 접근 금지는 영상 조회와 댓글 조회를 모두 막고, 댓글 비활성화는 댓글 조회만 막는다.
+ */
+@Slf4j
+@Component
+public class VideoNegativeCache {
+
+    public enum Reason {
+        NOT_FOUND,
+        FORBIDDEN,
+        COMMENTS_DISABLED
+    }
+
+    private final VideoNegativeCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, Reason> cache;
+
+    public VideoNegativeCache(VideoNegativeCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.cache = Caffeine.newBuilder()
+                .expireAfter(Expiry.<String, Reason>writing((videoId, reason) -> ttl(reason)))
+                .maximumSize(properties.getMaximumSize())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "youtube.video-negative");
+    }
+
+    /**
+     * 영상 조회를 생략할 사유 (존재하지 않음 / 접근 금지)
+     */
+    public Optional<Reason> videoUnavailable(String apiVideoId) {
+        Reason reason = cache.getIfPresent(apiVideoId);
+        if (reason == null || reason == Reason.COMMENTS_DISABLED) {
+            return Optional.empty();
+        }
+        avoided(reason, YouTubeEndpoint.VIDEOS);
+        return Optional.of(reason);
+    }
+
+    /**
+     * 댓글 조회를 생략할 사유 (댓글 비활성화 포함 모든 사유)
+     */
+    public Optional<Reason> commentsUnavailable(String apiVideoId) {
+        Reason reason = cache.getIfPresent(apiVideoId);
+        if (reason == null) {
+            return Optional.empty();
+        }
+        avoided(reason, YouTubeEndpoint.COMMENT_THREADS);
+        return Optional.of(reason);
+    }
+
+    public void record(String apiVideoId, Reason reason) {
+        // 영상 자체가 없다는 기록을 댓글 비활성화로 덮어쓰지 않음
+        Reason stored = cache.asMap().merge(apiVideoId, reason,
+                (existing, incoming) -> incoming == Reason.COMMENTS_DISABLED ? existing : incoming);
+        if (stored == reason) {
+            log.info("실패한 영상 조회 기록: apiVideoId={}, reason={}, ttl={}", apiVideoId, reason, ttl(reason));
+        }
+    }
+
+    public void invalidate(String apiVideoId) {
+        cache.invalidate(apiVideoId);
+    }
+
+    private void avoided(Reason reason, YouTubeEndpoint endpoint) {
+        Counter.builder("youtube.video-negative.avoided")
+                .tag("reason", reason.name().toLowerCase())
+                .tag("endpoint", endpoint.getPath())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Duration ttl(Reason reason) {
+        return switch (reason) {
+            case NOT_FOUND -> properties.getNotFoundTtl();
+            case FORBIDDEN -> properties.getForbiddenTtl();
+            case COMMENTS_DISABLED -> properties.getCommentsDisabledTtl();
+        };
+    }
+}
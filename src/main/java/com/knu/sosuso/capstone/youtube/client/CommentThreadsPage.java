@@ -0,0 +1,17 @@
+package com.knu.sosuso.capstone.youtube.client;
+
+import com.knu.sosuso.capstone.dto.response.CommentApiResponse.CommentData;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * commentThreads / comments 응답 한 페이지
+ * replyCounts: 최상위 댓글 ID -> 전체 답글 수 (comments 응답에서는 비어 있음)
+ */
+public record CommentThreadsPage(
+        List<CommentData> comments,
+        String nextPageToken,
+        Map<String, Integer> replyCounts
+) {
+}
@@ -0,0 +1,214 @@
+package com.knu.sosuso.capstone.youtube.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knu.sosuso.capstone.dto.response.CommentApiResponse.CommentData;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * commentThreads 응답 스트리밍 디코더
+ * 응답 본문을 문자열/JsonNode 트리로 만들지 않고 JsonParser로 읽으면서 바로 CommentData를 만든다.
+ */
+@Component
+public class CommentThreadsPageDecoder {
+
+    // 디코더가 읽는 필드만 요청 (YouTube partial response)
+    public static final String FIELDS =
+            "nextPageToken,items(snippet(totalReplyCount,topLevelComment(id,snippet(authorDisplayName,textDisplay,likeCount,publishedAt))))";
+
+    // comments.list?parentId 응답용
+    public static final String REPLY_FIELDS =
+            "nextPageToken,items(id,snippet(authorDisplayName,textDisplay,likeCount,publishedAt))";
+
+    private final JsonFactory jsonFactory;
+
+    public CommentThreadsPageDecoder(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    public CommentThreadsPage decode(InputStream body) throws IOException {
+        return decode(body, nextPageToken -> {
+        });
+    }
+
+    /**
+     * nextPageToken을 읽는 즉시 listener에 넘긴다.
+     * YouTube는 nextPageToken을 items보다 먼저 내려주므로, 호출 측은 이 페이지의 댓글을 다 읽기 전에 다음 페이지 요청을 시작할 수 있다.
+     */
+    public CommentThreadsPage decode(InputStream body, Consumer<String> nextPageTokenListener) throws IOException {
+        List<CommentData> comments = new ArrayList<>();
+        Map<String, Integer> replyCounts = new HashMap<>();
+        String nextPageToken = null;
+
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return new CommentThreadsPage(comments, null, replyCounts);
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if ("nextPageToken".equals(field)) {
+                    nextPageToken = parser.getValueAsString();
+                    nextPageTokenListener.accept(nextPageToken);
+                } else if ("items".equals(field) && value == JsonToken.START_ARRAY) {
+                    readThreads(parser, comments, replyCounts);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        return new CommentThreadsPage(comments, nextPageToken, replyCounts);
+    }
+
+    /**
+     * comments.list?parentId 응답 디코딩 (items[]가 comment 리소스)
+     */
+    public CommentThreadsPage decodeReplies(InputStream body, String parentId) throws IOException {
+        List<CommentData> replies = new ArrayList<>();
+        String nextPageToken = null;
+
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return new CommentThreadsPage(replies, null, Map.of());
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if ("nextPageToken".equals(field)) {
+                    nextPageToken = parser.getValueAsString();
+                } else if ("items".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        if (parser.currentToken() != JsonToken.START_OBJECT) {
+                            parser.skipChildren();
+                            continue;
+                        }
+                        CommentData reply = readComment(parser, parentId);
+                        if (reply != null) {
+                            replies.add(reply);
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        return new CommentThreadsPage(replies, nextPageToken, Map.of());
+    }
+
+    private void readThreads(JsonParser parser, List<CommentData> comments,
+                             Map<String, Integer> replyCounts) throws IOException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+
+            CommentData comment = readThread(parser, replyCounts);
+            if (comment != null) {
+                comments.add(comment);
+            }
+        }
+    }
+
+    // items[] 하나: { "snippet": { "totalReplyCount": n, "topLevelComment": { ... } } }
+    private CommentData readThread(JsonParser parser, Map<String, Integer> replyCounts) throws IOException {
+        CommentData comment = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if ("snippet".equals(field) && value == JsonToken.START_OBJECT) {
+                comment = readThreadSnippet(parser, replyCounts);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return comment;
+    }
+
+    private CommentData readThreadSnippet(JsonParser parser, Map<String, Integer> replyCounts) throws IOException {
+        CommentData comment = null;
+        int totalReplyCount = 0;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if ("topLevelComment".equals(field) && value == JsonToken.START_OBJECT) {
+                comment = readComment(parser, null);
+            } else if ("totalReplyCount".equals(field)) {
+                totalReplyCount = parser.getValueAsInt(0);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (comment != null && totalReplyCount > 0) {
+            replyCounts.put(comment.id(), totalReplyCount);
+        }
+        return comment;
+    }
+
+    /**
+     * comment 리소스 하나 읽기: { "id": ..., "snippet": { ... } }
+     * snippet이 없으면 null
+     */
+    private CommentData readComment(JsonParser parser, String parentId) throws IOException {
+        String commentId = "";
+        String authorName = "";
+        String commentText = "";
+        int likeCount = 0;
+        String publishedAt = "";
+        boolean hasSnippet = false;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if ("id".equals(field)) {
+                commentId = parser.getValueAsString("");
+            } else if ("snippet".equals(field) && value == JsonToken.START_OBJECT) {
+                hasSnippet = true;
+
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String snippetField = parser.currentName();
+                    parser.nextToken();
+
+                    switch (snippetField) {
+                        case "authorDisplayName" -> authorName = parser.getValueAsString("");
+                        case "textDisplay" -> commentText = parser.getValueAsString("");
+                        case "likeCount" -> likeCount = parser.getValueAsInt(0);
+                        case "publishedAt" -> publishedAt = parser.getValueAsString("");
+                        default -> parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (!hasSnippet) {
+            return null;
+        }
+
+        return new CommentData(commentId, authorName, commentText, likeCount, null, publishedAt, parentId);
+    }
+}
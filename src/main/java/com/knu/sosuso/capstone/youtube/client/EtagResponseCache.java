@@ -0,0 +1,65 @@
+package com.knu.sosuso.capstone.youtube.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * YouTube 응답 ETag + 파싱 결과 저장소 (요청 URL 기준, API 키 제외)
+ * 304 Not Modified를 받으면 저장해 둔 파싱 결과를 그대로 돌려준다.
+ */
+@Component
+public class EtagResponseCache {
+
+    private static final long MAXIMUM_SIZE = 10_000;
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofDays(2);
+
+    private final Cache<String, Entry> entries = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+            .build();
+
+    private final MeterRegistry meterRegistry;
+
+    public EtagResponseCache(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Entry get(String requestKey) {
+        return entries.getIfPresent(requestKey);
+    }
+
+    public void put(String requestKey, Entry entry) {
+        entries.put(requestKey, entry);
+    }
+
+    /**
+     * 304 응답: 다시 받지 않은 본문 크기와 건너뛴 파싱 시간을 함께 기록
+     */
+    public void recordHit(YouTubeEndpoint endpoint, Entry entry) {
+        counter("youtube.etag.requests", endpoint, "hit").increment();
+        counter("youtube.etag.saved.bytes", endpoint, "hit").increment(entry.bodyLength());
+        counter("youtube.etag.saved.parse.nanos", endpoint, "hit").increment(entry.parseNanos());
+    }
+
+    /**
+     * 200 응답: ETag를 보냈는데 변경된 경우(miss)와 저장된 ETag가 없던 경우(uncached)를 구분
+     */
+    public void recordMiss(YouTubeEndpoint endpoint, boolean conditional) {
+        counter("youtube.etag.requests", endpoint, conditional ? "miss" : "uncached").increment();
+    }
+
+    private Counter counter(String name, YouTubeEndpoint endpoint, String result) {
+        return Counter.builder(name)
+                .tag("endpoint", endpoint.name())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public record Entry(String etag, Object value, long bodyLength, long parseNanos) {
+    }
+}
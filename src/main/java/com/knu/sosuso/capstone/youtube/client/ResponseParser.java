@@ -0,0 +1,13 @@
+package com.knu.sosuso.capstone.youtube.client;
+
+import java.io.IOException;
+
+/**
+ * YouTube 응답 본문(JSON)을 서비스에서 쓰는 객체로 변환
+ * 결과는 조건부 요청(ETag) 캐시에 보관되어 304 응답 시 재사용되므로 불변 객체여야 한다.
+ */
+@FunctionalInterface
+public interface ResponseParser<T> {
+
+    T parse(String body) throws IOException;
+}
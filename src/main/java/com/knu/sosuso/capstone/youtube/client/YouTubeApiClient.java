@@ -0,0 +1,287 @@
+package com.knu.sosuso.capstone.youtube.client;
+
+import com.knu.sosuso.capstone.config.ApiConfig;
+import com.knu.sosuso.capstone.config.PooledRestTemplateFactory;
+import com.knu.sosuso.capstone.resilience.CallPolicy;
+import com.knu.sosuso.capstone.resilience.OutboundGuard;
+import com.knu.sosuso.capstone.youtube.archive.ResponseArchive;
+import com.knu.sosuso.capstone.youtube.quota.ApiKeyPool;
+import com.knu.sosuso.capstone.youtube.quota.QuotaLedger;
+import com.knu.sosuso.capstone.youtube.stub.YouTubeFixtureStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * YouTube Data API 공용 클라이언트
+ * 엔드포인트별 커넥션 풀을 사용하며, 모든 YouTube 호출은 이 클라이언트를 거친다.
+ * 요청마다 할당량 사용량을 QuotaLedger에 기록한다 (실패한 요청도 할당량이 차감되므로 호출 전에 기록).
+ * 호출 주소는 youtube.api.base-url을 따르며, youtube.stub.record=true면 성공 응답을 fixture로 녹화한다.
+ * 모든 호출은 엔드포인트별 OutboundGuard(서킷 브레이커/재시도/헤지)를 거치며, 재시도와 헤지 요청도 할당량에 기록된다.
+ * API 키는 요청마다 ApiKeyPool에서 고르고, 할당량 초과 응답을 받으면 그 키를 제외한 뒤 다른 키로 다시 보낸다.
+ * videos / channels / commentThreads 성공 응답은 ResponseArchive에 원본 그대로 보관한다.
+ */
+@Slf4j
+@Component
+public class YouTubeApiClient {
+
+    private final ApiConfig apiConfig;
+    private final ApiKeyPool apiKeyPool;
+    private final QuotaLedger quotaLedger;
+    private final EtagResponseCache etagResponseCache;
+    private final YouTubeFixtureStore fixtureStore;
+    private final OutboundGuard outboundGuard;
+    private final ResponseArchive responseArchive;
+    private final Map<YouTubeEndpoint, RestTemplate> restTemplates = new EnumMap<>(YouTubeEndpoint.class);
+
+    public YouTubeApiClient(ApiConfig apiConfig, ApiKeyPool apiKeyPool, PooledRestTemplateFactory restTemplateFactory,
+                            QuotaLedger quotaLedger, EtagResponseCache etagResponseCache,
+                            YouTubeFixtureStore fixtureStore, OutboundGuard outboundGuard,
+                            ResponseArchive responseArchive) {
+        this.apiConfig = apiConfig;
+        this.apiKeyPool = apiKeyPool;
+        this.quotaLedger = quotaLedger;
+        this.etagResponseCache = etagResponseCache;
+        this.fixtureStore = fixtureStore;
+        this.outboundGuard = outboundGuard;
+        this.responseArchive = responseArchive;
+        for (YouTubeEndpoint endpoint : YouTubeEndpoint.values()) {
+            restTemplates.put(endpoint, restTemplateFactory.create(endpoint.getClientName()));
+        }
+    }
+
+    /**
+     * GET 요청 후 응답 본문(JSON) 반환
+     *
+     * @param request 엔드포인트와 쿼리 파라미터
+     * @return YouTube API로부터 받은 JSON 응답
+     */
+    public String get(YouTubeRequest request) {
+        String body = outboundGuard.call(guardName(request), callPolicy(request, CallPolicy.READ), () -> withApiKey(request,
+                apiKey -> restTemplates.get(request.getEndpoint()).getForObject(buildUrl(request, apiKey), String.class)));
+        record(request, body);
+        return body;
+    }
+
+    /**
+     * GET 요청 후 응답 스트림을 바로 디코딩 (본문을 문자열로 만들지 않음)
+     * 디코더가 읽는 도중 다음 페이지 선요청 등을 시작할 수 있어 헤지하지 않고 재시도만 한다.
+     *
+     * @param request           엔드포인트와 쿼리 파라미터
+     * @param responseExtractor 응답 디코더
+     * @return 디코딩 결과
+     */
+    public <T> T get(YouTubeRequest request, ResponseExtractor<T> responseExtractor) {
+        return outboundGuard.call(guardName(request), callPolicy(request, CallPolicy.READ_NO_HEDGE),
+                () -> withApiKey(request, apiKey -> execute(request, apiKey, responseExtractor)));
+    }
+
+    private <T> T execute(YouTubeRequest request, String apiKey, ResponseExtractor<T> responseExtractor) {
+        if (fixtureStore.isRecording() || responseArchive.accepts(request)) {
+            // 녹화/보관할 때만 본문을 버퍼링해 저장한 뒤 같은 바이트로 디코딩
+            return restTemplates.get(request.getEndpoint())
+                    .execute(buildUrl(request, apiKey), HttpMethod.GET, null, response -> {
+                        byte[] body = response.getBody().readAllBytes();
+                        record(request, body);
+                        return responseExtractor.extractData(new BufferedResponse(response, body));
+                    });
+        }
+
+        return restTemplates.get(request.getEndpoint())
+                .execute(buildUrl(request, apiKey), HttpMethod.GET, null, responseExtractor);
+    }
+
+    /**
+     * 조건부 GET (If-None-Match)
+     * 같은 요청의 ETag가 저장되어 있으면 함께 보내고, 304를 받으면 저장해 둔 파싱 결과를 재사용한다.
+     *
+     * @param request 엔드포인트와 쿼리 파라미터
+     * @param parser  200 응답 본문 파서 (결과는 불변이어야 함)
+     * @return 파싱 결과
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getConditional(YouTubeRequest request, ResponseParser<T> parser) {
+        String requestKey = buildRequestKey(request);
+        EtagResponseCache.Entry cached = etagResponseCache.get(requestKey);
+
+        HttpHeaders headers = new HttpHeaders();
+        if (cached != null) {
+            headers.setIfNoneMatch(cached.etag());
+        }
+
+        ResponseEntity<String> response = outboundGuard.call(guardName(request), callPolicy(request, CallPolicy.READ), () -> withApiKey(request,
+                apiKey -> restTemplates.get(request.getEndpoint())
+                        .exchange(buildUrl(request, apiKey), HttpMethod.GET, new HttpEntity<>(headers), String.class)));
+
+        if (cached != null && response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            etagResponseCache.recordHit(request.getEndpoint(), cached);
+            return (T) cached.value();
+        }
+
+        etagResponseCache.recordMiss(request.getEndpoint(), cached != null);
+
+        String body = response.getBody();
+        record(request, body);
+        long parseStart = System.nanoTime();
+        T value;
+        try {
+            value = parser.parse(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("YouTube 응답 파싱 실패: " + request.getEndpoint().getPath(), e);
+        }
+        long parseNanos = System.nanoTime() - parseStart;
+
+        String etag = response.getHeaders().getETag();
+        if (etag != null && body != null && value != null) {
+            etagResponseCache.put(requestKey, new EtagResponseCache.Entry(
+                    etag, value, body.getBytes(StandardCharsets.UTF_8).length, parseNanos));
+        }
+        return value;
+    }
+
+    /**
+     * 키 풀에서 키를 골라 호출 (할당량 기록 포함)
+     * quotaExceeded / rateLimitExceeded면 그 키를 제외하고 남은 키로 다시 보낸다.
+     */
+    private <T> T withApiKey(YouTubeRequest request, Function<String, T> call) {
+        for (int attempt = 1; ; attempt++) {
+            String apiKey = apiKeyPool.acquire();
+            quotaLedger.record(request.getEndpoint(), apiKey);
+
+            try {
+                return call.apply(apiKey);
+            } catch (HttpClientErrorException e) {
+                String reason = quotaErrorReason(e);
+                if (reason == null) {
+                    throw e;
+                }
+                apiKeyPool.eject(apiKey, reason);
+                if (attempt >= apiKeyPool.size()) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * 할당량 / 호출 빈도 초과 오류의 사유 (그 외 오류면 null)
+     */
+    public static String quotaErrorReason(HttpClientErrorException e) {
+        int status = e.getStatusCode().value();
+        if (status != 403 && status != 429) {
+            return null;
+        }
+
+        String body = e.getResponseBodyAsString();
+        if (body.contains("quotaExceeded") || body.contains("dailyLimitExceeded")) {
+            return "quotaExceeded";
+        }
+        if (body.contains("rateLimitExceeded")) {
+            return "rateLimitExceeded";
+        }
+        return null;
+    }
+
+    private String buildUrl(YouTubeRequest request, String apiKey) {
+        UriComponentsBuilder builder = UriComponentsBuilder
+                .fromUriString(apiConfig.getBaseUrl() + "/" + request.getEndpoint().getPath());
+
+        for (Map.Entry<String, Object> param : request.getParams().entrySet()) {
+            builder.queryParam(param.getKey(), param.getValue());
+        }
+        builder.queryParam("key", apiKey);
+
+        return builder.build(false).toUriString();
+    }
+
+    /**
+     * 엔드포인트별 장애 대응 방식
+     * 재시도/헤지 요청도 할당량이 차감되므로 비싼 엔드포인트(search 100단위 등)는 한 번만 호출한다.
+     */
+    private CallPolicy callPolicy(YouTubeRequest request, CallPolicy readPolicy) {
+        return request.getEndpoint().getQuotaCost() > 1 ? CallPolicy.SINGLE : readPolicy;
+    }
+
+    private String guardName(YouTubeRequest request) {
+        return "youtube." + request.getEndpoint().getPath();
+    }
+
+    private void record(YouTubeRequest request, String body) {
+        if (body != null) {
+            record(request, body.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void record(YouTubeRequest request, byte[] body) {
+        if (fixtureStore.isRecording()) {
+            fixtureStore.save(request.getEndpoint().getPath(), request.getParams(), new String(body, StandardCharsets.UTF_8));
+        }
+        responseArchive.append(request, body);
+    }
+
+    // ETag 저장 키 (API 키는 제외)
+    private String buildRequestKey(YouTubeRequest request) {
+        StringBuilder key = new StringBuilder(request.getEndpoint().getPath());
+        for (Map.Entry<String, Object> param : request.getParams().entrySet()) {
+            key.append('&').append(param.getKey()).append('=').append(param.getValue());
+        }
+        return key.toString();
+    }
+
+    /**
+     * 이미 읽은 본문을 다시 제공하는 응답 (녹화 시 사용)
+     */
+    private static final class BufferedResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final byte[] body;
+
+        private BufferedResponse(ClientHttpResponse delegate, byte[] body) {
+            this.delegate = delegate;
+            this.body = body;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.knu.sosuso.capstone.youtube.client;
+
+import lombok.Getter;
+
+/**
+ * YouTube Data API 엔드포인트
+ * 엔드포인트마다 별도의 HTTP 클라이언트 설정(http-client.clients.{clientName})을 사용한다.
+ * 클라이언트마다 연결 풀과 풀 지표가 따로 만들어지므로 clientName은 엔드포인트끼리 겹치지 않게 한다.
+ * quotaCost는 요청 1회당 차감되는 일일 할당량 단위 (YouTube Data API 기준)
+ */
+@Getter
+public enum YouTubeEndpoint {
+
+    VIDEOS("videos", "youtube-videos", 1),
+    CHANNELS("channels", "youtube-channels", 1),
+    COMMENT_THREADS("commentThreads", "youtube-comments", 1),
+    COMMENTS("comments", "youtube-replies", 1),
+    SEARCH("search", "youtube-search", 100),
+    PLAYLIST_ITEMS("playlistItems", "youtube-playlists", 1);
+
+    private final String path;
+    private final String clientName;
+    private final int quotaCost;
+
+    YouTubeEndpoint(String path, String clientName, int quotaCost) {
+        this.path = path;
+        this.clientName = clientName;
+        this.quotaCost = quotaCost;
+    }
+}
@@ -0,0 +1,30 @@
+package com.knu.sosuso.capstone.youtube.client;
+
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * YouTube Data API 요청 (엔드포인트 + 쿼리 파라미터)
+ * API 키는 YouTubeApiClient에서 붙인다.
+ */
+@Getter
+public class YouTubeRequest {
+
+    private final YouTubeEndpoint endpoint;
+    private final Map<String, Object> params = new LinkedHashMap<>();
+
+    private YouTubeRequest(YouTubeEndpoint endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public static YouTubeRequest of(YouTubeEndpoint endpoint) {
+        return new YouTubeRequest(endpoint);
+    }
+
+    public YouTubeRequest param(String name, Object value) {
+        params.put(name, value);
+        return this;
+    }
+}
@@ -0,0 +1,198 @@
+package com.knu.sosuso.capstone.youtube.directory;
+
+import com.knu.sosuso.capstone.domain.ChannelDirectoryEntry;
+import com.knu.sosuso.capstone.repository.ChannelDirectoryRepository;
+import com.knu.sosuso.capstone.youtube.cache.ChannelMetadata;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 로컬 채널 디렉터리
+ * channels.list로 받아 온 채널을 모두 모아 두고 (메모리 색인 + channel_directory 테이블),
+ * 자동완성과 채널 검색이 search.list(100단위) 없이 바로 응답할 수 있게 한다.
+ * 새로 본 채널은 즉시 색인하고, DB에는 주기적으로 모아서 반영한다.
+ */
+@Slf4j
+@Component
+public class ChannelDirectory {
+
+    private final ChannelDirectoryRepository channelDirectoryRepository;
+    private final ChannelIndex index = new ChannelIndex();
+    private final ConcurrentMap<String, ChannelMetadata> channels = new ConcurrentHashMap<>();
+
+    // 아직 DB에 반영하지 않은 채널
+    private final ConcurrentMap<String, ChannelMetadata> unflushed = new ConcurrentHashMap<>();
+
+    public ChannelDirectory(ChannelDirectoryRepository channelDirectoryRepository, MeterRegistry meterRegistry) {
+        this.channelDirectoryRepository = channelDirectoryRepository;
+
+        Gauge.builder("youtube.channel-directory.size", index, ChannelIndex::size).register(meterRegistry);
+    }
+
+    /**
+     * 디렉터리 검색 결과
+     *
+     * @param rank 3: 이름/핸들 접두어, 2: 단어 접두어, 1: 부분 일치
+     */
+    public record DirectoryMatch(ChannelMetadata channel, int rank) {
+
+        // 검색어로 시작하는 일치 (부분 일치는 search.list 생략 판단에 쓰지 않음)
+        public boolean isGood() {
+            return rank >= 2;
+        }
+    }
+
+    /**
+     * 조회한 채널을 디렉터리에 반영
+     */
+    public void record(Collection<ChannelMetadata> fetched) {
+        for (ChannelMetadata channel : fetched) {
+            if (channel.channelId() == null || channel.channelId().isEmpty()) {
+                continue;
+            }
+            put(channel);
+            unflushed.put(channel.channelId(), channel);
+        }
+    }
+
+    /**
+     * 채널 이름 / 핸들로 검색 (순위 높은 순, 같으면 구독자 많은 순)
+     */
+    public List<DirectoryMatch> search(String query, int limit) {
+        if (query == null || query.isBlank() || limit <= 0) {
+            return List.of();
+        }
+
+        List<DirectoryMatch> matches = new ArrayList<>();
+        for (ChannelIndex.Match match : index.search(query, limit)) {
+            ChannelMetadata channel = channels.get(match.channelId());
+            if (channel != null) {
+                matches.add(new DirectoryMatch(channel, match.rank()));
+            }
+        }
+        return matches;
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        List<ChannelDirectoryEntry> entries = channelDirectoryRepository.findAll();
+        for (ChannelDirectoryEntry entry : entries) {
+            // 기동 중에 이미 새로 조회한 채널은 DB 값으로 덮어쓰지 않음
+            if (channels.putIfAbsent(entry.getApiChannelId(), toMetadata(entry)) != null) {
+                continue;
+            }
+            index.put(ChannelIndex.indexed(entry.getApiChannelId(), entry.getTitle(), entry.getCustomUrl(),
+                    entry.getSubscriberCount()));
+        }
+        log.info("채널 디렉터리 색인 완료: channels={}", entries.size());
+    }
+
+    @Scheduled(fixedDelayString = "${youtube.channel-directory.flush-interval-ms:10000}")
+    public void flush() {
+        if (unflushed.isEmpty()) {
+            return;
+        }
+
+        Map<String, ChannelMetadata> batch = new HashMap<>();
+        for (String channelId : List.copyOf(unflushed.keySet())) {
+            ChannelMetadata channel = unflushed.remove(channelId);
+            if (channel != null) {
+                batch.put(channelId, channel);
+            }
+        }
+
+        try {
+            Map<String, ChannelDirectoryEntry> existing = channelDirectoryRepository.findByApiChannelIdIn(batch.keySet())
+                    .stream()
+                    .collect(Collectors.toMap(ChannelDirectoryEntry::getApiChannelId, Function.identity()));
+
+            List<ChannelDirectoryEntry> entries = new ArrayList<>();
+            batch.forEach((channelId, channel) -> {
+                ChannelDirectoryEntry entry = existing.get(channelId);
+                if (entry == null) {
+                    entries.add(toEntry(channel));
+                } else {
+                    entry.setTitle(channel.title());
+                    entry.setCustomUrl(channel.customUrl());
+                    entry.setDescription(channel.description());
+                    entry.setThumbnailUrl(channel.thumbnailUrl("medium", "default", "high"));
+                    entry.setSubscriberCount(parseSubscriberCount(channel.subscriberCount()));
+                    entry.setUploadsPlaylistId(channel.uploadsPlaylistId());
+                    entries.add(entry);
+                }
+            });
+
+            channelDirectoryRepository.saveAll(entries);
+            log.debug("채널 디렉터리 반영: channels={}", entries.size());
+        } catch (Exception e) {
+            // 다음 주기에 다시 반영 (그 사이 더 새로운 정보가 들어왔으면 그쪽을 유지)
+            batch.forEach(unflushed::putIfAbsent);
+            log.error("채널 디렉터리 반영 실패: channels={}, error={}", batch.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void put(ChannelMetadata channel) {
+        channels.put(channel.channelId(), channel);
+        index.put(ChannelIndex.indexed(channel.channelId(), channel.title(), channel.customUrl(),
+                parseSubscriberCount(channel.subscriberCount())));
+    }
+
+    private ChannelDirectoryEntry toEntry(ChannelMetadata channel) {
+        return ChannelDirectoryEntry.builder()
+                .apiChannelId(channel.channelId())
+                .title(channel.title())
+                .customUrl(channel.customUrl())
+                .description(channel.description())
+                .thumbnailUrl(channel.thumbnailUrl("medium", "default", "high"))
+                .subscriberCount(parseSubscriberCount(channel.subscriberCount()))
+                .uploadsPlaylistId(channel.uploadsPlaylistId())
+                .build();
+    }
+
+    // DB에는 대표 썸네일 하나만 있으므로 medium으로 복원
+    private ChannelMetadata toMetadata(ChannelDirectoryEntry entry) {
+        String thumbnailUrl = entry.getThumbnailUrl();
+        return new ChannelMetadata(
+                entry.getApiChannelId(),
+                entry.getTitle(),
+                entry.getCustomUrl(),
+                entry.getDescription(),
+                thumbnailUrl == null || thumbnailUrl.isEmpty() ? Map.of() : Map.of("medium", thumbnailUrl),
+                String.valueOf(entry.getSubscriberCount()),
+                entry.getUploadsPlaylistId() == null ? "" : entry.getUploadsPlaylistId()
+        );
+    }
+
+    private long parseSubscriberCount(String value) {
+        try {
+            return value != null && !value.isEmpty() ? Long.parseLong(value) : 0L;
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.knu.sosuso.capstone.youtube.directory;
+
+import com.knu.sosuso.capstone.youtube.cache.ChannelSearchCache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 채널 이름 / 핸들 메모리 색인 (1-gram + 2-gram 역색인)
+ * 한글은 띄어쓰기 없이 붙여 쓰는 경우가 많아 단어가 아닌 글자 단위 n-gram으로 색인하고,
+ * 검색어의 모든 n-gram을 가진 후보만 실제 문자열로 다시 확인한다.
+ * 검색은 잠금 없이 읽고, 갱신만 하나씩 수행한다.
+ */
+class ChannelIndex {
+
+    private final ConcurrentMap<String, IndexedChannel> channels = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Set<String>> postings = new ConcurrentHashMap<>();
+
+    /**
+     * 색인 대상 채널
+     *
+     * @param name   정규화한 채널 이름 (단어 접두어 판단용, 공백 유지)
+     * @param handle 정규화한 핸들 ('@' 제외)
+     */
+    record IndexedChannel(String channelId, String name, String handle, long subscriberCount) {
+
+        String compactName() {
+            return name.replace(" ", "");
+        }
+    }
+
+    /**
+     * 검색 결과
+     *
+     * @param rank 3: 이름/핸들 접두어, 2: 단어 접두어, 1: 부분 일치
+     */
+    record Match(String channelId, int rank, long subscriberCount) {
+    }
+
+    static IndexedChannel indexed(String channelId, String title, String customUrl, long subscriberCount) {
+        String name = title == null ? "" : ChannelSearchCache.normalize(title);
+        return new IndexedChannel(channelId, name, normalizeHandle(customUrl), subscriberCount);
+    }
+
+    synchronized void put(IndexedChannel channel) {
+        IndexedChannel previous = channels.put(channel.channelId(), channel);
+        Set<String> grams = grams(channel);
+
+        if (previous != null) {
+            for (String gram : grams(previous)) {
+                if (!grams.contains(gram)) {
+                    Set<String> ids = postings.get(gram);
+                    if (ids != null) {
+                        ids.remove(channel.channelId());
+                    }
+                }
+            }
+        }
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(channel.channelId());
+        }
+    }
+
+    int size() {
+        return channels.size();
+    }
+
+    /**
+     * 이름 또는 핸들에 검색어가 들어간 채널 (순위 높은 순, 같으면 구독자 많은 순)
+     */
+    List<Match> search(String query, int limit) {
+        String compactQuery = normalizeHandle(query).replace(" ", "");
+        if (compactQuery.isEmpty()) {
+            return List.of();
+        }
+        String wordQuery = ChannelSearchCache.normalize(query);
+
+        List<Match> matches = new ArrayList<>();
+        for (String channelId : candidates(compactQuery)) {
+            IndexedChannel channel = channels.get(channelId);
+            if (channel == null) {
+                continue;
+            }
+            int rank = rank(channel, compactQuery, wordQuery);
+            if (rank > 0) {
+                matches.add(new Match(channelId, rank, channel.subscriberCount()));
+            }
+        }
+
+        matches.sort(Comparator.comparingInt(Match::rank).reversed()
+                .thenComparing(Comparator.comparingLong(Match::subscriberCount).reversed()));
+        return matches.size() > limit ? List.copyOf(matches.subList(0, limit)) : matches;
+    }
+
+    // 검색어의 모든 n-gram을 가진 채널 (가장 짧은 목록부터 교집합)
+    private Set<String> candidates(String compactQuery) {
+        List<Set<String>> lists = new ArrayList<>();
+        for (String gram : queryGrams(compactQuery)) {
+            Set<String> ids = postings.get(gram);
+            if (ids == null) {
+                return Set.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<String> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private int rank(IndexedChannel channel, String compactQuery, String wordQuery) {
+        String compactName = channel.compactName();
+        if (compactName.startsWith(compactQuery) || channel.handle().startsWith(compactQuery)) {
+            return 3;
+        }
+        if (channel.name().startsWith(wordQuery) || channel.name().contains(" " + wordQuery)) {
+            return 2;
+        }
+        if (compactName.contains(compactQuery) || channel.handle().contains(compactQuery)) {
+            return 1;
+        }
+        return 0;
+    }
+
+    private static Set<String> grams(IndexedChannel channel) {
+        Set<String> grams = new HashSet<>();
+        addGrams(channel.compactName(), grams);
+        addGrams(channel.handle(), grams);
+        return grams;
+    }
+
+    private static void addGrams(String text, Set<String> grams) {
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 1 < text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+    }
+
+    // 한 글자면 1-gram, 그 이상이면 2-gram만으로 후보를 좁힌다.
+    private static Set<String> queryGrams(String compactQuery) {
+        if (compactQuery.length() == 1) {
+            return Set.of(compactQuery);
+        }
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 1 < compactQuery.length(); i++) {
+            grams.add(compactQuery.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static String normalizeHandle(String value) {
+        if (value == null || value.isBlank()) {
+            return "";
+        }
+        String normalized = ChannelSearchCache.normalize(value);
+        return normalized.startsWith("@") ? normalized.substring(1) : normalized;
+    }
+}
@@ -0,0 +1,130 @@
+package com.knu.sosuso.capstone.youtube.quota;
+
+import com.knu.sosuso.capstone.config.ApiConfig;
+import com.knu.sosuso.capstone.exception.BusinessException;
+import com.knu.sosuso.capstone.exception.error.QuotaError;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * YouTube API 키 풀
+ * 남은 할당량이 가장 많은 키를 골라 호출을 분산하고,
+ * quotaExceeded / rateLimitExceeded를 받은 키는 그 할당량 기준일이 끝날 때까지 제외한다.
+ */
+@Slf4j
+@Component
+public class ApiKeyPool {
+
+    private final List<String> keys;
+    private final QuotaLedger quotaLedger;
+
+    // 키 -> 제외된 할당량 기준일
+    private final Map<String, LocalDate> ejectedOn = new ConcurrentHashMap<>();
+
+    // 남은 할당량이 같은 키끼리 돌아가며 쓰기 위한 시작 위치
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ApiKeyPool(ApiConfig apiConfig, QuotaLedger quotaLedger, MeterRegistry meterRegistry) {
+        this.keys = apiConfig.allKeys();
+        this.quotaLedger = quotaLedger;
+
+        Gauge.builder("youtube.api.keys.active", this, pool -> pool.activeKeys().size()).register(meterRegistry);
+        for (String key : keys) {
+            String maskedKey = QuotaLedger.maskKey(key);
+            Gauge.builder("youtube.quota.key.used", quotaLedger, ledger -> ledger.usedByKey(key))
+                    .tag("key", maskedKey)
+                    .register(meterRegistry);
+            Gauge.builder("youtube.quota.key.ejected", this, pool -> pool.isEjected(key) ? 1 : 0)
+                    .tag("key", maskedKey)
+                    .register(meterRegistry);
+        }
+        log.info("YouTube API 키 풀 초기화: 키 수={}", keys.size());
+    }
+
+    /**
+     * 이번 요청에 쓸 키 (제외되지 않은 키 중 남은 할당량이 가장 많은 키)
+     */
+    public String acquire() {
+        if (keys.isEmpty()) {
+            throw new IllegalStateException("YouTube API 키가 설정되지 않았습니다");
+        }
+
+        int start = Math.floorMod(cursor.getAndIncrement(), keys.size());
+        String selected = null;
+        long selectedRemaining = -1;
+
+        for (int i = 0; i < keys.size(); i++) {
+            String key = keys.get((start + i) % keys.size());
+            if (isEjected(key)) {
+                continue;
+            }
+            long remaining = quotaLedger.remainingByKey(key);
+            if (remaining > selectedRemaining) {
+                selected = key;
+                selectedRemaining = remaining;
+            }
+        }
+
+        if (selected == null) {
+            log.warn("사용 가능한 YouTube API 키 없음: 키 수={}", keys.size());
+            throw new BusinessException(QuotaError.ALL_KEYS_EXHAUSTED);
+        }
+        return selected;
+    }
+
+    /**
+     * 할당량 초과/요청 제한 응답을 받은 키를 오늘(할당량 기준일) 남은 시간 동안 제외
+     */
+    public void eject(String key, String reason) {
+        LocalDate quotaDay = quotaLedger.quotaDay();
+        if (!quotaDay.equals(ejectedOn.put(key, quotaDay))) {
+            log.warn("YouTube API 키 제외: key={}, reason={}, 사용량={}, 남은 키={}",
+                    QuotaLedger.maskKey(key), reason, quotaLedger.usedByKey(key), activeKeys().size());
+        }
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    /**
+     * 키별 사용 현황 (키는 마스킹)
+     */
+    public List<KeyUsage> usage() {
+        List<KeyUsage> usage = new ArrayList<>();
+        for (String key : keys) {
+            usage.add(new KeyUsage(QuotaLedger.maskKey(key), quotaLedger.usedByKey(key),
+                    quotaLedger.remainingByKey(key), isEjected(key)));
+        }
+        return usage;
+    }
+
+    public record KeyUsage(String key, long used, long remaining, boolean ejected) {
+    }
+
+    private List<String> activeKeys() {
+        return keys.stream().filter(key -> !isEjected(key)).toList();
+    }
+
+    private boolean isEjected(String key) {
+        LocalDate ejectedDay = ejectedOn.get(key);
+        if (ejectedDay == null) {
+            return false;
+        }
+        if (!ejectedDay.equals(quotaLedger.quotaDay())) {
+            // 할당량 기준일이 바뀌면 다시 사용
+            ejectedOn.remove(key, ejectedDay);
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,42 @@
+package com.knu.sosuso.capstone.youtube.quota;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * YouTube API 키별 사용 현황 (/actuator/health의 youtubeKeys 항목)
+ * 모든 키가 제외되면 OUT_OF_SERVICE
+ */
+@Component("youtubeKeys")
+@RequiredArgsConstructor
+public class ApiKeyPoolHealthIndicator implements HealthIndicator {
+
+    private final ApiKeyPool apiKeyPool;
+
+    @Override
+    public Health health() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        int activeKeys = 0;
+
+        for (ApiKeyPool.KeyUsage usage : apiKeyPool.usage()) {
+            if (!usage.ejected()) {
+                activeKeys++;
+            }
+            details.put(usage.key(), Map.of(
+                    "used", usage.used(),
+                    "remaining", usage.remaining(),
+                    "ejected", usage.ejected()));
+        }
+
+        Health.Builder builder = activeKeys > 0 || apiKeyPool.size() == 0 ? Health.up() : Health.outOfService();
+        return builder
+                .withDetail("activeKeys", activeKeys)
+                .withDetails(details)
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.knu.sosuso.capstone.youtube.quota;
+
+/**
+ * 할당량을 사용한 호출 경로
+ */
+public enum QuotaCaller {
+
+    SEARCH,
+    TRENDING,
+    FAVORITES,
+    DETAIL,
+
+    // 호출 경로가 지정되지 않은 경우 (스케줄러 등)
+    SYSTEM
+}
@@ -0,0 +1,60 @@
+package com.knu.sosuso.capstone.youtube.quota;
+
+/**
+ * 현재 스레드의 호출 경로 (할당량 기록용)
+ * 서비스 진입점에서 open()으로 지정하고, 다른 스레드로 넘기는 작업은 wrap()으로 감싼다.
+ */
+public final class QuotaContext {
+
+    private static final ThreadLocal<QuotaCaller> CURRENT = new ThreadLocal<>();
+
+    private QuotaContext() {
+    }
+
+    public static QuotaCaller current() {
+        QuotaCaller caller = CURRENT.get();
+        return caller != null ? caller : QuotaCaller.SYSTEM;
+    }
+
+    /**
+     * 호출 경로 지정 (try-with-resources로 사용, 닫으면 이전 값 복원)
+     */
+    public static Scope open(QuotaCaller caller) {
+        QuotaCaller previous = CURRENT.get();
+        CURRENT.set(caller);
+        return new Scope(previous);
+    }
+
+    /**
+     * 현재 호출 경로를 다른 스레드에서 실행될 작업에 전달
+     */
+    public static Runnable wrap(Runnable task) {
+        QuotaCaller caller = CURRENT.get();
+        if (caller == null) {
+            return task;
+        }
+        return () -> {
+            try (Scope ignored = open(caller)) {
+                task.run();
+            }
+        };
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final QuotaCaller previous;
+
+        private Scope(QuotaCaller previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.knu.sosuso.capstone.youtube.quota;
+
+import com.knu.sosuso.capstone.config.ApiConfig;
+import com.knu.sosuso.capstone.config.QuotaProperties;
+import com.knu.sosuso.capstone.repository.QuotaUsageRepository;
+import com.knu.sosuso.capstone.youtube.client.YouTubeEndpoint;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * YouTube Data API 할당량 장부
+ * 요청마다 엔드포인트 / 호출 경로 / API 키별 사용 단위를 기록하고, 주기적으로 DB의 일일 합계에 더한다.
+ * 사용 비율에 따라 QuotaLevel을 계산하며, 서비스는 이 단계에 맞춰 기능을 줄인다.
+ * 키 풀을 쓰면 키마다 dailyLimit을 가지므로 전체 한도는 dailyLimit x 키 수이다.
+ */
+@Slf4j
+@Component
+public class QuotaLedger {
+
+    private final QuotaUsageRepository quotaUsageRepository;
+    private final QuotaProperties properties;
+    private final ApiConfig apiConfig;
+    private final MeterRegistry meterRegistry;
+    private final ZoneId resetZone;
+
+    // 아직 DB에 반영하지 않은 사용량
+    private final ConcurrentMap<UsageKey, LongAdder> unflushed = new ConcurrentHashMap<>();
+
+    // 오늘 사용량 중 DB에 반영된 부분 (SHARED: 매 flush 때 읽은 모든 노드 합계, LOCAL: 기동 때 읽은 합계 + 이 노드가 반영한 양)
+    private final AtomicLong baselineUnits = new AtomicLong();
+    private final ConcurrentMap<String, AtomicLong> baselineUnitsByKey = new ConcurrentHashMap<>();
+    private volatile LocalDate baselineDate;
+    private volatile QuotaLevel lastLevel = QuotaLevel.NORMAL;
+
+    public QuotaLedger(QuotaUsageRepository quotaUsageRepository, QuotaProperties properties,
+                       ApiConfig apiConfig, MeterRegistry meterRegistry) {
+        this.quotaUsageRepository = quotaUsageRepository;
+        this.properties = properties;
+        this.apiConfig = apiConfig;
+        this.meterRegistry = meterRegistry;
+        this.resetZone = ZoneId.of(properties.getResetZone());
+
+        Gauge.builder("youtube.quota.used", this, QuotaLedger::used).register(meterRegistry);
+        Gauge.builder("youtube.quota.level", this, ledger -> ledger.level().ordinal()).register(meterRegistry);
+    }
+
+    /**
+     * 요청 1회 사용량 기록 (호출 경로는 QuotaContext에서 가져옴)
+     */
+    public void record(YouTubeEndpoint endpoint, String apiKey) {
+        UsageKey key = new UsageKey(today(), endpoint.name(), QuotaContext.current().name(), maskKey(apiKey));
+        unflushed.computeIfAbsent(key, k -> new LongAdder()).add(endpoint.getQuotaCost());
+
+        Counter.builder("youtube.quota.units")
+                .tag("endpoint", key.endpoint())
+                .tag("caller", key.caller())
+                .tag("key", key.apiKey())
+                .register(meterRegistry)
+                .increment(endpoint.getQuotaCost());
+    }
+
+    /**
+     * 오늘 사용한 할당량
+     */
+    public long used() {
+        LocalDate today = today();
+        if (!today.equals(baselineDate)) {
+            resetBaseline(today);
+        }
+
+        long pending = 0;
+        for (Map.Entry<UsageKey, LongAdder> entry : unflushed.entrySet()) {
+            if (entry.getKey().usageDate().equals(today)) {
+                pending += entry.getValue().sum();
+            }
+        }
+        return baselineUnits.get() + pending;
+    }
+
+    public long remaining() {
+        return Math.max(0, capacity() - used());
+    }
+
+    /**
+     * 오늘 전체 한도 (키 수 x dailyLimit)
+     */
+    public long capacity() {
+        return properties.getDailyLimit() * Math.max(1, apiConfig.allKeys().size());
+    }
+
+    /**
+     * 키 하나의 오늘 사용량
+     */
+    public long usedByKey(String apiKey) {
+        LocalDate today = today();
+        if (!today.equals(baselineDate)) {
+            resetBaseline(today);
+        }
+
+        String maskedKey = maskKey(apiKey);
+        long pending = 0;
+        for (Map.Entry<UsageKey, LongAdder> entry : unflushed.entrySet()) {
+            if (entry.getKey().usageDate().equals(today) && entry.getKey().apiKey().equals(maskedKey)) {
+                pending += entry.getValue().sum();
+            }
+        }
+
+        AtomicLong baseline = baselineUnitsByKey.get(maskedKey);
+        return (baseline != null ? baseline.get() : 0) + pending;
+    }
+
+    public long remainingByKey(String apiKey) {
+        return Math.max(0, properties.getDailyLimit() - usedByKey(apiKey));
+    }
+
+    /**
+     * 할당량 기준일 (태평양 시간 자정에 바뀜)
+     */
+    public LocalDate quotaDay() {
+        return today();
+    }
+
+    /**
+     * 현재 할당량 소진 단계
+     */
+    public QuotaLevel level() {
+        double ratio = (double) used() / capacity();
+
+        QuotaLevel level;
+        if (ratio >= properties.getRejectChannelSearchRatio()) {
+            level = QuotaLevel.REJECT_CHANNEL_SEARCH;
+        } else if (ratio >= properties.getSkipCommentRefreshRatio()) {
+            level = QuotaLevel.SKIP_COMMENT_REFRESH;
+        } else if (ratio >= properties.getServeStaleRatio()) {
+            level = QuotaLevel.SERVE_STALE;
+        } else {
+            level = QuotaLevel.NORMAL;
+        }
+
+        if (level != lastLevel) {
+            log.warn("YouTube 할당량 단계 변경: {} -> {}, 사용량={}/{}", lastLevel, level, used(), capacity());
+            lastLevel = level;
+        }
+        return level;
+    }
+
+    public boolean isAtLeast(QuotaLevel level) {
+        return level().isAtLeast(level);
+    }
+
+    /**
+     * 쌓인 사용량을 DB 일일 합계에 반영
+     */
+    @Scheduled(fixedDelayString = "${youtube.quota.flush-interval-ms:10000}")
+    public void flush() {
+        LocalDate today = today();
+
+        for (Map.Entry<UsageKey, LongAdder> entry : unflushed.entrySet()) {
+            UsageKey key = entry.getKey();
+            long delta = entry.getValue().sumThenReset();
+
+            if (delta == 0) {
+                if (!key.usageDate().equals(today)) {
+                    unflushed.remove(key, entry.getValue());
+                }
+                continue;
+            }
+
+            try {
+                quotaUsageRepository.addUnits(key.usageDate(), key.endpoint(), key.caller(), key.apiKey(), delta);
+                if (properties.getMode() == QuotaProperties.Mode.LOCAL && key.usageDate().equals(baselineDate)) {
+                    baselineUnits.addAndGet(delta);
+                    baselineUnitsByKey.computeIfAbsent(key.apiKey(), k -> new AtomicLong()).addAndGet(delta);
+                }
+            } catch (Exception e) {
+                // 다음 주기에 다시 시도
+                entry.getValue().add(delta);
+                log.warn("할당량 사용량 저장 실패: key={}, units={}, error={}", key, delta, e.getMessage());
+            }
+        }
+
+        if (properties.getMode() == QuotaProperties.Mode.SHARED) {
+            loadBaseline(today);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private synchronized void resetBaseline(LocalDate today) {
+        if (today.equals(baselineDate)) {
+            return;
+        }
+        loadBaseline(today);
+    }
+
+    private void loadBaseline(LocalDate today) {
+        try {
+            baselineUnits.set(quotaUsageRepository.sumUnitsByUsageDate(today));
+
+            Map<String, AtomicLong> byKey = new ConcurrentHashMap<>();
+            for (QuotaUsageRepository.ApiKeyUnits usage : quotaUsageRepository.sumUnitsByApiKey(today)) {
+                byKey.put(usage.getApiKey(), new AtomicLong(usage.getUnits() != null ? usage.getUnits() : 0));
+            }
+            baselineUnitsByKey.keySet().retainAll(byKey.keySet());
+            baselineUnitsByKey.putAll(byKey);
+        } catch (Exception e) {
+            log.warn("할당량 사용량 조회 실패: date={}, error={}", today, e.getMessage());
+            if (!today.equals(baselineDate)) {
+                baselineUnits.set(0);
+                baselineUnitsByKey.clear();
+            }
+        }
+        baselineDate = today;
+    }
+
+    private LocalDate today() {
+        return LocalDate.now(resetZone);
+    }
+
+    /**
+     * 로그/DB/메트릭에는 키 전체 대신 끝 4자리만 남김
+     */
+    public static String maskKey(String apiKey) {
+        if (apiKey == null || apiKey.length() <= 4) {
+            return "unknown";
+        }
+        return "***" + apiKey.substring(apiKey.length() - 4);
+    }
+
+    private record UsageKey(LocalDate usageDate, String endpoint, String caller, String apiKey) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.knu.sosuso.capstone.youtube.quota;
+
+/**
+ * 할당량 소진 단계 (뒤로 갈수록 더 많이 제한)
+ */
+public enum QuotaLevel {
+
+    // 제한 없음
+    NORMAL,
+
+    // 1일 지난 데이터도 새로 수집하지 않고 DB 데이터로 응답
+    SERVE_STALE,
+
+    // 댓글 수집 생략 (영상 정보만 응답)
+    SKIP_COMMENT_REFRESH,
+
+    // 채널 검색(search.list, 100단위) 거부
+    REJECT_CHANNEL_SEARCH;
+
+    public boolean isAtLeast(QuotaLevel level) {
+        return compareTo(level) >= 0;
+    }
+}
@@ -0,0 +1,97 @@
+package com.knu.sosuso.capstone.youtube.stub;
+
+import com.knu.sosuso.capstone.config.YouTubeStubProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 녹화한 YouTube 응답 저장소
+ * 요청 파라미터(API 키 제외)를 이름순으로 정렬해 해시한 값을 파일명으로 쓴다.
+ * 같은 파라미터로 요청하면 같은 응답을 재생하며, 페이지 토큰도 파라미터에 포함되므로 녹화 당시의 페이지 순서가 그대로 재현된다.
+ * 일치하는 파일이 없으면 {endpoint}/_default.json을 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class YouTubeFixtureStore {
+
+    private static final String DEFAULT_FIXTURE = "_default.json";
+
+    private final YouTubeStubProperties stubProperties;
+
+    public boolean isRecording() {
+        return stubProperties.isRecord();
+    }
+
+    public Optional<String> find(String endpointPath, Map<String, ?> params) {
+        Path file = fixturePath(endpointPath, params);
+        if (!Files.exists(file)) {
+            file = Paths.get(stubProperties.getFixtureDir(), endpointPath, DEFAULT_FIXTURE);
+        }
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(Files.readString(file, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            log.warn("fixture 읽기 실패: file={}, error={}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 응답 녹화 (녹화 실패는 원래 요청에 영향을 주지 않음)
+     */
+    public void save(String endpointPath, Map<String, ?> params, String body) {
+        if (body == null) {
+            return;
+        }
+
+        Path file = fixturePath(endpointPath, params);
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), "fixture-", ".tmp");
+            Files.writeString(temp, body, StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("fixture 녹화: endpoint={}, file={}", endpointPath, file.getFileName());
+        } catch (IOException e) {
+            log.warn("fixture 녹화 실패: endpoint={}, error={}", endpointPath, e.getMessage());
+        }
+    }
+
+    private Path fixturePath(String endpointPath, Map<String, ?> params) {
+        return Paths.get(stubProperties.getFixtureDir(), endpointPath, fixtureKey(params) + ".json");
+    }
+
+    static String fixtureKey(Map<String, ?> params) {
+        StringBuilder canonical = new StringBuilder();
+        new TreeMap<>(params).forEach((name, value) -> {
+            if (!"key".equals(name)) {
+                canonical.append(name).append('=').append(value).append('&');
+            }
+        });
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
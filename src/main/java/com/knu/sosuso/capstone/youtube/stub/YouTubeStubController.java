@@ -0,0 +1,136 @@
+package com.knu.sosuso.capstone.youtube.stub;
+
+import com.knu.sosuso.capstone.config.YouTubeStubProperties;
+import com.knu.sosuso.capstone.youtube.client.YouTubeEndpoint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 오프라인 부하 테스트용 YouTube Data API 대역 (youtube-stub 프로필에서만 등록)
+ * 녹화된 응답을 재생하며 지연, 오류(403 commentsDisabled / 404 / 503), 할당량 초과를 흉내 낸다.
+ * youtube.api.base-url을 이 컨트롤러 주소로 바꾸면 애플리케이션의 모든 YouTube 호출이 여기로 온다.
+ */
+@Slf4j
+@Profile("youtube-stub")
+@RestController
+@RequestMapping("/youtube-stub")
+@RequiredArgsConstructor
+public class YouTubeStubController {
+
+    // 표준정규분포 99번째 백분위수
+    private static final double Z_99 = 2.326;
+
+    private final YouTubeFixtureStore fixtureStore;
+    private final YouTubeStubProperties stubProperties;
+
+    private final AtomicLong usedQuota = new AtomicLong();
+
+    @GetMapping("/youtube/v3/{endpointPath}")
+    public ResponseEntity<String> serve(@PathVariable String endpointPath,
+                                        @RequestParam Map<String, String> params,
+                                        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
+            throws InterruptedException {
+        YouTubeEndpoint endpoint = Arrays.stream(YouTubeEndpoint.values())
+                .filter(candidate -> candidate.getPath().equals(endpointPath))
+                .findFirst()
+                .orElse(null);
+
+        if (endpoint == null) {
+            return error(HttpStatus.NOT_FOUND, "youtube.api", "notFound", "알 수 없는 엔드포인트: " + endpointPath);
+        }
+
+        Thread.sleep(sampleLatencyMillis());
+
+        if (usedQuota.addAndGet(endpoint.getQuotaCost()) > stubProperties.getDailyQuota()) {
+            return error(HttpStatus.FORBIDDEN, "youtube.quota", "quotaExceeded",
+                    "The request cannot be completed because you have exceeded your quota.");
+        }
+
+        ResponseEntity<String> injected = injectError(endpoint);
+        if (injected != null) {
+            return injected;
+        }
+
+        String body = fixtureStore.find(endpointPath, params).orElse(null);
+        if (body == null) {
+            log.warn("재생할 fixture 없음, 빈 목록 응답: endpoint={}, params={}", endpointPath, params);
+            body = "{\"items\":[]}";
+        }
+
+        String etag = "\"" + Integer.toHexString(body.hashCode()) + "\"";
+        if (etag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8))
+                .eTag(etag)
+                .body(body);
+    }
+
+    /**
+     * 시뮬레이션 할당량 초기화
+     */
+    @PostMapping("/quota/reset")
+    public ResponseEntity<Void> resetQuota() {
+        long used = usedQuota.getAndSet(0);
+        log.info("스텁 할당량 초기화: 사용량={}", used);
+        return ResponseEntity.noContent().build();
+    }
+
+    private ResponseEntity<String> injectError(YouTubeEndpoint endpoint) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        boolean commentEndpoint = endpoint == YouTubeEndpoint.COMMENT_THREADS || endpoint == YouTubeEndpoint.COMMENTS;
+        if (commentEndpoint && random.nextDouble() < stubProperties.getCommentsDisabledRate()) {
+            return error(HttpStatus.FORBIDDEN, "youtube.commentThread", "commentsDisabled",
+                    "The video identified by the videoId parameter has disabled comments.");
+        }
+        if (random.nextDouble() < stubProperties.getNotFoundRate()) {
+            return error(HttpStatus.NOT_FOUND, "youtube." + endpoint.getPath(), "notFound",
+                    "The requested resource could not be found.");
+        }
+        if (random.nextDouble() < stubProperties.getServerErrorRate()) {
+            return error(HttpStatus.SERVICE_UNAVAILABLE, "global", "backendError", "Backend Error");
+        }
+        return null;
+    }
+
+    // 로그정규분포: 중앙값 = e^mu, p99 = e^(mu + 2.326 sigma)
+    private long sampleLatencyMillis() {
+        double median = Math.max(1, stubProperties.getLatencyMedian().toMillis());
+        double p99 = Math.max(median, stubProperties.getLatencyP99().toMillis());
+        double sigma = Math.log(p99 / median) / Z_99;
+
+        return Math.round(median * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+
+    // YouTube Data API 오류 응답 형식
+    private ResponseEntity<String> error(HttpStatus status, String domain, String reason, String message) {
+        String body = String.format(
+                "{\"error\":{\"code\":%d,\"message\":\"%s\",\"errors\":[{\"message\":\"%s\",\"domain\":\"%s\",\"reason\":\"%s\"}]}}",
+                status.value(), message, message, domain, reason);
+
+        return ResponseEntity.status(status)
+                .contentType(new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8))
+                .body(body);
+    }
+}
@@ -0,0 +1,215 @@
+package com.knu.sosuso.capstone.ai.queue;
+
+import com.knu.sosuso.capstone.config.AIWorkQueueProperties;
+import com.knu.sosuso.capstone.exception.BusinessException;
+import com.knu.sosuso.capstone.exception.error.DependencyError;
+import com.knu.sosuso.capstone.youtube.quota.QuotaCaller;
+import com.knu.sosuso.capstone.youtube.quota.QuotaContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.fail;
+
+class AIWorkQueueTest {
+
+    private final AIWorkQueueProperties properties = new AIWorkQueueProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private final CountDownLatch occupantRelease = new CountDownLatch(1);
+
+    private AIWorkQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        properties.setConcurrency(1);
+        properties.setMaxQueued(10);
+        queue = new AIWorkQueue(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        occupantRelease.countDown();
+        callers.shutdownNow();
+        callers.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void servesLanesInPriorityOrder() throws Exception {
+        occupySlot();
+        List<String> order = new CopyOnWriteArrayList<>();
+        List<Future<?>> calls = new ArrayList<>();
+        calls.add(enqueue(QuotaCaller.SYSTEM, WorkLane.BACKGROUND, () -> order.add("background")));
+        calls.add(enqueue(QuotaCaller.TRENDING, WorkLane.FEED, () -> order.add("feed")));
+        calls.add(enqueue(QuotaCaller.DETAIL, WorkLane.INTERACTIVE, () -> order.add("interactive")));
+
+        occupantRelease.countDown();
+        awaitAll(calls);
+
+        assertThat(order).containsExactly("interactive", "feed", "background");
+    }
+
+    @Test
+    void servesCallsInArrivalOrderWithinLane() throws Exception {
+        occupySlot();
+        List<String> order = new CopyOnWriteArrayList<>();
+        List<Future<?>> calls = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            String label = "feed-" + i;
+            calls.add(enqueue(QuotaCaller.FAVORITES, WorkLane.FEED, () -> order.add(label)));
+        }
+
+        occupantRelease.countDown();
+        awaitAll(calls);
+
+        assertThat(order).containsExactly("feed-1", "feed-2", "feed-3", "feed-4");
+    }
+
+    @Test
+    void rejectsWhenMaxQueuedCallsAreWaiting() throws Exception {
+        properties.setMaxQueued(2);
+        occupySlot();
+        enqueue(QuotaCaller.SYSTEM, WorkLane.BACKGROUND, () -> { });
+        enqueue(QuotaCaller.SYSTEM, WorkLane.BACKGROUND, () -> { });
+
+        AtomicBoolean ran = new AtomicBoolean();
+        try (QuotaContext.Scope ignored = QuotaContext.open(QuotaCaller.DETAIL)) {
+            assertThatThrownBy(() -> queue.execute(() -> ran.getAndSet(true)))
+                    .isInstanceOfSatisfying(BusinessException.class,
+                            e -> assertThat(e.getBaseError()).isEqualTo(DependencyError.QUEUE_FULL));
+        }
+
+        assertThat(ran).isFalse();
+        assertThat(meterRegistry.get("ai.queue.rejected").tag("reason", "full").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void expiredWaiterFailsWithoutTakingSlot() throws Exception {
+        properties.setInteractiveDeadline(Duration.ofMillis(100));
+        occupySlot();
+        List<String> order = new CopyOnWriteArrayList<>();
+        Future<?> feed = enqueue(QuotaCaller.TRENDING, WorkLane.FEED, () -> order.add("feed"));
+
+        AtomicBoolean ran = new AtomicBoolean();
+        try (QuotaContext.Scope ignored = QuotaContext.open(QuotaCaller.SEARCH)) {
+            assertThatThrownBy(() -> queue.execute(() -> ran.getAndSet(true)))
+                    .isInstanceOfSatisfying(BusinessException.class,
+                            e -> assertThat(e.getBaseError()).isEqualTo(DependencyError.QUEUE_TIMEOUT));
+        }
+
+        assertThat(ran).isFalse();
+        assertThat(depth(WorkLane.INTERACTIVE)).isZero();
+        assertThat(running()).isEqualTo(1);
+
+        // 만료된 호출은 자리를 차지하지 않으므로 다음 자리는 대기 중인 호출에게 감
+        occupantRelease.countDown();
+        awaitAll(List.of(feed));
+        assertThat(order).containsExactly("feed");
+        assertThat(running()).isZero();
+    }
+
+    @Test
+    void runningNeverExceedsConcurrency() throws Exception {
+        properties.setConcurrency(3);
+        properties.setMaxQueued(100);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+        QuotaCaller[] callerTypes = QuotaCaller.values();
+
+        List<Future<?>> calls = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            QuotaCaller caller = callerTypes[i % callerTypes.length];
+            calls.add(callers.submit(() -> run(caller, () -> {
+                maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                sleep(5);
+                active.decrementAndGet();
+                completed.incrementAndGet();
+            })));
+        }
+        awaitAll(calls);
+
+        assertThat(maxActive.get()).isBetween(1, 3);
+        assertThat(completed.get()).isEqualTo(30);
+        assertThat(running()).isZero();
+    }
+
+    // 자리 하나를 차지하고 occupantRelease까지 반환하지 않음
+    private void occupySlot() {
+        callers.submit(() -> run(QuotaCaller.SYSTEM, () -> await(occupantRelease)));
+        awaitUntil(() -> running() == properties.getConcurrency() ? 1 : 0, 1);
+    }
+
+    // 호출을 대기열에 넣고 실제로 줄을 설 때까지 기다림 (도착 순서를 고정)
+    private Future<?> enqueue(QuotaCaller caller, WorkLane lane, Runnable work) {
+        int before = depth(lane);
+        Future<?> call = callers.submit(() -> run(caller, work));
+        awaitUntil(() -> depth(lane), before + 1);
+        return call;
+    }
+
+    private void run(QuotaCaller caller, Runnable work) {
+        try (QuotaContext.Scope ignored = QuotaContext.open(caller)) {
+            queue.execute(() -> {
+                work.run();
+                return null;
+            });
+        }
+    }
+
+    private int depth(WorkLane lane) {
+        return (int) meterRegistry.get("ai.queue.depth").tag("lane", lane.name()).gauge().value();
+    }
+
+    private int running() {
+        return (int) meterRegistry.get("ai.queue.running").gauge().value();
+    }
+
+    private static void awaitAll(List<Future<?>> calls) throws Exception {
+        for (Future<?> call : calls) {
+            call.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void awaitUntil(IntSupplier value, int expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (value.getAsInt() != expected) {
+            if (System.nanoTime() > deadline) {
+                fail("expected %d but was %d", expected, value.getAsInt());
+            }
+            sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
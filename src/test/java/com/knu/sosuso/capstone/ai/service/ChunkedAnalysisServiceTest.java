@@ -0,0 +1,185 @@
+package com.knu.sosuso.capstone.ai.service;
+
+import com.knu.sosuso.capstone.ai.cache.AnalysisResultCache;
+import com.knu.sosuso.capstone.ai.dto.AIAnalysisRequest;
+import com.knu.sosuso.capstone.ai.dto.AIAnalysisResponse;
+import com.knu.sosuso.capstone.config.AIAnalysisProperties;
+import com.knu.sosuso.capstone.domain.value.SentimentType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChunkedAnalysisServiceTest {
+
+    private final AnalysisService analysisService = mock(AnalysisService.class);
+    private final AnalysisResultCache resultCache = mock(AnalysisResultCache.class);
+    private final AIAnalysisProperties properties = new AIAnalysisProperties();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    private ChunkedAnalysisService service;
+
+    @BeforeEach
+    void setUp() {
+        properties.setChunkSize(2);
+        properties.setChunkConcurrency(3);
+        when(resultCache.isEnabled()).thenReturn(true);
+        when(resultCache.key(any())).thenReturn("key");
+        when(resultCache.get("key")).thenReturn(Optional.empty());
+
+        service = new ChunkedAnalysisService(analysisService, resultCache, properties, new SimpleMeterRegistry(), executor);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void mergesChunksWeightedByCommentCount() {
+        // 청크: [c1, c2] / [c3, c4] / [c5]
+        respond(chunk -> switch (firstId(chunk)) {
+            case "c1" -> response("요약1", false, List.of("가", "나"), chunk, SentimentType.POSITIVE,
+                    Map.of("ko", 1.0), Map.of("positive", 1.0));
+            case "c3" -> response("요약2", true, List.of("나", "다"), chunk, SentimentType.NEGATIVE,
+                    Map.of("en", 1.0), Map.of("negative", 1.0));
+            default -> response("요약3", false, List.of("다"), chunk, SentimentType.OTHER,
+                    Map.of(), Map.of("other", 1.0));
+        });
+
+        AIAnalysisResponse result = service.requestAnalysis("video", comments(5));
+
+        assertThat(result.apiVideoId()).isEqualTo("video");
+        // 가장 큰 청크 중 먼저 나온 청크의 요약
+        assertThat(result.summation()).isEqualTo("요약1");
+        assertThat(result.isWarning()).isTrue();
+        assertThat(result.sentimentComments()).containsExactly(
+                Map.entry("c1", SentimentType.POSITIVE), Map.entry("c2", SentimentType.POSITIVE),
+                Map.entry("c3", SentimentType.NEGATIVE), Map.entry("c4", SentimentType.NEGATIVE),
+                Map.entry("c5", SentimentType.OTHER));
+        // 언어 비율이 비어 있는 청크는 가중치에서 빠짐
+        assertThat(result.languageRatio()).containsOnlyKeys("ko", "en");
+        assertThat(result.languageRatio().get("ko")).isCloseTo(0.5, within(1e-9));
+        assertThat(result.sentimentRatio().get("positive")).isCloseTo(0.4, within(1e-9));
+        assertThat(result.sentimentRatio().get("other")).isCloseTo(0.2, within(1e-9));
+        verify(resultCache).put(eq("key"), eq("video"), eq(5), any());
+    }
+
+    @Test
+    void keywordsOrderedByWeightThenFirstAppearanceRegardlessOfCompletionOrder() {
+        // 가중치: 가=2, 나=4, 다=4, 라=2 (나/다 동률은 먼저 나온 나가 앞)
+        respond(chunk -> {
+            sleepRandomly();
+            return switch (firstId(chunk)) {
+                case "c1" -> response("요약1", false, List.of("가", "나"), chunk, SentimentType.POSITIVE, Map.of(), Map.of());
+                case "c3" -> response("요약2", false, List.of("다", "나"), chunk, SentimentType.POSITIVE, Map.of(), Map.of());
+                default -> response("요약3", false, List.of("다", "라"), chunk, SentimentType.POSITIVE, Map.of(), Map.of());
+            };
+        });
+
+        for (int i = 0; i < 20; i++) {
+            AIAnalysisResponse result = service.requestAnalysis("video", comments(6));
+            assertThat(result.keywords()).containsExactly("나", "다");
+        }
+    }
+
+    @Test
+    void partialFailureUsesSucceededChunksAndIsNotCached() {
+        respond(chunk -> {
+            if (firstId(chunk).equals("c3")) {
+                throw new IllegalStateException("chunk 2 failed");
+            }
+            return response("요약", false, List.of("가"), chunk, SentimentType.POSITIVE, Map.of("ko", 1.0), Map.of());
+        });
+
+        AIAnalysisResponse result = service.requestAnalysis("video", comments(5));
+
+        assertThat(result.sentimentComments()).containsOnlyKeys("c1", "c2", "c5");
+        assertThat(result.languageRatio()).containsExactly(Map.entry("ko", 1.0));
+        verify(resultCache, never()).put(anyString(), anyString(), anyInt(), any());
+    }
+
+    @Test
+    void allChunksFailingRethrowsFirstChunkError() {
+        Map<String, RuntimeException> errors = new LinkedHashMap<>();
+        errors.put("c1", new IllegalStateException("chunk 1 failed"));
+        errors.put("c3", new IllegalStateException("chunk 2 failed"));
+        errors.put("c5", new IllegalStateException("chunk 3 failed"));
+        respond(chunk -> {
+            sleepRandomly();
+            throw errors.get(firstId(chunk));
+        });
+
+        assertThatThrownBy(() -> service.requestAnalysis("video", comments(5)))
+                .isSameAs(errors.get("c1"));
+        verify(resultCache, never()).put(anyString(), anyString(), anyInt(), any());
+    }
+
+    @Test
+    void smallInputIsSentInOneRequest() {
+        respond(chunk -> response("요약", false, List.of("가"), chunk, SentimentType.POSITIVE, Map.of(), Map.of()));
+
+        AIAnalysisResponse result = service.requestAnalysis("video", comments(2));
+
+        assertThat(result.sentimentComments()).containsOnlyKeys("c1", "c2");
+        verify(analysisService).requestAnalysis(any());
+    }
+
+    private void respond(Function<Map<String, String>, AIAnalysisResponse> responder) {
+        when(analysisService.requestAnalysis(any()))
+                .thenAnswer(invocation -> responder.apply(invocation.<AIAnalysisRequest>getArgument(0).comments()));
+    }
+
+    private static Map<String, String> comments(int count) {
+        Map<String, String> comments = new LinkedHashMap<>();
+        for (int i = 1; i <= count; i++) {
+            comments.put("c" + i, "댓글 " + i);
+        }
+        return comments;
+    }
+
+    private static String firstId(Map<String, String> chunk) {
+        return chunk.keySet().iterator().next();
+    }
+
+    private static AIAnalysisResponse response(String summation, boolean isWarning, List<String> keywords,
+                                               Map<String, String> chunk, SentimentType sentimentType,
+                                               Map<String, Double> languageRatio, Map<String, Double> sentimentRatio) {
+        Map<String, SentimentType> sentimentComments = new LinkedHashMap<>();
+        chunk.keySet().forEach(id -> sentimentComments.put(id, sentimentType));
+        return new AIAnalysisResponse(null, "video", summation, isWarning, keywords, sentimentComments,
+                languageRatio, sentimentRatio);
+    }
+
+    // 청크 완료 순서를 섞음
+    private static void sleepRandomly() {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.knu.sosuso.capstone.service;
+
+import com.knu.sosuso.capstone.ai.dto.AIAnalysisResponse;
+import com.knu.sosuso.capstone.domain.value.SentimentType;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class AIAnalysisJobServiceTest {
+
+    private static final AIAnalysisResponse STORED = new AIAnalysisResponse(
+            7L, "video", "저장된 요약", false, List.of("가", "나"),
+            Map.of("old", SentimentType.NEGATIVE), Map.of("ko", 0.75, "en", 0.25), Map.of("negative", 1.0));
+
+    @Test
+    void reusesStoredSentimentsWhenNothingIsNew() {
+        Map<String, SentimentType> reused = sentiments("c1", SentimentType.POSITIVE, "c2", SentimentType.NEGATIVE);
+
+        AIAnalysisResponse merged = AIAnalysisJobService.mergeWithStored(STORED, reused, null, 0);
+
+        assertThat(merged.videoId()).isEqualTo(7L);
+        assertThat(merged.summation()).isEqualTo("저장된 요약");
+        assertThat(merged.keywords()).containsExactly("가", "나");
+        assertThat(merged.isWarning()).isFalse();
+        // 이번 입력에 없는 저장된 댓글 감정은 포함하지 않음
+        assertThat(merged.sentimentComments()).isEqualTo(reused);
+        assertThat(merged.languageRatio()).containsOnly(Map.entry("ko", 0.75), Map.entry("en", 0.25));
+        assertThat(merged.sentimentRatio())
+                .containsOnly(Map.entry("positive", 0.5), Map.entry("negative", 0.5), Map.entry("other", 0.0));
+    }
+
+    @Test
+    void weightsLanguageRatioByReusedAndFreshCounts() {
+        Map<String, SentimentType> reused = sentiments("c1", SentimentType.POSITIVE, "c2", SentimentType.POSITIVE,
+                "c3", SentimentType.NEGATIVE);
+        AIAnalysisResponse fresh = new AIAnalysisResponse(null, "video", "새 요약", true, List.of("다"),
+                Map.of("c4", SentimentType.OTHER), Map.of("en", 1.0), Map.of("other", 1.0));
+
+        AIAnalysisResponse merged = AIAnalysisJobService.mergeWithStored(STORED, reused, fresh, 1);
+
+        assertThat(merged.summation()).isEqualTo("저장된 요약");
+        assertThat(merged.keywords()).containsExactly("가", "나");
+        assertThat(merged.isWarning()).isTrue();
+        assertThat(merged.sentimentComments()).containsOnlyKeys("c1", "c2", "c3", "c4");
+        // ko: 0.75 * 3 / 4, en: (0.25 * 3 + 1.0 * 1) / 4
+        assertThat(merged.languageRatio().get("ko")).isCloseTo(0.5625, within(1e-9));
+        assertThat(merged.languageRatio().get("en")).isCloseTo(0.4375, within(1e-9));
+        assertThat(merged.sentimentRatio().get("positive")).isCloseTo(0.5, within(1e-9));
+        assertThat(merged.sentimentRatio().get("other")).isCloseTo(0.25, within(1e-9));
+    }
+
+    @Test
+    void freshResultWithoutLanguageRatioDoesNotDiluteStoredRatio() {
+        Map<String, SentimentType> reused = sentiments("c1", SentimentType.POSITIVE);
+        AIAnalysisResponse fresh = new AIAnalysisResponse(null, "video", null, false, List.of(),
+                Map.of("c2", SentimentType.NEGATIVE), Map.of(), Map.of());
+
+        AIAnalysisResponse merged = AIAnalysisJobService.mergeWithStored(STORED, reused, fresh, 1);
+
+        assertThat(merged.languageRatio()).containsOnly(Map.entry("ko", 0.75), Map.entry("en", 0.25));
+        assertThat(merged.sentimentComments()).containsOnlyKeys("c1", "c2");
+    }
+
+    @Test
+    void storedResultWithoutLanguageRatioUsesFreshRatioOnly() {
+        AIAnalysisResponse stored = new AIAnalysisResponse(7L, "video", "저장된 요약", false, List.of(),
+                Map.of(), null, Map.of());
+        AIAnalysisResponse fresh = new AIAnalysisResponse(null, "video", null, false, List.of(),
+                Map.of("c2", SentimentType.NEGATIVE), Map.of("ja", 1.0), Map.of());
+
+        AIAnalysisResponse merged = AIAnalysisJobService.mergeWithStored(
+                stored, sentiments("c1", SentimentType.POSITIVE), fresh, 1);
+
+        assertThat(merged.languageRatio()).containsExactly(Map.entry("ja", 1.0));
+    }
+
+    private static Map<String, SentimentType> sentiments(Object... idsAndTypes) {
+        Map<String, SentimentType> sentiments = new LinkedHashMap<>();
+        for (int i = 0; i < idsAndTypes.length; i += 2) {
+            sentiments.put((String) idsAndTypes[i], (SentimentType) idsAndTypes[i + 1]);
+        }
+        return sentiments;
+    }
+}
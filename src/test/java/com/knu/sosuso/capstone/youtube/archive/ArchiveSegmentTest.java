@@ -0,0 +1,135 @@
+package com.knu.sosuso.capstone.youtube.archive;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArchiveSegmentTest {
+
+    private static final ArchiveSegment.Header FIRST =
+            new ArchiveSegment.Header(1_000L, "videos", "v1,v2", "snippet", "");
+    private static final ArchiveSegment.Header SECOND =
+            new ArchiveSegment.Header(2_000L, "commentThreads", "v1", "relevance", "QURTSl9pMl9wYWdlMg");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsRecordsBackAfterSealAndReopen() throws IOException {
+        Path file = dir.resolve("segment-00000001.ytar");
+        ArchiveSegment segment = ArchiveSegment.create(1, file, 4096);
+        int first = segment.append(FIRST, 11, bytes("first-body"));
+        int second = segment.append(SECOND, 22, bytes("한글 본문"));
+        int size = segment.size();
+        segment.seal();
+
+        // 닫은 세그먼트도 그대로 읽을 수 있어야 함
+        assertPayload(segment.readPayload(second), 22, "한글 본문");
+
+        Map<Integer, ArchiveSegment.Header> headers = new LinkedHashMap<>();
+        ArchiveSegment reopened = ArchiveSegment.open(1, file, headers::put);
+
+        assertThat(headers).containsExactly(Map.entry(first, FIRST), Map.entry(second, SECOND));
+        assertThat(reopened.size()).isEqualTo(size);
+        assertThat(reopened.lastFetchedAt()).isEqualTo(2_000L);
+        assertPayload(reopened.readPayload(first), 11, "first-body");
+        assertPayload(reopened.readPayload(second), 22, "한글 본문");
+    }
+
+    @Test
+    void reopenSkipsRecordWithoutMagic() throws IOException {
+        Path file = dir.resolve("segment-00000001.ytar");
+        ArchiveSegment segment = ArchiveSegment.create(1, file, 4096);
+        int first = segment.append(FIRST, 11, bytes("first-body"));
+        int second = segment.append(SECOND, 22, bytes("second-body"));
+        segment.seal();
+
+        // magic을 쓰기 전에 멈춘 레코드
+        overwrite(file, second, ByteBuffer.allocate(Integer.BYTES).putInt(0).flip());
+
+        List<Integer> offsets = new ArrayList<>();
+        ArchiveSegment reopened = ArchiveSegment.open(1, file, (offset, header) -> offsets.add(offset));
+
+        assertThat(offsets).containsExactly(first);
+        assertThat(reopened.size()).isEqualTo(second);
+        assertThat(reopened.lastFetchedAt()).isEqualTo(1_000L);
+    }
+
+    @Test
+    void reopenSkipsRecordRunningPastEndOfFile() throws IOException {
+        Path file = dir.resolve("segment-00000001.ytar");
+        ArchiveSegment segment = ArchiveSegment.create(1, file, 4096);
+        int first = segment.append(FIRST, 11, bytes("first-body"));
+        int end = segment.size();
+        segment.seal();
+
+        overwrite(file, end, ByteBuffer.allocate(Integer.BYTES * 2)
+                .putInt(ArchiveSegment.RECORD_MAGIC).putInt(1 << 20).flip());
+
+        List<Integer> offsets = new ArrayList<>();
+        ArchiveSegment reopened = ArchiveSegment.open(1, file, (offset, header) -> offsets.add(offset));
+
+        assertThat(offsets).containsExactly(first);
+        assertThat(reopened.size()).isEqualTo(end);
+    }
+
+    @Test
+    void appendReturnsMinusOneWhenFullOrSealed() throws IOException {
+        ArchiveSegment segment = ArchiveSegment.create(1, dir.resolve("segment-00000001.ytar"), 128);
+
+        assertThat(segment.append(FIRST, 200, new byte[200])).isEqualTo(-1);
+        assertThat(segment.size()).isZero();
+
+        assertThat(segment.append(FIRST, 3, bytes("abc"))).isZero();
+        segment.seal();
+        assertThat(segment.append(FIRST, 3, bytes("abc"))).isEqualTo(-1);
+    }
+
+    @Test
+    void rejectsHeaderStringLongerThanLengthField() throws IOException {
+        ArchiveSegment segment = ArchiveSegment.create(1, dir.resolve("segment-00000001.ytar"), 256 * 1024);
+        String tooLong = "a".repeat(ArchiveSegment.MAX_STRING_BYTES + 1);
+
+        assertThatThrownBy(() -> segment.append(new ArchiveSegment.Header(1L, "videos", tooLong, "", ""), 3, bytes("abc")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(segment.size()).isZero();
+
+        String longest = "a".repeat(ArchiveSegment.MAX_STRING_BYTES);
+        ArchiveSegment.Header header = new ArchiveSegment.Header(1L, "videos", longest, "", "");
+        int offset = segment.append(header, 3, bytes("abc"));
+        segment.seal();
+
+        List<ArchiveSegment.Header> headers = new ArrayList<>();
+        ArchiveSegment.open(1, dir.resolve("segment-00000001.ytar"), (o, h) -> headers.add(h));
+        assertThat(offset).isZero();
+        assertThat(headers).containsExactly(header);
+    }
+
+    private static void assertPayload(ArchiveSegment.Payload payload, int rawLength, String compressed) {
+        assertThat(payload.rawLength()).isEqualTo(rawLength);
+        assertThat(new String(payload.compressed(), StandardCharsets.UTF_8)).isEqualTo(compressed);
+    }
+
+    private static void overwrite(Path file, int offset, ByteBuffer bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(bytes, offset);
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
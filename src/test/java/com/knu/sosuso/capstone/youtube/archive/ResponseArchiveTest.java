@@ -0,0 +1,138 @@
+package com.knu.sosuso.capstone.youtube.archive;
+
+import com.knu.sosuso.capstone.config.ResponseArchiveProperties;
+import com.knu.sosuso.capstone.youtube.client.YouTubeEndpoint;
+import com.knu.sosuso.capstone.youtube.client.YouTubeRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseArchiveTest {
+
+    @TempDir
+    Path dir;
+
+    private final ResponseArchiveProperties properties = new ResponseArchiveProperties();
+    private final Random random = new Random(42);
+
+    @BeforeEach
+    void setUp() {
+        properties.setEnabled(true);
+        properties.setDir(dir.toString());
+        // 압축이 거의 안 되는 1.5KB 본문 기준 세그먼트당 2건
+        properties.setSegmentSize(DataSize.ofKilobytes(4));
+    }
+
+    @Test
+    void rollsSegmentsAndReadsLatestAfterReopen() throws IOException {
+        ResponseArchive archive = open();
+        byte[] older = body();
+        byte[] other = body();
+        byte[] latest = body();
+        archive.append(videos("v1"), older);
+        archive.append(videos("v2"), other);
+        archive.append(videos("v1"), latest);
+        archive.close();
+
+        assertThat(segmentFiles()).hasSize(2);
+
+        ResponseArchive reopened = open();
+        assertThat(reopened.latest(YouTubeEndpoint.VIDEOS, "v1", "snippet", null))
+                .hasValueSatisfying(response -> assertThat(response.body()).isEqualTo(latest));
+        assertThat(reopened.latest(YouTubeEndpoint.VIDEOS, "v2", "snippet", null))
+                .hasValueSatisfying(response -> assertThat(response.body()).isEqualTo(other));
+
+        // 다시 연 뒤에는 기존 세그먼트에 이어 쓰지 않고 새 세그먼트를 만듦
+        byte[] afterReopen = body();
+        reopened.append(videos("v3"), afterReopen);
+        assertThat(segmentFiles()).hasSize(3);
+        assertThat(reopened.latest(YouTubeEndpoint.VIDEOS, "v3", "snippet", null))
+                .hasValueSatisfying(response -> assertThat(response.body()).isEqualTo(afterReopen));
+    }
+
+    @Test
+    void indexesMultiIdResponseUnderEachId() throws IOException {
+        ResponseArchive archive = open();
+        byte[] body = body();
+        archive.append(videos("v1,v2"), body);
+
+        assertThat(archive.latest(YouTubeEndpoint.VIDEOS, "v1", "snippet", null)).isPresent();
+        assertThat(archive.latest(YouTubeEndpoint.VIDEOS, "v2", "snippet", null))
+                .hasValueSatisfying(response -> assertThat(response.body()).isEqualTo(body));
+        assertThat(archive.latest(YouTubeEndpoint.VIDEOS, "v1", "statistics", null)).isEmpty();
+    }
+
+    @Test
+    void purgeDeletesOldSegmentsButKeepsActiveOne() throws IOException {
+        ResponseArchive archive = open();
+        for (int i = 1; i <= 5; i++) {
+            archive.append(videos("v" + i), body());
+        }
+        assertThat(segmentFiles()).hasSize(3);
+
+        properties.setMaxTotalSize(DataSize.ofBytes(1));
+        archive.purgeExpired();
+
+        assertThat(segmentFiles()).containsExactly(dir.resolve("segment-00000003.ytar"));
+        assertThat(archive.latest(YouTubeEndpoint.VIDEOS, "v1", "snippet", null)).isEmpty();
+        assertThat(archive.latest(YouTubeEndpoint.VIDEOS, "v4", "snippet", null)).isEmpty();
+        assertThat(archive.latest(YouTubeEndpoint.VIDEOS, "v5", "snippet", null)).isPresent();
+    }
+
+    @Test
+    void skipsResponseWhoseHeaderDoesNotFit() throws IOException {
+        ResponseArchive archive = open();
+        String ids = "v".repeat(ArchiveSegment.MAX_STRING_BYTES + 1);
+
+        archive.append(videos(ids), body());
+
+        assertThat(archive.latest(YouTubeEndpoint.VIDEOS, ids, "snippet", null)).isEmpty();
+    }
+
+    @Test
+    void skipsStrayFilesWithSegmentPrefixOnOpen() throws IOException {
+        Files.write(dir.resolve("segment-backup.ytar"), new byte[16]);
+        Files.write(dir.resolve("segment-.ytar"), new byte[16]);
+
+        ResponseArchive archive = open();
+        byte[] body = body();
+        archive.append(videos("v1"), body);
+
+        assertThat(dir.resolve("segment-00000001.ytar")).exists();
+        assertThat(archive.latest(YouTubeEndpoint.VIDEOS, "v1", "snippet", null))
+                .hasValueSatisfying(response -> assertThat(response.body()).isEqualTo(body));
+    }
+
+    private ResponseArchive open() throws IOException {
+        ResponseArchive archive = new ResponseArchive(properties, new SimpleMeterRegistry());
+        archive.open();
+        return archive;
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private byte[] body() {
+        byte[] body = new byte[1536];
+        random.nextBytes(body);
+        return body;
+    }
+
+    private static YouTubeRequest videos(String id) {
+        return YouTubeRequest.of(YouTubeEndpoint.VIDEOS).param("id", id).param("part", "snippet");
+    }
+}
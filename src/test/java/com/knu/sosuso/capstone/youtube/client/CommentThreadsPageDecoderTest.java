@@ -0,0 +1,120 @@
+package com.knu.sosuso.capstone.youtube.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knu.sosuso.capstone.dto.response.CommentApiResponse.CommentData;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommentThreadsPageDecoderTest {
+
+    private final CommentThreadsPageDecoder decoder = new CommentThreadsPageDecoder(new ObjectMapper());
+
+    @Test
+    void decodesThreadsWhenTokenComesBeforeItems() throws IOException {
+        List<String> tokens = new ArrayList<>();
+
+        CommentThreadsPage page = decoder.decode(fixture("token-before-items.json"), tokens::add);
+
+        assertThat(tokens).containsExactly("QURTSl9pMl9wYWdlMg");
+        assertThat(page.nextPageToken()).isEqualTo("QURTSl9pMl9wYWdlMg");
+        assertThat(page.comments()).containsExactly(
+                new CommentData("UgzComment1", "@viewer1", "1:23 여기 최고", 42, null, "2025-05-01T12:00:00Z", null),
+                new CommentData("UgzComment2", "@viewer2", "좋아요", 0, null, "2025-05-02T08:30:00Z", null)
+        );
+        // 답글이 없는 스레드는 기록하지 않음
+        assertThat(page.replyCounts()).containsExactly(Map.entry("UgzComment1", 7));
+    }
+
+    @Test
+    void passesTokenToListenerBeforeItemsAreRead() {
+        String body = read("token-before-items.json");
+        // items 중간에서 끊긴 응답: 디코딩은 실패해도 토큰은 이미 전달되어 있어야 함
+        String truncated = body.substring(0, body.indexOf("\"items\"") + 40);
+        List<String> tokens = new ArrayList<>();
+
+        assertThatThrownBy(() -> decoder.decode(stream(truncated), tokens::add))
+                .isInstanceOf(IOException.class);
+        assertThat(tokens).containsExactly("QURTSl9pMl9wYWdlMg");
+    }
+
+    @Test
+    void decodesThreadsWhenTokenComesAfterItems() throws IOException {
+        List<String> tokens = new ArrayList<>();
+
+        CommentThreadsPage page = decoder.decode(fixture("token-after-items.json"), tokens::add);
+
+        assertThat(tokens).containsExactly("QURTSl9pMl9wYWdlMw");
+        assertThat(page.nextPageToken()).isEqualTo("QURTSl9pMl9wYWdlMw");
+        assertThat(page.comments()).extracting(CommentData::id).containsExactly("UgzComment3");
+        // totalReplyCount가 topLevelComment 뒤에 와도 집계
+        assertThat(page.replyCounts()).containsExactly(Map.entry("UgzComment3", 2));
+    }
+
+    @Test
+    void lastPageHasNoTokenAndDoesNotNotifyListener() throws IOException {
+        List<String> tokens = new ArrayList<>();
+
+        CommentThreadsPage page = decoder.decode(fixture("last-page.json"), tokens::add);
+
+        assertThat(tokens).isEmpty();
+        assertThat(page.nextPageToken()).isNull();
+        assertThat(page.comments()).extracting(CommentData::commentText).containsExactly("마지막 페이지");
+        assertThat(page.replyCounts()).isEmpty();
+    }
+
+    @Test
+    void emptyItemsDecodeToEmptyPage() throws IOException {
+        CommentThreadsPage page = decoder.decode(fixture("empty-items.json"));
+
+        assertThat(page.comments()).isEmpty();
+        assertThat(page.nextPageToken()).isNull();
+        assertThat(page.replyCounts()).isEmpty();
+    }
+
+    @Test
+    void nonObjectBodyDecodesToEmptyPage() throws IOException {
+        CommentThreadsPage page = decoder.decode(stream("[]"));
+
+        assertThat(page.comments()).isEmpty();
+        assertThat(page.nextPageToken()).isNull();
+    }
+
+    @Test
+    void decodesRepliesWithParentIdAndSkipsCommentsWithoutSnippet() throws IOException {
+        CommentThreadsPage page = decoder.decodeReplies(fixture("replies.json"), "UgzComment1");
+
+        assertThat(page.nextPageToken()).isEqualTo("cmVwbGllc19wYWdlMg");
+        assertThat(page.comments()).containsExactly(
+                new CommentData("UgzComment1.reply1", "@replier", "동의합니다", 5, null, "2025-05-01T13:00:00Z",
+                        "UgzComment1")
+        );
+        assertThat(page.replyCounts()).isEmpty();
+    }
+
+    private static InputStream fixture(String name) {
+        return stream(read(name));
+    }
+
+    private static String read(String name) {
+        try (InputStream in = CommentThreadsPageDecoderTest.class.getResourceAsStream("/youtube/commentThreads/" + name)) {
+            assertThat(in).as("fixture %s", name).isNotNull();
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}